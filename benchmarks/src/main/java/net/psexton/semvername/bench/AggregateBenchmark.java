@@ -0,0 +1,96 @@
+/*
+ * AggregateBenchmark.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 7:20:12 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername.bench;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import net.psexton.semvername.SemanticVersionName;
+import net.psexton.semvername.VersionCollectors;
+import net.psexton.semvername.VersionLines;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latest per (name, major) over a corpus repeated out to a million
+ * semvernames, with groupingBy + maxBy against VersionCollectors, in
+ * sequential and parallel streams.
+ * @author PSexton
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class AggregateBenchmark {
+    private static final int SIZE = 1 << 20;
+
+    @Param({"SHORT", "PRERELEASE"})
+    public Corpus corpus;
+
+    private List<SemanticVersionName> names;
+
+    @Setup
+    public void setup() {
+        SemanticVersionName[] sample = Samples.names(corpus);
+        SemanticVersionName[] repeated = new SemanticVersionName[SIZE];
+        for(int i = 0; i < SIZE; i++)
+            repeated[i] = sample[i & (Corpus.SIZE - 1)];
+        names = Arrays.asList(repeated);
+    }
+
+    @Benchmark
+    public Map<String, Map<Integer, Optional<SemanticVersionName>>> groupingBy() {
+        return names.stream().collect(Collectors.groupingBy(SemanticVersionName::getName,
+                Collectors.groupingBy(name -> name.getSemver().major(), Collectors.maxBy(SemanticVersionName::compareTo))));
+    }
+
+    @Benchmark
+    public Map<String, Map<Integer, Optional<SemanticVersionName>>> groupingByParallel() {
+        return names.parallelStream().collect(Collectors.groupingBy(SemanticVersionName::getName,
+                Collectors.groupingBy(name -> name.getSemver().major(), Collectors.maxBy(SemanticVersionName::compareTo))));
+    }
+
+    @Benchmark
+    public VersionLines versionCollectors() {
+        return names.stream().collect(VersionCollectors.toVersionLines());
+    }
+
+    @Benchmark
+    public VersionLines versionCollectorsParallel() {
+        return names.parallelStream().collect(VersionCollectors.toVersionLines());
+    }
+
+    @Benchmark
+    public VersionLines parallelSummarize() {
+        return VersionCollectors.parallelSummarize(names.spliterator());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * CodecBenchmark.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 10:25:51 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import net.psexton.semvername.SemanticVersionName;
+import net.psexton.semvername.VersionReader;
+import net.psexton.semvername.VersionWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Round-tripping a whole corpus through VersionWriter/VersionReader
+ * against writing toString() lines and parsing them back with valueOf.
+ * @author PSexton
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    @Param({"SHORT", "LONG", "PRERELEASE"})
+    public Corpus corpus;
+
+    private SemanticVersionName[] names;
+    private byte[] binary;
+    private byte[] text;
+    private final ByteArrayOutputStream sink = new ByteArrayOutputStream(1 << 16);
+
+    @Setup
+    public void setup() throws IOException {
+        names = Samples.names(corpus);
+        binary = encode(true);
+        text = encodeText();
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() throws IOException {
+        return encode(true);
+    }
+
+    @Benchmark
+    public byte[] encodeBinaryNoDictionary() throws IOException {
+        return encode(false);
+    }
+
+    private byte[] encode(boolean useDictionary) throws IOException {
+        sink.reset();
+        VersionWriter writer = new VersionWriter(new DataOutputStream(sink), useDictionary);
+        for(SemanticVersionName name : names)
+            writer.write(name);
+        writer.flush();
+        return sink.toByteArray();
+    }
+
+    @Benchmark
+    public void decodeBinary(Blackhole blackhole) throws IOException {
+        VersionReader reader = new VersionReader(ByteBuffer.wrap(binary));
+        for(int i = 0; i < names.length; i++)
+            blackhole.consume(reader.readName());
+    }
+
+    @Benchmark
+    public byte[] encodeText() {
+        StringBuilder sb = new StringBuilder(names.length * 24);
+        for(SemanticVersionName name : names)
+            name.appendTo(sb).append('\n');
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public void decodeText(Blackhole blackhole) {
+        String all = new String(text, StandardCharsets.US_ASCII);
+        int start = 0;
+        for(int end = all.indexOf('\n'); end >= 0; end = all.indexOf('\n', start)) {
+            blackhole.consume(SemanticVersionName.valueOf(all, start, end));
+            start = end + 1;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * CompareBenchmark.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 11:04:18 AM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername.bench;
+
+import java.util.concurrent.TimeUnit;
+import net.psexton.semvername.ParseResult;
+import net.psexton.semvername.SemanticVersion;
+import net.psexton.semvername.SemanticVersion2;
+import net.psexton.semvername.SemanticVersionName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * compareTo and isCompatiblyGreaterThan on neighbouring corpus entries.
+ * The SemanticVersion2 cases use the same versions, dropping the
+ * prerelease from the few that 2.0.0 rejects.
+ * @author PSexton
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CompareBenchmark {
+
+    @Param({"SHORT", "LONG", "PRERELEASE"})
+    public Corpus corpus;
+
+    private SemanticVersion[] versions;
+    private SemanticVersionName[] names;
+    private SemanticVersion2[] versions2;
+    private int index;
+
+    @Setup
+    public void setup() {
+        versions = Samples.versions(corpus);
+        names = Samples.names(corpus);
+        versions2 = new SemanticVersion2[versions.length];
+        for(int i = 0; i < versions.length; i++) {
+            ParseResult<SemanticVersion2> result = SemanticVersion2.tryParse(versions[i].toString());
+            versions2[i] = result.isValid() ? result.getValue()
+                    : SemanticVersion2.of(versions[i].major(), versions[i].minor(), versions[i].patch());
+        }
+    }
+
+    @Benchmark
+    public int semanticVersionCompareTo() {
+        int i = index++;
+        return versions[i & (Corpus.SIZE - 1)].compareTo(versions[(i + 1) & (Corpus.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public int semanticVersion2CompareTo() {
+        int i = index++;
+        return versions2[i & (Corpus.SIZE - 1)].compareTo(versions2[(i + 1) & (Corpus.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public int semanticVersionNameCompareTo() {
+        int i = index++;
+        return names[i & (Corpus.SIZE - 1)].compareTo(names[(i + 1) & (Corpus.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public boolean semanticVersionCgt() {
+        int i = index++;
+        return versions[i & (Corpus.SIZE - 1)].cgt(versions[(i + 1) & (Corpus.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public boolean semanticVersionNameCgt() {
+        int i = index++;
+        return names[i & (Corpus.SIZE - 1)].cgt(names[(i + 1) & (Corpus.SIZE - 1)]);
+    }
+}
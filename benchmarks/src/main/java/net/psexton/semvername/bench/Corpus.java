@@ -0,0 +1,102 @@
+/*
+ * Corpus.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 10:31:07 AM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername.bench;
+
+import java.util.Random;
+
+/**
+ * Deterministic input corpora for the benchmarks.
+ * Every corpus is generated from a fixed seed so runs are comparable
+ * across releases.
+ * @author PSexton
+ */
+public enum Corpus {
+    /** Short names, no prerelease, e.g. "core-2.4.1" */
+    SHORT(0.0, 0.0, 1),
+    /** Long hyphenated names, no prerelease, e.g. "com-example-platform-core-12.40.113" */
+    LONG(0.0, 0.0, 4),
+    /** Short names, every other entry with a prerelease */
+    PRERELEASE(0.5, 0.0, 1),
+    /** Listing scrape: mixed lengths and prereleases, 40% of entries invalid */
+    MIXED_INVALID(0.3, 0.4, 3);
+
+    /** Number of entries in each corpus; a power of two so callers can mask indexes */
+    public static final int SIZE = 4096;
+
+    private static final String[] WORDS = {"core", "lib", "api", "billing", "service", "platform",
+        "com", "example", "util", "client", "server", "ui", "data", "io", "net", "auth"};
+    private static final String[] PRERELEASES = {"alpha", "beta", "beta2", "rc1", "rc2", "SNAPSHOT", "M3", "pre-1"};
+    private static final String[] BREAKAGES = {"%s.jar", "%s.1", "v%s", "%s-", "%s-rc.1", "release notes for %s", ""};
+
+    private final double prereleaseRate;
+    private final double invalidRate;
+    private final int maxWords;
+
+    private Corpus(double prereleaseRate, double invalidRate, int maxWords) {
+        this.prereleaseRate = prereleaseRate;
+        this.invalidRate = invalidRate;
+        this.maxWords = maxWords;
+    }
+
+    /**
+     * @return SIZE semvername strings, e.g. "core-lib-2.4.1-rc1"
+     */
+    public String[] names() {
+        Random random = new Random(ordinal() * 31 + 7);
+        String[] names = new String[SIZE];
+        for(int i = 0; i < SIZE; i++) {
+            StringBuilder sb = new StringBuilder();
+            int words = maxWords == 1 ? 1 : 1 + random.nextInt(maxWords);
+            for(int w = 0; w < words; w++) {
+                if(w > 0)
+                    sb.append('-');
+                sb.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            sb.append('-').append(version(random));
+            String name = sb.toString();
+            if(random.nextDouble() < invalidRate)
+                name = String.format(BREAKAGES[random.nextInt(BREAKAGES.length)], name);
+            names[i] = name;
+        }
+        return names;
+    }
+
+    /**
+     * @return SIZE semver strings, e.g. "2.4.1-rc1"
+     */
+    public String[] versions() {
+        Random random = new Random(ordinal() * 31 + 11);
+        String[] versions = new String[SIZE];
+        for(int i = 0; i < SIZE; i++) {
+            String version = version(random);
+            if(random.nextDouble() < invalidRate)
+                version = String.format(BREAKAGES[random.nextInt(BREAKAGES.length)], version);
+            versions[i] = version;
+        }
+        return versions;
+    }
+
+    private String version(Random random) {
+        // Long names come from catalogs with larger version numbers
+        int scale = maxWords > 1 ? 200 : 20;
+        String version = random.nextInt(scale / 4) + "." + random.nextInt(scale) + "." + random.nextInt(scale * 5);
+        if(random.nextDouble() < prereleaseRate)
+            version += "-" + PRERELEASES[random.nextInt(PRERELEASES.length)];
+        return version;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * ExtractBenchmark.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 8:57:31 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername.bench;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.psexton.semvername.SemanticVersionName;
+import net.psexton.semvername.VersionExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Pulling semvernames out of about 1 MB of log-like text, with a regex and
+ * valueOf on each hit against VersionExtractor, parsing every match.
+ * @author PSexton
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ExtractBenchmark {
+    private static final int TEXT_BYTES = 1 << 20;
+    private static final Pattern PATTERN = Pattern.compile(
+            "(?<![\\w-])[\\w-]+-\\d+\\.\\d+\\.\\d+(?:-[a-zA-Z0-9-]++)?+(?![\\w-])");
+
+    @Param({"SHORT", "PRERELEASE"})
+    public Corpus corpus;
+
+    private String text;
+    private ByteBuffer bytes;
+    private final VersionExtractor extractor = new VersionExtractor();
+
+    @Setup
+    public void setup() {
+        SemanticVersionName[] names = Samples.names(corpus);
+        StringBuilder sb = new StringBuilder(TEXT_BYTES + 128);
+        for(int i = 0; sb.length() < TEXT_BYTES; i++) {
+            sb.append("2026-10-18T12:00:").append(i % 60).append(" INFO fetched https://repo.example.com/releases/")
+                    .append(names[i & (Corpus.SIZE - 1)]).append(".jar in ").append(i % 997).append(" ms\n");
+        }
+        text = sb.toString();
+        bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        Matcher matcher = PATTERN.matcher(text);
+        while(matcher.find())
+            blackhole.consume(SemanticVersionName.valueOf(text, matcher.start(), matcher.end()));
+    }
+
+    @Benchmark
+    public void extractString(Blackhole blackhole) {
+        extractor.extract(text, (chars, start, end, offset) -> blackhole.consume(SemanticVersionName.valueOf(chars, start, end)));
+    }
+
+    @Benchmark
+    public void extractBytes(Blackhole blackhole) {
+        extractor.extract(bytes, (chars, start, end, offset) -> blackhole.consume(SemanticVersionName.valueOf(chars, start, end)));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * ObjectMethodsBenchmark.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 11:12:33 AM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername.bench;
+
+import java.util.concurrent.TimeUnit;
+import net.psexton.semvername.SemanticVersion;
+import net.psexton.semvername.SemanticVersionName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * hashCode, equals, toString, and the allocation-free renderings.
+ * @author PSexton
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ObjectMethodsBenchmark {
+
+    @Param({"SHORT", "LONG", "PRERELEASE"})
+    public Corpus corpus;
+
+    private SemanticVersion[] versions;
+    private SemanticVersionName[] names;
+    private final StringBuilder sb = new StringBuilder(64);
+    private final byte[] bytes = new byte[64];
+    private int index;
+
+    @Setup
+    public void setup() {
+        versions = Samples.versions(corpus);
+        names = Samples.names(corpus);
+    }
+
+    @Benchmark
+    public int semanticVersionHashCode() {
+        return versions[index++ & (Corpus.SIZE - 1)].hashCode();
+    }
+
+    @Benchmark
+    public int semanticVersionNameHashCode() {
+        return names[index++ & (Corpus.SIZE - 1)].hashCode();
+    }
+
+    @Benchmark
+    public boolean semanticVersionNameEquals() {
+        int i = index++;
+        return names[i & (Corpus.SIZE - 1)].equals(names[(i + 1) & (Corpus.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public String semanticVersionToString() {
+        return versions[index++ & (Corpus.SIZE - 1)].toString();
+    }
+
+    @Benchmark
+    public String semanticVersionNameToString() {
+        return names[index++ & (Corpus.SIZE - 1)].toString();
+    }
+
+    @Benchmark
+    public int semanticVersionNameAppendTo() {
+        sb.setLength(0);
+        return names[index++ & (Corpus.SIZE - 1)].appendTo(sb).length();
+    }
+
+    @Benchmark
+    public int semanticVersionNameWriteAscii() {
+        return names[index++ & (Corpus.SIZE - 1)].writeAscii(bytes, 0);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * ParseBenchmark.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 10:39:26 AM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import net.psexton.semvername.SemanticVersion;
+import net.psexton.semvername.SemanticVersionName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing throughput of SemanticVersion.valueOf and SemanticVersionName.valueOf.
+ * Invalid entries are counted as parses too; the exception is returned so
+ * its cost is not optimized away.
+ * @author PSexton
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ParseBenchmark {
+
+    @Param({"SHORT", "LONG", "PRERELEASE", "MIXED_INVALID"})
+    public Corpus corpus;
+
+    private String[] names;
+    private String[] versions;
+    private byte[][] nameBytes;
+    private int index;
+
+    @Setup
+    public void setup() {
+        names = corpus.names();
+        versions = corpus.versions();
+        nameBytes = new byte[names.length][];
+        for(int i = 0; i < names.length; i++)
+            nameBytes[i] = names[i].getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object semanticVersionValueOf() {
+        String s = versions[index++ & (Corpus.SIZE - 1)];
+        try {
+            return SemanticVersion.valueOf(s);
+        }
+        catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object semanticVersionNameValueOf() {
+        String s = names[index++ & (Corpus.SIZE - 1)];
+        try {
+            return SemanticVersionName.valueOf(s);
+        }
+        catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object semanticVersionNameValueOfBytes() {
+        byte[] bytes = nameBytes[index++ & (Corpus.SIZE - 1)];
+        try {
+            return SemanticVersionName.valueOf(bytes, 0, bytes.length);
+        }
+        catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object semanticVersionTryParse() {
+        return SemanticVersion.tryParse(versions[index++ & (Corpus.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public Object semanticVersionNameTryParse() {
+        return SemanticVersionName.tryParse(names[index++ & (Corpus.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public Object semanticVersionNameCachedValueOf() {
+        String s = names[index++ & (Corpus.SIZE - 1)];
+        try {
+            return SemanticVersionName.cachedValueOf(s);
+        }
+        catch(IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
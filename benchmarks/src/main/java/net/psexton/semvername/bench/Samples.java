@@ -0,0 +1,71 @@
+/*
+ * Samples.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 10:55:40 AM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.psexton.semvername.SemanticVersion;
+import net.psexton.semvername.SemanticVersionName;
+
+/**
+ * Parsed, valid-only views of a Corpus, for benchmarks of everything
+ * other than parsing.
+ * @author PSexton
+ */
+final class Samples {
+
+    private Samples() {
+    }
+
+    static SemanticVersion[] versions(Corpus corpus) {
+        List<SemanticVersion> parsed = new ArrayList<>();
+        for(String s : corpus.versions()) {
+            try {
+                parsed.add(SemanticVersion.valueOf(s));
+            }
+            catch(IllegalArgumentException e) {
+                // Invalid entries are only interesting to ParseBenchmark
+            }
+        }
+        return fill(parsed).toArray(new SemanticVersion[Corpus.SIZE]);
+    }
+
+    static SemanticVersionName[] names(Corpus corpus) {
+        List<SemanticVersionName> parsed = new ArrayList<>();
+        for(String s : corpus.names()) {
+            try {
+                parsed.add(SemanticVersionName.valueOf(s));
+            }
+            catch(IllegalArgumentException e) {
+                // Invalid entries are only interesting to ParseBenchmark
+            }
+        }
+        return fill(parsed).toArray(new SemanticVersionName[Corpus.SIZE]);
+    }
+
+    /**
+     * Repeats the valid entries until there are Corpus.SIZE of them, so
+     * benchmarks can keep masking their index.
+     */
+    private static <T> List<T> fill(List<T> parsed) {
+        int valid = parsed.size();
+        for(int i = 0; parsed.size() < Corpus.SIZE; i++)
+            parsed.add(parsed.get(i % valid));
+        return parsed;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * SortBenchmark.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 6:02:55 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername.bench;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import net.psexton.semvername.NameTable;
+import net.psexton.semvername.SemanticVersion;
+import net.psexton.semvername.SemanticVersionName;
+import net.psexton.semvername.VersionSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * VersionSort against Arrays.sort and Arrays.parallelSort, on copies of a
+ * corpus repeated out to size elements.
+ * @author PSexton
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SortBenchmark {
+
+    @Param({"PRERELEASE", "LONG"})
+    public Corpus corpus;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private SemanticVersion[] versionSource;
+    private SemanticVersionName[] nameSource;
+    private SemanticVersion[] versions;
+    private SemanticVersionName[] names;
+    private final NameTable nameTable = new NameTable();
+
+    @Setup
+    public void setup() {
+        SemanticVersion[] sampleVersions = Samples.versions(corpus);
+        SemanticVersionName[] sampleNames = Samples.names(corpus);
+        versionSource = new SemanticVersion[size];
+        nameSource = new SemanticVersionName[size];
+        for(int i = 0; i < size; i++) {
+            versionSource[i] = sampleVersions[i & (Corpus.SIZE - 1)];
+            nameSource[i] = sampleNames[i & (Corpus.SIZE - 1)];
+        }
+        for(SemanticVersionName name : sampleNames)
+            nameTable.intern(name.getName());
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        versions = versionSource.clone();
+        names = nameSource.clone();
+    }
+
+    @Benchmark
+    public SemanticVersion[] versionsArraysSort() {
+        Arrays.sort(versions);
+        return versions;
+    }
+
+    @Benchmark
+    public SemanticVersion[] versionsArraysParallelSort() {
+        Arrays.parallelSort(versions);
+        return versions;
+    }
+
+    @Benchmark
+    public SemanticVersion[] versionsVersionSort() {
+        VersionSort.sort(versions);
+        return versions;
+    }
+
+    @Benchmark
+    public SemanticVersion[] versionsVersionParallelSort() {
+        VersionSort.parallelSort(versions);
+        return versions;
+    }
+
+    @Benchmark
+    public SemanticVersionName[] namesArraysSort() {
+        Arrays.sort(names);
+        return names;
+    }
+
+    @Benchmark
+    public SemanticVersionName[] namesArraysParallelSort() {
+        Arrays.parallelSort(names);
+        return names;
+    }
+
+    @Benchmark
+    public SemanticVersionName[] namesVersionSort() {
+        VersionSort.sort(names);
+        return names;
+    }
+
+    @Benchmark
+    public SemanticVersionName[] namesVersionSortNameTable() {
+        VersionSort.sort(names, nameTable);
+        return names;
+    }
+
+    @Benchmark
+    public SemanticVersionName[] namesVersionParallelSort() {
+        VersionSort.parallelSort(names);
+        return names;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Ascii.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 3:10:12 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Helpers for rendering versions as ASCII without temporary Strings.
+ * Names and prereleases are validated to be ASCII, and numbers are
+ * non-negative, so every char maps to exactly one byte.
+ * @author PSexton
+ */
+final class Ascii {
+
+    private Ascii() {
+    }
+
+    /**
+     * @return Number of decimal digits in a non-negative value
+     */
+    static int decimalLength(int value) {
+        int length = 1;
+        while(value >= 10) {
+            value /= 10;
+            length++;
+        }
+        return length;
+    }
+
+    static void appendDecimal(Appendable out, int value) throws IOException {
+        int divisor = 1;
+        while(value / divisor >= 10)
+            divisor *= 10;
+        for(; divisor > 0; divisor /= 10)
+            out.append((char) ('0' + (value / divisor) % 10));
+    }
+
+    /**
+     * @return Index after the last digit written
+     */
+    static int putDecimal(byte[] dst, int offset, int value) {
+        int end = offset + decimalLength(value);
+        for(int i = end - 1; i >= offset; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    static void putDecimal(ByteBuffer dst, int value) {
+        int start = dst.position();
+        int end = start + decimalLength(value);
+        for(int i = end - 1; i >= start; i--) {
+            dst.put(i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        dst.position(end);
+    }
+
+    /**
+     * @return Index after the last byte written
+     */
+    static int putString(byte[] dst, int offset, String s) {
+        int length = s.length();
+        for(int i = 0; i < length; i++)
+            dst[offset + i] = (byte) s.charAt(i);
+        return offset + length;
+    }
+
+    static void putString(ByteBuffer dst, String s) {
+        int length = s.length();
+        for(int i = 0; i < length; i++)
+            dst.put((byte) s.charAt(i));
+    }
+
+    static void checkRoom(byte[] dst, int offset, int length) {
+        if(offset < 0 || offset > dst.length - length)
+            throw new IndexOutOfBoundsException(length + " bytes do not fit at offset " + offset + " of " + dst.length);
+    }
+
+    static void checkRoom(ByteBuffer dst, int length) {
+        if(dst.remaining() < length)
+            throw new BufferOverflowException();
+    }
+}
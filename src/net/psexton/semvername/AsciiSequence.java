@@ -0,0 +1,84 @@
+/*
+ * AsciiSequence.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 2:18:45 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only CharSequence view of single-byte (ASCII) text in a ByteBuffer,
+ * so Parser can scan bytes without decoding them into a String first.
+ * Index i of the sequence is absolute index i of the buffer; the buffer's
+ * position and limit are never touched. Bytes above 0x7f map to the Latin-1
+ * char of the same value, which the semver grammar rejects anyway.
+ * @author PSexton
+ */
+final class AsciiSequence implements CharSequence {
+    private final ByteBuffer buffer;
+
+    AsciiSequence(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * @return View of the whole array, or null if bytes is null
+     */
+    static AsciiSequence of(byte[] bytes) {
+        return (bytes == null) ? null : new AsciiSequence(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * @return View of the whole buffer up to its limit, or null if buffer is null
+     */
+    static AsciiSequence of(ByteBuffer buffer) {
+        return (buffer == null) ? null : new AsciiSequence(buffer);
+    }
+
+    @Override
+    public int length() {
+        return buffer.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(index) & 0xff);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString(start, end);
+    }
+
+    /**
+     * Decodes [start, end) into a String, copying straight from the backing
+     * array when there is one.
+     */
+    String toString(int start, int end) {
+        if(buffer.hasArray())
+            return new String(buffer.array(), buffer.arrayOffset() + start, end - start, StandardCharsets.ISO_8859_1);
+        byte[] bytes = new byte[end - start];
+        for(int i = 0; i < bytes.length; i++)
+            bytes[i] = buffer.get(start + i);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return toString(0, length());
+    }
+}
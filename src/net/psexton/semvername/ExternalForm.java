@@ -0,0 +1,79 @@
+/*
+ * ExternalForm.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 9:44:09 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+
+/**
+ * Serialized form of SemanticVersion and SemanticVersionName, substituted
+ * by their writeReplace methods. Writes a type byte and then the
+ * VersionWriter encoding, a few bytes per version instead of the default
+ * form's field descriptors and boxed Integers, and validates on the way
+ * back in.
+ * @author PSexton
+ */
+final class ExternalForm implements Externalizable {
+    private static final long serialVersionUID = 1L;
+    private static final byte VERSION = 1;
+    private static final byte NAME = 2;
+
+    private Object value;
+
+    /**
+     * For deserialization only.
+     */
+    public ExternalForm() {
+    }
+
+    ExternalForm(Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        if(value instanceof SemanticVersionName) {
+            out.writeByte(NAME);
+            VersionWriter.writeUnbuffered(out, (SemanticVersionName) value);
+        }
+        else {
+            out.writeByte(VERSION);
+            VersionWriter.writeUnbuffered(out, (SemanticVersion) value);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        VersionReader reader = new VersionReader(in);
+        byte type = in.readByte();
+        if(type == NAME)
+            value = reader.readName();
+        else if(type == VERSION)
+            value = reader.readVersion();
+        else
+            throw new InvalidObjectException("unknown type " + type);
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+        return value;
+    }
+}
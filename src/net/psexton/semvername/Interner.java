@@ -0,0 +1,239 @@
+/*
+ * Interner.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 12:31:09 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Interner.
+ * Canonicalizes equal immutable values to a single instance, like
+ * String.intern(), while holding them only through weak references so
+ * canonical instances nobody else uses can still be garbage collected.
+ * Entries are spread over independently locked segments, each a chained
+ * hash table that drops cleared references as it goes.
+ * @author PSexton
+ * @param <T> Value type; must have consistent equals and hashCode
+ */
+public class Interner<T> {
+    private static final int SEGMENTS = 16;
+    // Segments are picked by the top bits of the hash, which no segment's
+    // bucket mask reaches, so every bucket of every segment stays usable
+    private static final int SEGMENT_SHIFT = 32 - Integer.numberOfTrailingZeros(SEGMENTS);
+
+    private final Segment<T>[] segments;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    public Interner() {
+        @SuppressWarnings("unchecked")
+        Segment<T>[] segments = (Segment<T>[]) new Segment<?>[SEGMENTS];
+        this.segments = segments;
+        for(int i = 0; i < SEGMENTS; i++)
+            segments[i] = new Segment<>();
+    }
+
+    /**
+     * Shared interner used by SemanticVersion.intern().
+     */
+    public static Interner<SemanticVersion> defaultSemanticVersionInterner() {
+        return Defaults.SEMANTIC_VERSIONS;
+    }
+
+    /**
+     * Shared interner used by SemanticVersionName.intern().
+     */
+    public static Interner<SemanticVersionName> defaultSemanticVersionNameInterner() {
+        return Defaults.SEMANTIC_VERSION_NAMES;
+    }
+
+    /**
+     * Returns the canonical instance equal to value, making value the
+     * canonical instance if there is none yet.
+     * @param value Value to canonicalize
+     * @return Canonical instance
+     */
+    public T intern(T value) {
+        if(value == null)
+            throw new IllegalArgumentException("value cannot be null");
+
+        int hash = value.hashCode();
+        hash ^= hash >>> 16;
+        T canonical = segments[hash >>> SEGMENT_SHIFT].intern(value, hash);
+        requests.increment();
+        if(canonical != value)
+            hits.increment();
+        return canonical;
+    }
+
+    /**
+     * @return Number of canonical instances still reachable
+     */
+    public int size() {
+        int size = 0;
+        for(Segment<T> segment : segments)
+            size += segment.size();
+        return size;
+    }
+
+    /**
+     * @return Number of non-empty hash buckets, summed over segments
+     */
+    int occupiedBuckets() {
+        int occupied = 0;
+        for(Segment<T> segment : segments)
+            occupied += segment.occupiedBuckets();
+        return occupied;
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * @return Number of intern calls that were handed an existing instance
+     * instead of their argument, i.e. duplicates that became collectable
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Number of canonical instances that have been garbage collected
+     */
+    public long getCollectedCount() {
+        long collected = 0;
+        for(Segment<T> segment : segments)
+            collected += segment.collected();
+        return collected;
+    }
+
+    /**
+     * Footprint report, e.g.
+     * "Interner{canonical=1200, requests=50000, duplicates=48800, collected=0}".
+     */
+    @Override
+    public String toString() {
+        return "Interner{canonical=" + size() + ", requests=" + getRequestCount()
+                + ", duplicates=" + getHitCount() + ", collected=" + getCollectedCount() + "}";
+    }
+
+    private static final class Entry<T> extends WeakReference<T> {
+        final int hash;
+        Entry<T> next;
+
+        Entry(T referent, int hash, Entry<T> next, ReferenceQueue<T> queue) {
+            super(referent, queue);
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+
+    private static final class Segment<T> {
+        private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+        private Entry<T>[] table = newTable(16);
+        private int count;
+        private long collected;
+
+        synchronized T intern(T value, int hash) {
+            expungeStale();
+            int index = hash & (table.length - 1);
+            for(Entry<T> e = table[index]; e != null; e = e.next) {
+                if(e.hash == hash) {
+                    T existing = e.get();
+                    if(existing != null && existing.equals(value))
+                        return existing;
+                }
+            }
+            table[index] = new Entry<>(value, hash, table[index], queue);
+            if(++count > table.length * 3 / 4)
+                resize();
+            return value;
+        }
+
+        synchronized int size() {
+            expungeStale();
+            return count;
+        }
+
+        synchronized int occupiedBuckets() {
+            expungeStale();
+            int occupied = 0;
+            for(Entry<T> head : table) {
+                if(head != null)
+                    occupied++;
+            }
+            return occupied;
+        }
+
+        synchronized long collected() {
+            expungeStale();
+            return collected;
+        }
+
+        private void expungeStale() {
+            for(Reference<? extends T> ref = queue.poll(); ref != null; ref = queue.poll()) {
+                @SuppressWarnings("unchecked")
+                Entry<T> stale = (Entry<T>) ref;
+                int index = stale.hash & (table.length - 1);
+                Entry<T> prev = null;
+                for(Entry<T> e = table[index]; e != null; prev = e, e = e.next) {
+                    if(e == stale) {
+                        if(prev == null)
+                            table[index] = e.next;
+                        else
+                            prev.next = e.next;
+                        count--;
+                        collected++;
+                        break;
+                    }
+                }
+            }
+        }
+
+        private void resize() {
+            Entry<T>[] resized = newTable(table.length * 2);
+            for(Entry<T> head : table) {
+                Entry<T> e = head;
+                while(e != null) {
+                    Entry<T> next = e.next;
+                    // Cleared entries stay in the table until polled from the
+                    // queue, so keep them chained for expungeStale to find
+                    int index = e.hash & (resized.length - 1);
+                    e.next = resized[index];
+                    resized[index] = e;
+                    e = next;
+                }
+            }
+            table = resized;
+        }
+
+        private static <T> Entry<T>[] newTable(int length) {
+            @SuppressWarnings("unchecked")
+            Entry<T>[] table = (Entry<T>[]) new Entry<?>[length];
+            return table;
+        }
+    }
+
+    private static final class Defaults {
+        static final Interner<SemanticVersion> SEMANTIC_VERSIONS = new Interner<>();
+        static final Interner<SemanticVersionName> SEMANTIC_VERSION_NAMES = new Interner<>();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * LineTable.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 5:52:16 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.Arrays;
+
+/**
+ * LineTable.
+ * Mutable state behind VersionCollectors and VersionLines: for each
+ * compatibility line, i.e. each (name, major) pair, or each name when not
+ * grouping by major, the greatest semvername seen and how many were seen.
+ * Lines live in parallel arrays found through an open-addressing hash
+ * table of int indexes, so adding a semvername allocates nothing unless it
+ * starts a line, and merging two tables adds the smaller one's lines to
+ * the larger. Not thread-safe; each stream segment gets its own table.
+ * @author PSexton
+ */
+final class LineTable {
+    private static final int INITIAL_LINES = 16;
+
+    private final boolean byMajor;
+    // Line index + 1 for each occupied slot, 0 for empty; at most half full
+    private int[] slots = new int[INITIAL_LINES * 2];
+    private String[] names = new String[INITIAL_LINES];
+    private int[] majors = new int[INITIAL_LINES];
+    private SemanticVersionName[] latest = new SemanticVersionName[INITIAL_LINES];
+    private long[] counts = new long[INITIAL_LINES];
+    private int size;
+
+    /**
+     * @param byMajor Whether each major is its own line, or each name
+     */
+    LineTable(boolean byMajor) {
+        this.byMajor = byMajor;
+    }
+
+    void add(SemanticVersionName semvername) {
+        add(semvername, 1);
+    }
+
+    private void add(SemanticVersionName semvername, long count) {
+        SemanticVersion semver = semvername.getSemver();
+        int line = line(semvername.getName(), byMajor ? semver.major() : 0, semvername);
+        counts[line] += count;
+        SemanticVersionName best = latest[line];
+        // Names match within a line, so only the semvers need comparing
+        if(best != semvername && semver.compareTo(best.getSemver()) > 0)
+            latest[line] = semvername;
+    }
+
+    /**
+     * Combines two tables, reusing the larger.
+     * @return The combined table, this or other
+     */
+    LineTable merge(LineTable other) {
+        LineTable into = (this.size >= other.size) ? this : other;
+        LineTable from = (into == this) ? other : this;
+        for(int line = 0; line < from.size; line++)
+            into.add(from.latest[line], from.counts[line]);
+        return into;
+    }
+
+    /**
+     * Finds the line for (name, major), starting it with first as its
+     * latest and a count of 0 if there is none.
+     */
+    private int line(String name, int major, SemanticVersionName first) {
+        int mask = slots.length - 1;
+        int slot = hash(name, major) & mask;
+        for(int entry = slots[slot]; entry != 0; entry = slots[slot]) {
+            int line = entry - 1;
+            if(majors[line] == major && names[line].equals(name))
+                return line;
+            slot = (slot + 1) & mask;
+        }
+        if(size == names.length) {
+            grow();
+            return line(name, major, first);
+        }
+        int line = size++;
+        names[line] = name;
+        majors[line] = major;
+        latest[line] = first;
+        slots[slot] = line + 1;
+        return line;
+    }
+
+    /**
+     * @return Index of the line for (name, major), or -1 if there is none
+     */
+    int find(String name, int major) {
+        if(!byMajor)
+            major = 0;
+        int mask = slots.length - 1;
+        int slot = hash(name, major) & mask;
+        for(int entry = slots[slot]; entry != 0; entry = slots[slot]) {
+            int line = entry - 1;
+            if(majors[line] == major && names[line].equals(name))
+                return line;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int hash(String name, int major) {
+        int hash = name.hashCode() * 31 + major;
+        return hash ^ (hash >>> 16);
+    }
+
+    private void grow() {
+        int capacity = names.length * 2;
+        names = Arrays.copyOf(names, capacity);
+        majors = Arrays.copyOf(majors, capacity);
+        latest = Arrays.copyOf(latest, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        slots = new int[capacity * 2];
+        int mask = slots.length - 1;
+        for(int line = 0; line < size; line++) {
+            int slot = hash(names[line], majors[line]) & mask;
+            while(slots[slot] != 0)
+                slot = (slot + 1) & mask;
+            slots[slot] = line + 1;
+        }
+    }
+
+    boolean byMajor() {
+        return byMajor;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String name(int line) {
+        return names[line];
+    }
+
+    int major(int line) {
+        return majors[line];
+    }
+
+    SemanticVersionName latest(int line) {
+        return latest[line];
+    }
+
+    long count(int line) {
+        return counts[line];
+    }
+}
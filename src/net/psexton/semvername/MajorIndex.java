@@ -0,0 +1,266 @@
+/*
+ * MajorIndex.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 10:58:42 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * MajorIndex.
+ * Shared core of SemanticVersionIndex and SemanticVersion2Index: versioned
+ * names grouped by name and then by major version, each group a TreeSet.
+ * Queries follow the element's compareTo, i.e. version precedence, whose
+ * packed-key fast path then does most of the tree comparisons. The sets
+ * themselves are kept in an order that refines compareTo, so elements that
+ * compareTo calls equal but equals doesn't, such as 2.0.0 versions
+ * differing only in build metadata, are stored side by side; where several
+ * of them tie for an answer, the greatest or least in that order is
+ * returned, matching the query's direction.
+ * Not thread-safe.
+ * @author PSexton
+ * @param <V> Versioned name type
+ */
+final class MajorIndex<V extends Comparable<? super V>> {
+    private final Function<? super V, String> nameOf;
+    private final ToIntFunction<? super V> majorOf;
+    private final Comparator<? super V> order;
+    // name -> major -> versions of that name and major, in order.
+    // Empty majors and names are removed, so every set here is non-empty.
+    private final Map<String, NavigableMap<Integer, NavigableSet<V>>> names = new HashMap<>();
+    private int size;
+
+    /**
+     * @param nameOf Name part of an element
+     * @param majorOf Major version of an element
+     * @param order Total order consistent with equals that refines compareTo
+     */
+    MajorIndex(Function<? super V, String> nameOf, ToIntFunction<? super V> majorOf, Comparator<? super V> order) {
+        this.nameOf = nameOf;
+        this.majorOf = majorOf;
+        this.order = order;
+    }
+
+    boolean add(V value) {
+        if(value == null)
+            throw new IllegalArgumentException("semvername cannot be null");
+        String name = nameOf.apply(value);
+        NavigableMap<Integer, NavigableSet<V>> majors = names.get(name);
+        if(majors == null) {
+            majors = new TreeMap<>();
+            names.put(name, majors);
+        }
+        int major = majorOf.applyAsInt(value);
+        NavigableSet<V> versions = majors.get(major);
+        if(versions == null) {
+            versions = new TreeSet<>(order);
+            majors.put(major, versions);
+        }
+        if(!versions.add(value))
+            return false;
+        size++;
+        return true;
+    }
+
+    boolean remove(V value) {
+        if(value == null)
+            return false;
+        String name = nameOf.apply(value);
+        NavigableMap<Integer, NavigableSet<V>> majors = names.get(name);
+        if(majors == null)
+            return false;
+        int major = majorOf.applyAsInt(value);
+        NavigableSet<V> versions = majors.get(major);
+        if(versions == null || !versions.remove(value))
+            return false;
+        if(versions.isEmpty()) {
+            majors.remove(major);
+            if(majors.isEmpty())
+                names.remove(name);
+        }
+        size--;
+        return true;
+    }
+
+    boolean contains(V value) {
+        if(value == null)
+            return false;
+        NavigableSet<V> versions = versions(nameOf.apply(value), majorOf.applyAsInt(value));
+        return versions != null && versions.contains(value);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        names.clear();
+        size = 0;
+    }
+
+    Set<String> names() {
+        return Collections.unmodifiableSet(names.keySet());
+    }
+
+    /**
+     * Greatest v with v compatibly greater than pinned.
+     */
+    V latestCompatible(V pinned) {
+        int major = majorOf.applyAsInt(pinned);
+        NavigableSet<V> versions = versions(nameOf.apply(pinned), major);
+        if(versions == null)
+            return null;
+        // A 0.y.z version is only compatible with versions of equal precedence
+        if(major == 0) {
+            V latest = floor(versions, pinned);
+            return (latest != null && latest.compareTo(pinned) == 0) ? latest : null;
+        }
+        // Otherwise anything at or above pinned in the same major is compatible
+        V last = versions.last();
+        return (last.compareTo(pinned) >= 0) ? last : null;
+    }
+
+    V latest(String name) {
+        NavigableMap<Integer, NavigableSet<V>> majors = names.get(name);
+        if(majors == null)
+            return null;
+        return majors.lastEntry().getValue().last();
+    }
+
+    V latestInMajor(String name, int major) {
+        NavigableSet<V> versions = versions(name, major);
+        return (versions == null) ? null : versions.last();
+    }
+
+    V floor(V target) {
+        NavigableMap<Integer, NavigableSet<V>> majors = names.get(nameOf.apply(target));
+        if(majors == null)
+            return null;
+        int major = majorOf.applyAsInt(target);
+        NavigableSet<V> versions = majors.get(major);
+        if(versions != null) {
+            V floor = floor(versions, target);
+            if(floor != null)
+                return floor;
+        }
+        Map.Entry<Integer, NavigableSet<V>> lower = majors.lowerEntry(major);
+        return (lower == null) ? null : lower.getValue().last();
+    }
+
+    V ceiling(V target) {
+        NavigableMap<Integer, NavigableSet<V>> majors = names.get(nameOf.apply(target));
+        if(majors == null)
+            return null;
+        int major = majorOf.applyAsInt(target);
+        NavigableSet<V> versions = majors.get(major);
+        if(versions != null) {
+            V ceiling = ceiling(versions, target);
+            if(ceiling != null)
+                return ceiling;
+        }
+        Map.Entry<Integer, NavigableSet<V>> higher = majors.higherEntry(major);
+        return (higher == null) ? null : higher.getValue().first();
+    }
+
+    List<V> range(V from, boolean fromInclusive, V to, boolean toInclusive) {
+        if(!nameOf.apply(from).equals(nameOf.apply(to)))
+            throw new IllegalArgumentException("range bounds must have the same name");
+        List<V> result = new ArrayList<>();
+        NavigableMap<Integer, NavigableSet<V>> majors = names.get(nameOf.apply(from));
+        if(majors == null || from.compareTo(to) > 0)
+            return result;
+        int fromMajor = majorOf.applyAsInt(from);
+        int toMajor = majorOf.applyAsInt(to);
+        for(Map.Entry<Integer, NavigableSet<V>> entry : majors.subMap(fromMajor, true, toMajor, true).entrySet()) {
+            // Only the end majors need trimming; the ones between are whole.
+            // Each bound is first moved onto an element, so that ties with
+            // it in precedence fall on the right side whatever their order.
+            NavigableSet<V> versions = entry.getValue();
+            V first = versions.first();
+            V last = versions.last();
+            if(entry.getKey() == fromMajor)
+                first = fromInclusive ? ceiling(versions, from) : higher(versions, from);
+            if(entry.getKey() == toMajor)
+                last = toInclusive ? floor(versions, to) : lower(versions, to);
+            if(first != null && last != null && order.compare(first, last) <= 0)
+                result.addAll(versions.subSet(first, true, last, true));
+        }
+        return result;
+    }
+
+    List<V> versions(String name) {
+        List<V> result = new ArrayList<>();
+        NavigableMap<Integer, NavigableSet<V>> majors = names.get(name);
+        if(majors != null) {
+            for(NavigableSet<V> versions : majors.values())
+                result.addAll(versions);
+        }
+        return result;
+    }
+
+    private NavigableSet<V> versions(String name, int major) {
+        NavigableMap<Integer, NavigableSet<V>> majors = names.get(name);
+        return (majors == null) ? null : majors.get(major);
+    }
+
+    // The four searches below find the tree neighbour of target and then
+    // step past any elements that tie with target in precedence but not in
+    // order. When order and compareTo agree that's at most one comparison.
+
+    // Greatest element not above target in precedence
+    private V floor(NavigableSet<V> versions, V target) {
+        V floor = versions.floor(target);
+        for(V next = versions.higher(target); next != null && next.compareTo(target) == 0; next = versions.higher(next))
+            floor = next;
+        return floor;
+    }
+
+    // Least element not below target in precedence
+    private V ceiling(NavigableSet<V> versions, V target) {
+        V ceiling = versions.ceiling(target);
+        for(V next = versions.lower(target); next != null && next.compareTo(target) == 0; next = versions.lower(next))
+            ceiling = next;
+        return ceiling;
+    }
+
+    // Greatest element below target in precedence
+    private V lower(NavigableSet<V> versions, V target) {
+        V lower = versions.lower(target);
+        while(lower != null && lower.compareTo(target) == 0)
+            lower = versions.lower(lower);
+        return lower;
+    }
+
+    // Least element above target in precedence
+    private V higher(NavigableSet<V> versions, V target) {
+        V higher = versions.higher(target);
+        while(higher != null && higher.compareTo(target) == 0)
+            higher = versions.higher(higher);
+        return higher;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * NameTable.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 2:14:07 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * NameTable.
+ * Symbol table giving each distinct semvername name a dense int id, in
+ * order of first appearance, and holding one canonical String per name.
+ * Each id also has a rank, its position among the table's names in String
+ * order, so two names can be ordered by comparing two ints. Ranks are
+ * recomputed in one sort the first time they are needed after new names
+ * arrive, so intern names in bulk before sorting. A rank only ever moves
+ * up as names are added; compare ranks from the same call, not across calls.
+ * Ids are never reused and names are never removed. Thread-safe: lookups
+ * are lock-free, and adding a name or recomputing ranks takes a lock.
+ * @author PSexton
+ */
+public final class NameTable {
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    // Written under lock; an element is stored before size is raised past it
+    private volatile String[] names = new String[16];
+    private volatile int size;
+    // ranks[id] for every id below ranks.length
+    private volatile int[] ranks = new int[0];
+
+    /**
+     * Returns name's id, adding name to the table if it is new.
+     * @param name Name part of a semvername
+     * @return Id of name
+     * @throws IllegalArgumentException if name is not a valid name
+     */
+    public int intern(String name) {
+        Integer id = (name == null) ? null : ids.get(name);
+        if(id != null)
+            return id;
+        SemanticVersionName.checkName(name);
+        synchronized(lock) {
+            id = ids.get(name);
+            if(id != null)
+                return id;
+            int next = size;
+            String[] current = names;
+            if(next == current.length)
+                current = Arrays.copyOf(current, next * 2);
+            current[next] = name;
+            names = current;
+            size = next + 1;
+            ids.put(name, next);
+            return next;
+        }
+    }
+
+    /**
+     * @return Id of name, or -1 if it is not in the table
+     */
+    public int id(String name) {
+        Integer id = (name == null) ? null : ids.get(name);
+        return (id == null) ? -1 : id;
+    }
+
+    /**
+     * @return The canonical String for id
+     */
+    public String name(int id) {
+        checkId(id);
+        return names[id];
+    }
+
+    /**
+     * @return Number of names; ids run from 0 to this - 1
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Number of names in the table that sort before id's name
+     */
+    public int rank(int id) {
+        return ranks(checkId(id))[id];
+    }
+
+    /**
+     * Compares the names with ids lhs and rhs the way String.compareTo
+     * compares the names themselves.
+     */
+    public int compare(int lhs, int rhs) {
+        if(lhs == rhs) {
+            checkId(lhs);
+            return 0;
+        }
+        int[] ranks = ranks(Math.max(checkId(lhs), checkId(rhs)));
+        return Integer.compare(ranks[lhs], ranks[rhs]);
+    }
+
+    /**
+     * Returns semvername with its name replaced by the canonical String,
+     * adding the name if it is new; semvername itself if it already uses it.
+     */
+    public SemanticVersionName canonicalize(SemanticVersionName semvername) {
+        String name = semvername.getName();
+        String canonical = names[intern(name)];
+        if(canonical == name)
+            return semvername;
+        return new SemanticVersionName(canonical, semvername.getSemver(), false);
+    }
+
+    /**
+     * Parses a semvername whose name is the canonical String.
+     * @see SemanticVersionName#valueOf(CharSequence)
+     */
+    public SemanticVersionName valueOf(CharSequence s) {
+        return canonicalize(SemanticVersionName.valueOf(s));
+    }
+
+    /**
+     * Orders semvernames exactly as SemanticVersionName.compareTo does, but
+     * compares names by rank, adding names it hasn't seen. Each comparison
+     * still looks up both names' ids; sorting through VersionSort.sort with
+     * this table looks each one up once instead.
+     */
+    public Comparator<SemanticVersionName> comparator() {
+        return (lhs, rhs) -> {
+            int compare = compare(intern(lhs.getName()), intern(rhs.getName()));
+            if(compare != 0)
+                return compare;
+            return lhs.getSemver().compareTo(rhs.getSemver());
+        };
+    }
+
+    /**
+     * @return Ranks covering at least every id below size() at the time of
+     * the call; not to be modified
+     */
+    int[] ranks() {
+        return ranks(size - 1);
+    }
+
+    private int[] ranks(int id) {
+        int[] current = ranks;
+        if(id < current.length)
+            return current;
+        synchronized(lock) {
+            current = ranks;
+            if(id < current.length)
+                return current;
+            int count = size;
+            String[] sorted = Arrays.copyOf(names, count);
+            Arrays.sort(sorted);
+            current = new int[count];
+            for(int rank = 0; rank < count; rank++)
+                current[ids.get(sorted[rank])] = rank;
+            ranks = current;
+            return current;
+        }
+    }
+
+    private int checkId(int id) {
+        if(id < 0 || id >= size)
+            throw new IllegalArgumentException("no name with id " + id);
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "NameTable{size=" + size + "}";
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * OffHeapVersionStore.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 7:22:14 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * OffHeapVersionStore.
+ * Immutable, sorted set of SemanticVersionNames held outside the Java heap,
+ * as fixed-width records in direct ByteBuffers. Only the distinct name and
+ * prerelease Strings stay on the heap, in two sorted dictionaries.
+ * Each record is five ints, 20 bytes: name rank, major, minor, patch, and
+ * prerelease rank, where a rank is a String's position in its dictionary
+ * and a release has the rank one past the last prerelease. Ranks follow
+ * String order, so records sort as plain int tuples, in the same order as
+ * SemanticVersionName.compareTo, and lookups binary search the records
+ * without creating objects. Decoding a record creates only the
+ * SemanticVersion and SemanticVersionName wrappers, reusing the
+ * dictionary's Strings.
+ * Records are little-endian, the layout VersionIndexFile writes and maps.
+ * They are split over buffers of at most 2^25 records (640 MiB), so a
+ * store isn't limited to one ByteBuffer's 2 GiB. The memory is released
+ * when the store becomes unreachable. Thread-safe.
+ * @author PSexton
+ */
+public final class OffHeapVersionStore {
+    static final int RECORD_BYTES = 20;
+    static final int NAME_OFFSET = 0;
+    static final int MAJOR_OFFSET = 4;
+    static final int MINOR_OFFSET = 8;
+    static final int PATCH_OFFSET = 12;
+    static final int PRERELEASE_OFFSET = 16;
+    static final int DEFAULT_CHUNK_SHIFT = 25;
+
+    private final String[] names;
+    private final String[] prereleases;
+    private final ByteBuffer[] chunks;
+    private final int chunkShift;
+    private final long chunkMask;
+    private final long size;
+
+    /**
+     * @param names Distinct names in String order
+     * @param prereleases Distinct non-empty prereleases in String order
+     * @param chunks Little-endian record buffers, each full except possibly
+     * the last, with records from index 0 and absolute positions used throughout
+     * @param chunkShift log2 of the records per full chunk
+     * @param size Total number of records
+     */
+    OffHeapVersionStore(String[] names, String[] prereleases, ByteBuffer[] chunks, int chunkShift, long size) {
+        this.names = names;
+        this.prereleases = prereleases;
+        this.chunks = chunks;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+        this.size = size;
+    }
+
+    /**
+     * Sorts and de-duplicates semvernames into a new store.
+     * @param semvernames Versions to store
+     * @return New store
+     */
+    public static OffHeapVersionStore load(Collection<SemanticVersionName> semvernames) {
+        return load(semvernames, DEFAULT_CHUNK_SHIFT);
+    }
+
+    static OffHeapVersionStore load(Collection<SemanticVersionName> semvernames, int chunkShift) {
+        SemanticVersionName[] sorted = semvernames.toArray(new SemanticVersionName[semvernames.size()]);
+        VersionSort.parallelSort(sorted);
+        int count = 0;
+        TreeSet<String> distinctPrereleases = new TreeSet<>();
+        for(SemanticVersionName semvername : sorted) {
+            if(count > 0 && sorted[count - 1].equals(semvername))
+                continue;
+            sorted[count++] = semvername;
+            if(!semvername.getSemver().getPrerelease().isEmpty())
+                distinctPrereleases.add(semvername.getSemver().getPrerelease());
+        }
+        
+        // Sorted input means names arrive in rank order
+        String[] names = new String[count];
+        int nameCount = 0;
+        for(int i = 0; i < count; i++) {
+            if(nameCount == 0 || !names[nameCount - 1].equals(sorted[i].getName()))
+                names[nameCount++] = sorted[i].getName();
+        }
+        names = Arrays.copyOf(names, nameCount);
+        String[] prereleases = distinctPrereleases.toArray(new String[distinctPrereleases.size()]);
+        Map<String, Integer> prereleaseRanks = new HashMap<>();
+        for(int rank = 0; rank < prereleases.length; rank++)
+            prereleaseRanks.put(prereleases[rank], rank);
+        
+        ByteBuffer[] chunks = allocate(count, chunkShift);
+        long chunkMask = (1L << chunkShift) - 1;
+        int nameRank = -1;
+        for(int i = 0; i < count; i++) {
+            SemanticVersionName semvername = sorted[i];
+            if(nameRank < 0 || !names[nameRank].equals(semvername.getName()))
+                nameRank++;
+            SemanticVersion semver = semvername.getSemver();
+            String prerelease = semver.getPrerelease();
+            ByteBuffer chunk = chunks[i >>> chunkShift];
+            int offset = (int) (i & chunkMask) * RECORD_BYTES;
+            chunk.putInt(offset + NAME_OFFSET, nameRank);
+            chunk.putInt(offset + MAJOR_OFFSET, semver.major());
+            chunk.putInt(offset + MINOR_OFFSET, semver.minor());
+            chunk.putInt(offset + PATCH_OFFSET, semver.patch());
+            chunk.putInt(offset + PRERELEASE_OFFSET, prerelease.isEmpty() ? prereleases.length : prereleaseRanks.get(prerelease));
+        }
+        return new OffHeapVersionStore(names, prereleases, chunks, chunkShift, count);
+    }
+
+    private static ByteBuffer[] allocate(long records, int chunkShift) {
+        long chunkRecords = 1L << chunkShift;
+        ByteBuffer[] chunks = new ByteBuffer[(int) ((records + chunkRecords - 1) >>> chunkShift)];
+        for(int i = 0; i < chunks.length; i++) {
+            long inChunk = Math.min(chunkRecords, records - (i * chunkRecords));
+            chunks[i] = ByteBuffer.allocateDirect((int) (inChunk * RECORD_BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return chunks;
+    }
+
+    /**
+     * @return Number of records
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return Bytes of record storage, not counting the dictionaries
+     */
+    public long recordBytes() {
+        return size * RECORD_BYTES;
+    }
+
+    String[] names() {
+        return names;
+    }
+
+    String[] prereleases() {
+        return prereleases;
+    }
+
+    ByteBuffer[] chunks() {
+        return chunks;
+    }
+
+    int chunkShift() {
+        return chunkShift;
+    }
+
+    int field(long index, int fieldOffset) {
+        return chunks[(int) (index >>> chunkShift)].getInt((int) (index & chunkMask) * RECORD_BYTES + fieldOffset);
+    }
+
+    private long checkIndex(long index) {
+        if(index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + size);
+        return index;
+    }
+
+    /**
+     * @return The SemanticVersionName at index, in sorted order
+     */
+    public SemanticVersionName get(long index) {
+        checkIndex(index);
+        return new SemanticVersionName(names[field(index, NAME_OFFSET)], semver(index), false);
+    }
+
+    /**
+     * @return The version at index, without its name
+     */
+    public SemanticVersion semver(long index) {
+        checkIndex(index);
+        int prereleaseRank = field(index, PRERELEASE_OFFSET);
+        return new SemanticVersion(field(index, MAJOR_OFFSET), field(index, MINOR_OFFSET), field(index, PATCH_OFFSET),
+                (prereleaseRank == prereleases.length) ? "" : prereleases[prereleaseRank], false);
+    }
+
+    /**
+     * @return The name at index, shared with every record of that name
+     */
+    public String name(long index) {
+        return names[field(checkIndex(index), NAME_OFFSET)];
+    }
+
+    /**
+     * @param semvername Version to find
+     * @return Its index, or -(insertion point) - 1 if it isn't stored
+     */
+    public long indexOf(SemanticVersionName semvername) {
+        long[] query = query(semvername);
+        long index = lowerBound(query);
+        if(index < size && compare(index, query) == 0)
+            return index;
+        return -1 - index;
+    }
+
+    public boolean contains(SemanticVersionName semvername) {
+        return indexOf(semvername) >= 0;
+    }
+
+    /**
+     * @param name Name part
+     * @return Greatest stored version of name, or null if there is none
+     */
+    public SemanticVersionName latest(String name) {
+        int rank = Arrays.binarySearch(names, name);
+        if(rank < 0)
+            return null;
+        // The record before the first one of the next name
+        return get(lowerBound(new long[]{2L * rank + 1, 0, 0, 0, 0}) - 1);
+    }
+
+    /**
+     * Newest stored version that is compatibly greater than pinned, i.e. the
+     * greatest v with v.cgt(pinned).
+     * @param pinned Version currently in use
+     * @return Newest compatible version, or null if there is none
+     */
+    public SemanticVersionName latestCompatible(SemanticVersionName pinned) {
+        long[] query = query(pinned);
+        long start = lowerBound(query);
+        int major = pinned.getSemver().major();
+        // A 0.y.z version is only compatible with itself
+        if(major == 0)
+            return (start < size && compare(start, query) == 0) ? get(start) : null;
+        // Otherwise the last version of this name and major, if it's at or above pinned
+        long end = lowerBound(new long[]{query[0], major + 1L, 0, 0, -1});
+        return (end > start) ? get(end - 1) : null;
+    }
+
+    /**
+     * Builds a search key: the name and prerelease as doubled ranks, so a
+     * String that isn't in a dictionary can sit between two that are, at
+     * twice its insertion point minus one.
+     */
+    private long[] query(SemanticVersionName semvername) {
+        SemanticVersion semver = semvername.getSemver();
+        String prerelease = semver.getPrerelease();
+        long prereleaseRank = prerelease.isEmpty() ? 2L * prereleases.length : doubledRank(prereleases, prerelease);
+        return new long[]{doubledRank(names, semvername.getName()), semver.major(), semver.minor(), semver.patch(), prereleaseRank};
+    }
+
+    private static long doubledRank(String[] dictionary, String s) {
+        int rank = Arrays.binarySearch(dictionary, s);
+        return (rank >= 0) ? 2L * rank : 2L * (-1 - rank) - 1;
+    }
+
+    private int compare(long index, long[] query) {
+        int compare = Long.compare(2L * field(index, NAME_OFFSET), query[0]);
+        if(compare != 0)
+            return compare;
+        compare = Long.compare(field(index, MAJOR_OFFSET), query[1]);
+        if(compare != 0)
+            return compare;
+        compare = Long.compare(field(index, MINOR_OFFSET), query[2]);
+        if(compare != 0)
+            return compare;
+        compare = Long.compare(field(index, PATCH_OFFSET), query[3]);
+        if(compare != 0)
+            return compare;
+        return Long.compare(2L * field(index, PRERELEASE_OFFSET), query[4]);
+    }
+
+    /**
+     * @return First index whose record is not less than query
+     */
+    private long lowerBound(long[] query) {
+        long low = 0;
+        long high = size;
+        while(low < high) {
+            long mid = (low + high) >>> 1;
+            if(compare(mid, query) < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapVersionStore{size=" + size + ", names=" + names.length + ", prereleases=" + prereleases.length
+                + ", recordBytes=" + recordBytes() + "}";
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * ParseCache.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 11:26:58 AM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * ParseCache.
+ * Bounded, thread-safe cache from input strings to parsed values, for
+ * callers that parse the same strings over and over.
+ * Entries are spread over independently locked segments. Each segment keeps
+ * its entries in LRU order and a FrequencySketch of recent lookups; when a
+ * segment is full, a new entry is only admitted if it has been looked up more
+ * often than the LRU victim it would replace (TinyLFU admission), so a burst
+ * of one-off strings can't flush the popular ones.
+ * Strings that fail to parse are never cached; the parser's exception is
+ * thrown on every call.
+ * @author PSexton
+ * @param <T> Parsed type
+ */
+public class ParseCache<T> {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final Function<String, T> parser;
+    private final Segment<T>[] segments;
+    // Segments are picked by the top bits of the hash. HashMap spreads a
+    // key's hash into the low bits it indexes by, so picking by low bits
+    // would leave every key in a segment's map sharing bucket bits.
+    private final int segmentShift;
+    private final int segmentMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * @param maximumSize Most entries the cache will hold
+     * @param parser Function to call on a miss, e.g. SemanticVersionName::valueOf
+     */
+    public ParseCache(int maximumSize, Function<String, T> parser) {
+        if(maximumSize < 1)
+            throw new IllegalArgumentException("maximum size must be positive");
+        if(parser == null)
+            throw new IllegalArgumentException("parser cannot be null");
+
+        int count = 1;
+        while(count < MAX_SEGMENTS && count * 2 * MIN_SEGMENT_SIZE <= maximumSize)
+            count <<= 1;
+        this.parser = parser;
+        @SuppressWarnings("unchecked")
+        Segment<T>[] segments = (Segment<T>[]) new Segment<?>[count];
+        this.segments = segments;
+        // With one segment the shift is 32, which Java takes as 0; the mask
+        // still picks segment 0
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+        this.segmentMask = count - 1;
+        for(int i = 0; i < count; i++)
+            segments[i] = new Segment<>(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+    }
+
+    /**
+     * Shared cache used by SemanticVersion.cachedValueOf.
+     * Its size is read once from the net.psexton.semvername.parseCacheSize
+     * system property, default 4096.
+     */
+    public static ParseCache<SemanticVersion> defaultSemanticVersionCache() {
+        return Defaults.SEMANTIC_VERSIONS;
+    }
+
+    /**
+     * Shared cache used by SemanticVersionName.cachedValueOf.
+     * Its size is read once from the net.psexton.semvername.parseCacheSize
+     * system property, default 4096.
+     */
+    public static ParseCache<SemanticVersionName> defaultSemanticVersionNameCache() {
+        return Defaults.SEMANTIC_VERSION_NAMES;
+    }
+
+    /**
+     * Returns the cached value for s, parsing and caching it on a miss.
+     * @param s String to parse
+     * @return Parsed value
+     */
+    public T get(String s) {
+        if(s == null)
+            return parser.apply(s);
+
+        int hash = s.hashCode();
+        Segment<T> segment = segments[(hash >>> segmentShift) & segmentMask];
+        T value = segment.get(s, hash);
+        if(value != null) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        value = parser.apply(s);
+        switch(segment.put(s, hash, value)) {
+            case Segment.EVICTED:
+                evictions.increment();
+                break;
+            case Segment.REJECTED:
+                rejections.increment();
+                break;
+            default:
+                break;
+        }
+        return value;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Number of entries removed to make room for a new one
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return Number of misses that were not cached because the entry they
+     * would have replaced was more popular
+     */
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for(Segment<T> segment : segments)
+            size += segment.size();
+        return size;
+    }
+
+    /**
+     * Removes every entry. Counters and frequency history are kept.
+     */
+    public void clear() {
+        for(Segment<T> segment : segments)
+            segment.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "ParseCache{size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", evictions=" + getEvictionCount() + ", rejections=" + getRejectionCount() + "}";
+    }
+
+    private static final class Segment<T> {
+        static final int ADDED = 0;
+        static final int EVICTED = 1;
+        static final int REJECTED = 2;
+
+        private final int capacity;
+        private final LinkedHashMap<String, T> map;
+        private final FrequencySketch sketch;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+            this.map = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true);
+            this.sketch = new FrequencySketch(capacity);
+        }
+
+        synchronized T get(String key, int hash) {
+            sketch.increment(hash);
+            return map.get(key);
+        }
+
+        synchronized int put(String key, int hash, T value) {
+            if(map.containsKey(key))
+                return ADDED; // Another thread parsed it first
+            if(map.size() < capacity) {
+                map.put(key, value);
+                return ADDED;
+            }
+            Iterator<Map.Entry<String, T>> lru = map.entrySet().iterator();
+            String victim = lru.next().getKey();
+            if(sketch.frequency(hash) <= sketch.frequency(victim.hashCode()))
+                return REJECTED;
+            lru.remove();
+            map.put(key, value);
+            return EVICTED;
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+
+        synchronized void clear() {
+            map.clear();
+        }
+    }
+
+    private static final class Defaults {
+        static final int SIZE = Integer.getInteger("net.psexton.semvername.parseCacheSize", 4096);
+        static final ParseCache<SemanticVersion> SEMANTIC_VERSIONS =
+                new ParseCache<>(SIZE, SemanticVersion::valueOf);
+        static final ParseCache<SemanticVersionName> SEMANTIC_VERSION_NAMES =
+                new ParseCache<>(SIZE, SemanticVersionName::valueOf);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * ParseError.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 1:20:36 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+/**
+ * ParseError.
+ * Why a string was rejected by tryParse or valueOf.
+ * @author PSexton
+ */
+public enum ParseError {
+    EMPTY("string cannot be null or empty"),
+    EMPTY_NAME("name cannot be empty"),
+    INVALID_NAME_CHAR("name string is restricted to alphanumerics, hyphens, and underscores"),
+    MISSING_VERSION("expected -major.minor.patch after the name"),
+    EXPECTED_DIGIT("expected a digit"),
+    NUMBER_TOO_LARGE("number does not fit in an int"),
+    EXPECTED_PERIOD("expected a period"),
+    EXPECTED_HYPHEN("expected a hyphen"),
+    EMPTY_PRERELEASE("prerelease cannot be empty"),
+    INVALID_PRERELEASE_CHAR("prerelease string is restricted to alphanumerics and hyphens"),
+    // Semantic Versioning 2.0.0 only, see SemanticVersion2
+    EXPECTED_PRERELEASE_OR_BUILD("expected a hyphen or a plus sign"),
+    LEADING_ZERO("numeric identifier cannot have leading zeros"),
+    EMPTY_IDENTIFIER("identifier cannot be empty"),
+    IDENTIFIER_TOO_LARGE("numeric identifier does not fit in a long"),
+    EMPTY_BUILD("build metadata cannot be empty"),
+    INVALID_BUILD_CHAR("build metadata is restricted to alphanumerics, hyphens, and periods");
+
+    private final String message;
+
+    private ParseError(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
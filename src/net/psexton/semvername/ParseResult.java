@@ -0,0 +1,96 @@
+/*
+ * ParseResult.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 1:24:02 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.Optional;
+
+/**
+ * ParseResult.
+ * Outcome of tryParse: either the parsed value, or the ParseError and the
+ * offset of the character where parsing failed. Building a failed result
+ * does not create an exception.
+ * @author PSexton
+ * @param <T> Parsed type
+ */
+public final class ParseResult<T> {
+    // Filled in once by Parser before the result is returned
+    private T value;
+    private ParseError error;
+    private int errorIndex = -1;
+
+    ParseResult() {
+    }
+
+    void succeed(T value) {
+        this.value = value;
+    }
+
+    void fail(ParseError error, int errorIndex) {
+        this.error = error;
+        this.errorIndex = errorIndex;
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * @return Parsed value, or null if parsing failed
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * @return Why parsing failed, or null if it succeeded
+     */
+    public ParseError getError() {
+        return error;
+    }
+
+    /**
+     * @return Index of the offending character (the end of the input if it
+     * ended too soon), or -1 if parsing succeeded. For range and buffer
+     * inputs this is an index into the whole sequence, array, or buffer.
+     */
+    public int getErrorIndex() {
+        return errorIndex;
+    }
+
+    public Optional<T> toOptional() {
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * @return Parsed value
+     * @throws IllegalArgumentException if parsing failed, with the same
+     * message valueOf would have used
+     */
+    public T orElseThrow() {
+        if(error != null)
+            throw Parser.exception(error, errorIndex);
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        if(error == null)
+            return "ParseResult{" + value + "}";
+        return "ParseResult{" + error + " at " + errorIndex + "}";
+    }
+}
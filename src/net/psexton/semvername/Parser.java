@@ -0,0 +1,282 @@
+/*
+ * Parser.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 9:12:40 AM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.nio.CharBuffer;
+
+/**
+ * Single-pass scanner behind SemanticVersion.valueOf and SemanticVersionName.valueOf.
+ * Scans any CharSequence range in place: Strings, CharBuffers over char
+ * arrays, and AsciiSequence views over byte arrays and ByteBuffers. Error
+ * offsets are indexes into the whole sequence, not into the range.
+ * Accepts exactly the strings the original regexes
+ * <code>(\d+)\.(\d+)\.(\d+)(-(.+))?</code> and
+ * <code>([\w-]+)-((\d+)\.(\d+)\.(\d+)(-(.+))?)</code> accepted, once combined
+ * with the constructors' character checks. No Pattern, Matcher, or
+ * intermediate substrings are created; the only Strings allocated are the
+ * name field of the result and any prerelease not already in the shared
+ * PrereleaseDictionary.
+ * @author PSexton
+ */
+final class Parser {
+
+    private Parser() {
+    }
+
+    static SemanticVersion parseSemanticVersion(CharSequence s) {
+        return scanSemanticVersion(s, 0, length(s), null);
+    }
+
+    static SemanticVersion parseSemanticVersion(CharSequence s, int from, int to) {
+        checkRange(s, from, to);
+        return scanSemanticVersion(s, from, to, null);
+    }
+
+    static SemanticVersionName parseSemanticVersionName(CharSequence s) {
+        return scanSemanticVersionName(s, 0, length(s), null);
+    }
+
+    static SemanticVersionName parseSemanticVersionName(CharSequence s, int from, int to) {
+        checkRange(s, from, to);
+        return scanSemanticVersionName(s, from, to, null);
+    }
+
+    static ParseResult<SemanticVersion> tryParseSemanticVersion(CharSequence s) {
+        return tryParseSemanticVersion(s, 0, length(s));
+    }
+
+    static ParseResult<SemanticVersion> tryParseSemanticVersion(CharSequence s, int from, int to) {
+        checkRange(s, from, to);
+        ParseResult<SemanticVersion> result = new ParseResult<>();
+        SemanticVersion value = scanSemanticVersion(s, from, to, result);
+        if(value != null)
+            result.succeed(value);
+        return result;
+    }
+
+    static ParseResult<SemanticVersionName> tryParseSemanticVersionName(CharSequence s) {
+        return tryParseSemanticVersionName(s, 0, length(s));
+    }
+
+    static ParseResult<SemanticVersionName> tryParseSemanticVersionName(CharSequence s, int from, int to) {
+        checkRange(s, from, to);
+        ParseResult<SemanticVersionName> result = new ParseResult<>();
+        SemanticVersionName value = scanSemanticVersionName(s, from, to, result);
+        if(value != null)
+            result.succeed(value);
+        return result;
+    }
+
+    /**
+     * @return View of the whole array, or null if chars is null
+     */
+    static CharSequence wrap(char[] chars) {
+        return (chars == null) ? null : CharBuffer.wrap(chars);
+    }
+
+    private static int length(CharSequence s) {
+        return (s == null) ? 0 : s.length();
+    }
+
+    /**
+     * A null sequence is let through as an empty range, so it is reported
+     * like an empty string rather than as a bounds error.
+     */
+    private static void checkRange(CharSequence s, int from, int to) {
+        int length = length(s);
+        if(from < 0 || from > to || to > length)
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for length " + length);
+    }
+
+    /**
+     * Copies [from, to) of s into a String, the only copy a parse makes.
+     */
+    static String slice(CharSequence s, int from, int to) {
+        if(s instanceof String)
+            return ((String) s).substring(from, to);
+        if(s instanceof AsciiSequence)
+            return ((AsciiSequence) s).toString(from, to);
+        return s.subSequence(from, to).toString();
+    }
+
+    static IllegalArgumentException exception(ParseError error, int index) {
+        if(error == ParseError.EMPTY)
+            return new IllegalArgumentException(error.getMessage());
+        return new IllegalArgumentException(error.getMessage() + " at index " + index);
+    }
+
+    /**
+     * Reports a failure. With no result to fill in, i.e. when called on
+     * behalf of valueOf, this throws; otherwise it records the error and
+     * returns null for the scan method to pass back.
+     */
+    static <T> T fail(ParseResult<?> result, ParseError error, int index) {
+        if(result == null)
+            throw exception(error, index);
+        result.fail(error, index);
+        return null;
+    }
+
+    private static SemanticVersion scanSemanticVersion(CharSequence s, int from, int to, ParseResult<?> result) {
+        if(s == null || from == to)
+            return fail(result, ParseError.EMPTY, from);
+
+        return scanVersion(s, from, to, result);
+    }
+
+    private static SemanticVersionName scanSemanticVersionName(CharSequence s, int from, int to, ParseResult<?> result) {
+        int digitsStart = scanNamePart(s, from, to, result);
+        if(digitsStart < 0)
+            return null;
+        SemanticVersion semver = scanVersion(s, digitsStart, to, result);
+        if(semver == null)
+            return null;
+        return new SemanticVersionName(slice(s, from, digitsStart - 1), semver, false);
+    }
+
+    /**
+     * Finds where the version starts in a semvername, which is the same for
+     * 1.0.0 and 2.0.0 versions. The name is then s[from, returned index - 1).
+     * @return Index of the major number, or -1 after reporting a failure
+     */
+    static int scanNamePart(CharSequence s, int from, int to, ParseResult<?> result) {
+        if(s == null || from == to)
+            return failAt(result, ParseError.EMPTY, from);
+
+        // Walk the name part up to the first period. Names can't contain
+        // periods, so the major number must be the run of digits immediately
+        // before it, and that run must be preceded by a hyphen.
+        int digitsStart = from;
+        int i = from;
+        while(i < to) {
+            char c = s.charAt(i);
+            if(c == '.')
+                break;
+            if(!isNameChar(c))
+                return failAt(result, ParseError.INVALID_NAME_CHAR, i);
+            if(!isDigit(c))
+                digitsStart = i + 1;
+            i++;
+        }
+        if(i == to)
+            return failAt(result, ParseError.MISSING_VERSION, to);
+        if(digitsStart == i)
+            return failAt(result, ParseError.EXPECTED_DIGIT, i);
+        if(digitsStart == from || (digitsStart == from + 1 && s.charAt(from) == '-'))
+            return failAt(result, ParseError.EMPTY_NAME, from);
+        if(s.charAt(digitsStart - 1) != '-')
+            return failAt(result, ParseError.EXPECTED_HYPHEN, digitsStart);
+        return digitsStart;
+    }
+
+    /**
+     * fail() for scans that return an index: -1 in place of null.
+     */
+    private static int failAt(ParseResult<?> result, ParseError error, int index) {
+        fail(result, error, index);
+        return -1;
+    }
+
+    /**
+     * Scans major.minor.patch[-prerelease] from start up to to.
+     */
+    private static SemanticVersion scanVersion(CharSequence s, int start, int to, ParseResult<?> result) {
+        long scan = scanNumber(s, start, to);
+        if(scan < 0)
+            return fail(result, ParseError.NUMBER_TOO_LARGE, (int) (-1 - scan));
+        int major = (int) (scan >> 32);
+        int i = (int) scan;
+        if(i == start)
+            return fail(result, ParseError.EXPECTED_DIGIT, i);
+        if(i == to || s.charAt(i) != '.')
+            return fail(result, ParseError.EXPECTED_PERIOD, i);
+
+        scan = scanNumber(s, ++i, to);
+        if(scan < 0)
+            return fail(result, ParseError.NUMBER_TOO_LARGE, (int) (-1 - scan));
+        int minor = (int) (scan >> 32);
+        if((int) scan == i)
+            return fail(result, ParseError.EXPECTED_DIGIT, i);
+        i = (int) scan;
+        if(i == to || s.charAt(i) != '.')
+            return fail(result, ParseError.EXPECTED_PERIOD, i);
+
+        scan = scanNumber(s, ++i, to);
+        if(scan < 0)
+            return fail(result, ParseError.NUMBER_TOO_LARGE, (int) (-1 - scan));
+        int patch = (int) (scan >> 32);
+        if((int) scan == i)
+            return fail(result, ParseError.EXPECTED_DIGIT, i);
+        i = (int) scan;
+
+        String prerelease = "";
+        if(i < to) {
+            // Anything after the patch must be a hyphen and a non-empty prerelease
+            if(s.charAt(i) != '-')
+                return fail(result, ParseError.EXPECTED_HYPHEN, i);
+            if(++i == to)
+                return fail(result, ParseError.EMPTY_PRERELEASE, i);
+            for(int j = i; j < to; j++) {
+                if(!isPrereleaseChar(s.charAt(j)))
+                    return fail(result, ParseError.INVALID_PRERELEASE_CHAR, j);
+            }
+            prerelease = PrereleaseDictionary.shared().intern(s, i, to);
+        }
+
+        return new SemanticVersion(major, minor, patch, prerelease, false);
+    }
+
+    /**
+     * Scans a run of decimal digits starting at from.
+     * @return the value in the high word and the index just past the run in
+     * the low word (equal to from if there were no digits), or -1 - index
+     * of the digit that made the value overflow an int
+     */
+    static long scanNumber(CharSequence s, int from, int to) {
+        int value = 0;
+        int i = from;
+        while(i < to) {
+            int digit = s.charAt(i) - '0';
+            if(digit < 0 || digit > 9)
+                break;
+            if(value > (Integer.MAX_VALUE - digit) / 10)
+                return -1L - i;
+            value = value * 10 + digit;
+            i++;
+        }
+        return ((long) value << 32) | i;
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * [a-zA-Z0-9-]
+     */
+    static boolean isPrereleaseChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '-';
+    }
+
+    /**
+     * [a-zA-Z0-9-_], the same as the regex class [\w-]
+     */
+    static boolean isNameChar(char c) {
+        return isPrereleaseChar(c) || c == '_';
+    }
+}
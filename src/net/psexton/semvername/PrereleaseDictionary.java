@@ -0,0 +1,185 @@
+/*
+ * PrereleaseDictionary.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 3:27:44 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+/**
+ * PrereleaseDictionary.
+ * Flyweight store of canonical prerelease Strings. Prerelease tags come
+ * from a small vocabulary (alpha, beta, rc1, SNAPSHOT, ...), so the parser
+ * and VersionReader look each tag up here and share one String per tag
+ * instead of allocating a copy for every version. Versions holding the same
+ * canonical String also compare and test equal without walking it.
+ * The dictionary holds at most a fixed number of tags, added in order of
+ * first appearance; once it is full, new tags are simply not shared, so a
+ * stream of one-off tags (nightly-20261018-1, ...) can't grow it.
+ * Thread-safe: lookups are lock-free, and adding a tag copies the table
+ * under a lock.
+ * @author PSexton
+ */
+public final class PrereleaseDictionary {
+    /**
+     * Largest capacity allowed. Every addition copies the table, so a much
+     * larger dictionary would make adding tags slow long before it ran out
+     * of memory.
+     */
+    public static final int MAX_CAPACITY = 1 << 16;
+
+    private final int capacity;
+    private final Object lock = new Object();
+    // Open addressing with linear probing, at most half full. Replaced
+    // whole on every addition, so readers never see a half-built table.
+    private volatile String[] table;
+    private int size;
+
+    /**
+     * @param capacity Most tags to hold, from 0 to MAX_CAPACITY
+     */
+    public PrereleaseDictionary(int capacity) {
+        if(capacity < 0 || capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("capacity must be between 0 and " + MAX_CAPACITY);
+        this.capacity = capacity;
+        long length = 2;
+        while(length < capacity * 2L)
+            length <<= 1;
+        this.table = new String[(int) length];
+    }
+
+    /**
+     * Shared dictionary used by the parsers and VersionReader.
+     * Its capacity is read once from the
+     * net.psexton.semvername.prereleaseDictionarySize system property,
+     * default 1024, clamped to MAX_CAPACITY; 0 turns sharing off.
+     */
+    public static PrereleaseDictionary shared() {
+        return Defaults.SHARED;
+    }
+
+    /**
+     * Returns the canonical String equal to prerelease, making prerelease
+     * canonical if it is new and there is room.
+     * @param prerelease Prerelease, or "" for none
+     * @return Canonical instance, or prerelease itself if the dictionary is full
+     * @throws IllegalArgumentException if prerelease is not a valid prerelease
+     */
+    public String intern(String prerelease) {
+        if(prerelease == null || prerelease.isEmpty())
+            return SemanticVersion.checkPrerelease(prerelease);
+        String canonical = find(prerelease, 0, prerelease.length(), prerelease.hashCode());
+        if(canonical != null)
+            return canonical;
+        return add(SemanticVersion.checkPrerelease(prerelease), prerelease.hashCode());
+    }
+
+    /**
+     * Returns the canonical String for s[from, to), which the caller has
+     * already checked, copying the range only if it isn't in the dictionary.
+     */
+    String intern(CharSequence s, int from, int to) {
+        int hash = 0;
+        for(int i = from; i < to; i++)
+            hash = 31 * hash + s.charAt(i);
+        String canonical = find(s, from, to, hash);
+        if(canonical != null)
+            return canonical;
+        return add(Parser.slice(s, from, to), hash);
+    }
+
+    /**
+     * Same as intern(String), for a prerelease the caller has already checked.
+     */
+    String internChecked(String prerelease) {
+        if(prerelease.isEmpty())
+            return "";
+        String canonical = find(prerelease, 0, prerelease.length(), prerelease.hashCode());
+        return (canonical != null) ? canonical : add(prerelease, prerelease.hashCode());
+    }
+
+    /**
+     * @return Number of canonical tags held
+     */
+    public int size() {
+        synchronized(lock) {
+            return size;
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @param hash s[from, to).hashCode() as String computes it
+     */
+    private String find(CharSequence s, int from, int to, int hash) {
+        String[] table = this.table;
+        int mask = table.length - 1;
+        for(int index = spread(hash) & mask; ; index = (index + 1) & mask) {
+            String candidate = table[index];
+            if(candidate == null)
+                return null;
+            if(candidate.hashCode() == hash && matches(candidate, s, from, to))
+                return candidate;
+        }
+    }
+
+    private static boolean matches(String candidate, CharSequence s, int from, int to) {
+        if(candidate == s)
+            return true;
+        if(candidate.length() != to - from)
+            return false;
+        for(int i = from; i < to; i++) {
+            if(candidate.charAt(i - from) != s.charAt(i))
+                return false;
+        }
+        return true;
+    }
+
+    private String add(String prerelease, int hash) {
+        synchronized(lock) {
+            String canonical = find(prerelease, 0, prerelease.length(), hash);
+            if(canonical != null)
+                return canonical;
+            if(size == capacity)
+                return prerelease;
+            String[] copy = table.clone();
+            int mask = copy.length - 1;
+            int index = spread(hash) & mask;
+            while(copy[index] != null)
+                index = (index + 1) & mask;
+            copy[index] = prerelease;
+            table = copy;
+            size++;
+            return prerelease;
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        return "PrereleaseDictionary{size=" + size() + ", capacity=" + capacity + "}";
+    }
+
+    private static final class Defaults {
+        static final PrereleaseDictionary SHARED = new PrereleaseDictionary(
+                Math.max(0, Math.min(MAX_CAPACITY,
+                        Integer.getInteger("net.psexton.semvername.prereleaseDictionarySize", 1024))));
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * RangeIndex.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 4:20:36 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * RangeIndex.
+ * Reverse index from VersionRanges to values, such as advisories keyed by
+ * their affected ranges. Given a SemanticVersionName, stab() returns every
+ * value whose range, registered under the same name, matches the version.
+ * Each name has an interval tree: a treap of the ranges' intervals ordered by
+ * lower end, where every node also records the highest upper end in its
+ * subtree. A stabbing query skips any subtree that ends below the version
+ * and any right subtree that starts above it, so it only descends towards
+ * matches, in O(log n) expected time plus O(log n) per match.
+ * Not thread-safe.
+ * @author PSexton
+ * @param <T> Value type
+ */
+public class RangeIndex<T> {
+    private final Map<String, Tree<T>> trees = new HashMap<>();
+    private final Random random;
+    private int size;
+
+    public RangeIndex() {
+        this(new Random());
+    }
+
+    /**
+     * @param random Source of treap priorities, for reproducible shapes
+     */
+    RangeIndex(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Registers value under name for every version range matches. A range
+     * with no intervals can never match, so it isn't stored.
+     * @param name Name part the range applies to
+     * @param range Range of affected versions
+     * @param value Value to return from stab()
+     */
+    public void add(String name, VersionRange range, T value) {
+        if(name == null || range == null)
+            throw new IllegalArgumentException("name and range cannot be null");
+        if(range.isEmpty())
+            return;
+        Tree<T> tree = trees.get(name);
+        if(tree == null) {
+            tree = new Tree<>();
+            trees.put(name, tree);
+        }
+        for(int i = 0; i < range.intervalCount(); i++)
+            tree.root = insert(tree.root, new Node<>(range.interval(i), range, value, random.nextInt()));
+        size++;
+    }
+
+    /**
+     * Removes one registration of value under name with an equal range.
+     * @param name Name part the range was registered under
+     * @param range Range it was registered with
+     * @param value Value it was registered with
+     * @return True if it was registered
+     */
+    public boolean remove(String name, VersionRange range, T value) {
+        Tree<T> tree = trees.get(name);
+        if(tree == null || range == null || range.intervalCount() == 0)
+            return false;
+        // Every interval of a registration is inserted together, so if the
+        // first is found the rest are too
+        if(!contains(tree.root, range.interval(0), range, value))
+            return false;
+        for(int i = 0; i < range.intervalCount(); i++)
+            tree.root = delete(tree.root, range.interval(i), range, value);
+        if(tree.root == null)
+            trees.remove(name);
+        size--;
+        return true;
+    }
+
+    /**
+     * Adds many registrations under one name at once. The name's tree,
+     * including anything already in it, is rebuilt perfectly balanced in
+     * O(n log n), which is cheaper than n separate adds.
+     * @param name Name part the ranges apply to
+     * @param constraints Ranges keyed by the value to register them with
+     */
+    public void bulkLoad(String name, Map<T, VersionRange> constraints) {
+        if(name == null || constraints == null)
+            throw new IllegalArgumentException("name and constraints cannot be null");
+        // Every entry is checked before the tree is taken apart, so a bad
+        // one leaves the index as it was
+        List<Node<T>> nodes = new ArrayList<>();
+        int added = 0;
+        for(Map.Entry<T, VersionRange> entry : constraints.entrySet()) {
+            VersionRange range = entry.getValue();
+            if(range == null)
+                throw new IllegalArgumentException("range cannot be null");
+            if(range.isEmpty())
+                continue;
+            added++;
+            for(int i = 0; i < range.intervalCount(); i++)
+                nodes.add(new Node<>(range.interval(i), range, entry.getKey(), 0));
+        }
+        if(added == 0)
+            return;
+        Tree<T> tree = trees.get(name);
+        if(tree != null)
+            collect(tree.root, nodes);
+        Collections.sort(nodes, (lhs, rhs) -> VersionRange.Interval.BY_LOWER.compare(lhs.interval, rhs.interval));
+        if(tree == null) {
+            tree = new Tree<>();
+            trees.put(name, tree);
+        }
+        tree.root = build(nodes);
+        size += added;
+    }
+
+    /**
+     * @param semvername Version to look up
+     * @return Every value registered under semvername's name whose range
+     * matches its version, in no particular order
+     */
+    public List<T> stab(SemanticVersionName semvername) {
+        List<T> matches = new ArrayList<>();
+        Tree<T> tree = trees.get(semvername.getName());
+        if(tree != null)
+            stab(tree.root, semvername.getSemver(), matches);
+        return matches;
+    }
+
+    /**
+     * @return Number of registrations
+     */
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        trees.clear();
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "RangeIndex{names=" + trees.size() + ", size=" + size + "}";
+    }
+
+    private static final class Tree<T> {
+        Node<T> root;
+    }
+
+    private static final class Node<T> {
+        final VersionRange.Interval interval;
+        final VersionRange range;
+        final T value;
+        int priority;
+        Node<T> left;
+        Node<T> right;
+        // Interval with the highest upper end in this subtree
+        VersionRange.Interval maxUpper;
+
+        Node(VersionRange.Interval interval, VersionRange range, T value, int priority) {
+            this.interval = interval;
+            this.range = range;
+            this.value = value;
+            this.priority = priority;
+            this.maxUpper = interval;
+        }
+
+        boolean matches(VersionRange range, T value) {
+            return this.range.equals(range) && Objects.equals(this.value, value);
+        }
+
+        void update() {
+            VersionRange.Interval max = interval;
+            if(left != null && VersionRange.Interval.compareUpper(left.maxUpper, max) > 0)
+                max = left.maxUpper;
+            if(right != null && VersionRange.Interval.compareUpper(right.maxUpper, max) > 0)
+                max = right.maxUpper;
+            maxUpper = max;
+        }
+    }
+
+    private static <T> void stab(Node<T> node, SemanticVersion semver, List<T> matches) {
+        while(node != null && !node.maxUpper.endsBefore(semver)) {
+            stab(node.left, semver, matches);
+            // Everything to the right starts at or after this node
+            if(node.interval.startsAfter(semver))
+                return;
+            if(!node.interval.endsBefore(semver))
+                matches.add(node.value);
+            node = node.right;
+        }
+    }
+
+    private static <T> Node<T> insert(Node<T> node, Node<T> inserted) {
+        if(node == null)
+            return inserted;
+        if(VersionRange.Interval.BY_LOWER.compare(inserted.interval, node.interval) < 0) {
+            node.left = insert(node.left, inserted);
+            if(node.left.priority > node.priority)
+                node = rotateRight(node);
+        }
+        else {
+            node.right = insert(node.right, inserted);
+            if(node.right.priority > node.priority)
+                node = rotateLeft(node);
+        }
+        node.update();
+        return node;
+    }
+
+    private static <T> boolean contains(Node<T> node, VersionRange.Interval interval, VersionRange range, T value) {
+        while(node != null) {
+            int compare = VersionRange.Interval.BY_LOWER.compare(interval, node.interval);
+            if(compare < 0)
+                node = node.left;
+            else if(compare > 0)
+                node = node.right;
+            else if(node.interval.equals(interval) && node.matches(range, value))
+                return true;
+            else {
+                // Rotations can leave equal lower ends on both sides
+                return contains(node.left, interval, range, value) || contains(node.right, interval, range, value);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Deletes one node for interval, range and value, which must be present.
+     */
+    private static <T> Node<T> delete(Node<T> node, VersionRange.Interval interval, VersionRange range, T value) {
+        int compare = VersionRange.Interval.BY_LOWER.compare(interval, node.interval);
+        if(compare < 0)
+            node.left = delete(node.left, interval, range, value);
+        else if(compare > 0)
+            node.right = delete(node.right, interval, range, value);
+        else if(node.interval.equals(interval) && node.matches(range, value))
+            return merge(node.left, node.right);
+        else if(contains(node.left, interval, range, value))
+            node.left = delete(node.left, interval, range, value);
+        else
+            node.right = delete(node.right, interval, range, value);
+        node.update();
+        return node;
+    }
+
+    /**
+     * Joins two treaps where everything in left sorts before right.
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if(left == null)
+            return right;
+        if(right == null)
+            return left;
+        if(left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        return left;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        return right;
+    }
+
+    private static <T> void collect(Node<T> node, List<Node<T>> nodes) {
+        if(node == null)
+            return;
+        collect(node.left, nodes);
+        node.left = null;
+        nodes.add(node);
+        collect(node.right, nodes);
+        node.right = null;
+    }
+
+    /**
+     * Builds a balanced tree from nodes sorted by lower end, then hands out
+     * random priorities in decreasing order level by level so the heap
+     * property holds for later inserts.
+     */
+    private Node<T> build(List<Node<T>> nodes) {
+        Node<T> root = build(nodes, 0, nodes.size());
+        int[] priorities = new int[nodes.size()];
+        for(int i = 0; i < priorities.length; i++)
+            priorities[i] = random.nextInt();
+        Arrays.sort(priorities);
+        int next = priorities.length;
+        ArrayDeque<Node<T>> queue = new ArrayDeque<>();
+        queue.add(root);
+        while(!queue.isEmpty()) {
+            Node<T> node = queue.poll();
+            node.priority = priorities[--next];
+            if(node.left != null)
+                queue.add(node.left);
+            if(node.right != null)
+                queue.add(node.right);
+        }
+        return root;
+    }
+
+    private static <T> Node<T> build(List<Node<T>> nodes, int from, int to) {
+        if(from == to)
+            return null;
+        int mid = (from + to) >>> 1;
+        Node<T> node = nodes.get(mid);
+        node.left = build(nodes, from, mid);
+        node.right = build(nodes, mid + 1, to);
+        node.update();
+        return node;
+    }
+}
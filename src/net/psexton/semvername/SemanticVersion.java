@@ -17,9 +17,14 @@
  */
 package net.psexton.semvername;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * SemanticVersion.
@@ -27,43 +32,198 @@ import java.util.regex.Pattern;
  * Immutable class.
  * @author PSexton
  */
-public class SemanticVersion implements Comparable<SemanticVersion> {
-    private final Integer major;
-    private final Integer minor;
-    private final Integer patch;
+public class SemanticVersion implements Comparable<SemanticVersion>, Serializable {
+    private static final long serialVersionUID = 1L;
+    
+    private final int major;
+    private final int minor;
+    private final int patch;
     private final String prerelease;
+    private final long packedKey;
+    // The first PRERELEASE_KEY_CHARS chars of the prerelease, 6 bits each,
+    // so that Integer.compare on keys agrees with String.compareTo on
+    // prereleases whenever the keys differ. Fits in what would otherwise be
+    // padding, so it costs no memory per instance.
+    private final int prereleaseKey;
+    // Set by toCachedString(); racy but idempotent, like String.hash
+    private String rendered;
+    // Lazily cached hashCode(), 0 until first computed, like String.hash
+    private int hash;
+    
+    /**
+     * Value of toPackedKey() when a component is too large to pack.
+     */
+    public static final long UNPACKABLE = -1L;
+    
+    // Packed key layout, from the most significant end: a clear sign bit,
+    // 20 bits of major, 21 bits of minor, 21 bits of patch, and a release bit
+    // that is set when there is no prerelease. Ordering the keys with
+    // Long.compare matches compareTo up to the prerelease tie-break.
+    static final int MAJOR_BITS = 20;
+    static final int MINOR_BITS = 21;
+    static final int PATCH_BITS = 21;
+    static final int PATCH_SHIFT = 1;
+    static final int MINOR_SHIFT = PATCH_SHIFT + PATCH_BITS;
+    static final int MAJOR_SHIFT = MINOR_SHIFT + MINOR_BITS;
+    static final long RELEASE_BIT = 1L;
+    
+    static final int PRERELEASE_KEY_CHARS = 5;
+    private static final int PRERELEASE_KEY_CHAR_BITS = 6;
 
     public static SemanticVersion valueOf(String semVerString) {
-        if(semVerString == null || semVerString.isEmpty())
-            throw new IllegalArgumentException("string cannot be null or empty");
-        
-        // First use regex to break into major/minor/patch/prerelease parts
-        Pattern pattern = Pattern.compile("(\\d+)\\.(\\d+)\\.(\\d+)(-(.+))?");
-        Matcher matcher = pattern.matcher(semVerString);
-        if(!matcher.matches())
-            throw new IllegalArgumentException("string did not match regex");
-        
-        String majorCapture = matcher.group(1);
-        String minorCapture = matcher.group(2);
-        String patchCapture = matcher.group(3);
-        String prereleaseCapture = matcher.group(5);
-        
-        // If there was no prerelease, prereleaseCapture is null
-        if(prereleaseCapture == null)
-            prereleaseCapture = "";
-        
-        // Check that major/minor/patch can be converted to ints
-        // A NumberFormatException may be thrown here, but seems unlikely, as it
-        // shouldn't have matched the regex
-        
-        return new SemanticVersion(Integer.valueOf(majorCapture), Integer.valueOf(minorCapture), Integer.valueOf(patchCapture), prereleaseCapture);
+        return Parser.parseSemanticVersion(semVerString);
+    }
+    
+    /**
+     * Parses a semver from any CharSequence, e.g. a StringBuilder or CharBuffer,
+     * without first copying it into a String.
+     * @param chars Characters to parse
+     * @return Parsed semver
+     */
+    public static SemanticVersion valueOf(CharSequence chars) {
+        return Parser.parseSemanticVersion(chars);
+    }
+    
+    /**
+     * Parses the semver in chars[start, end).
+     * @param chars Characters to parse
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @return Parsed semver
+     */
+    public static SemanticVersion valueOf(CharSequence chars, int start, int end) {
+        return Parser.parseSemanticVersion(chars, start, end);
+    }
+    
+    /**
+     * Parses the semver in chars[offset, offset + length).
+     * @param chars Characters to parse
+     * @param offset Index of the first character
+     * @param length Number of characters
+     * @return Parsed semver
+     */
+    public static SemanticVersion valueOf(char[] chars, int offset, int length) {
+        return Parser.parseSemanticVersion(Parser.wrap(chars), offset, offset + length);
+    }
+    
+    /**
+     * Parses the ASCII-encoded semver in bytes[offset, offset + length), without
+     * decoding the bytes into a String first. UTF-8 input is fine, as any
+     * non-ASCII byte is rejected by the grammar anyway.
+     * @param bytes ASCII bytes to parse
+     * @param offset Index of the first byte
+     * @param length Number of bytes
+     * @return Parsed semver
+     */
+    public static SemanticVersion valueOf(byte[] bytes, int offset, int length) {
+        return Parser.parseSemanticVersion(AsciiSequence.of(bytes), offset, offset + length);
+    }
+    
+    /**
+     * Parses the ASCII-encoded semver at buffer[offset, offset + length), using
+     * absolute indexes. The buffer's position and limit are not changed.
+     * @param buffer ASCII bytes to parse, heap or direct
+     * @param offset Absolute index of the first byte
+     * @param length Number of bytes
+     * @return Parsed semver
+     */
+    public static SemanticVersion valueOf(ByteBuffer buffer, int offset, int length) {
+        return Parser.parseSemanticVersion(AsciiSequence.of(buffer), offset, offset + length);
+    }
+    
+    /**
+     * Same as valueOf, but reports invalid input through the result instead
+     * of throwing, so rejecting a string costs no exception or stack trace.
+     * @param semVerString String to parse
+     * @return Result holding the parsed semver, or the error and its offset
+     */
+    public static ParseResult<SemanticVersion> tryParse(String semVerString) {
+        return Parser.tryParseSemanticVersion(semVerString);
+    }
+    
+    /**
+     * Non-throwing form of valueOf(CharSequence, int, int).
+     * @param chars Characters to parse
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @return Result holding the parsed semver, or the error and its offset
+     */
+    public static ParseResult<SemanticVersion> tryParse(CharSequence chars, int start, int end) {
+        return Parser.tryParseSemanticVersion(chars, start, end);
+    }
+    
+    /**
+     * Non-throwing form of valueOf(char[], int, int).
+     * @param chars Characters to parse
+     * @param offset Index of the first character
+     * @param length Number of characters
+     * @return Result holding the parsed semver, or the error and its offset
+     */
+    public static ParseResult<SemanticVersion> tryParse(char[] chars, int offset, int length) {
+        return Parser.tryParseSemanticVersion(Parser.wrap(chars), offset, offset + length);
+    }
+    
+    /**
+     * Non-throwing form of valueOf(byte[], int, int).
+     * @param bytes ASCII bytes to parse
+     * @param offset Index of the first byte
+     * @param length Number of bytes
+     * @return Result holding the parsed semver, or the error and its offset
+     */
+    public static ParseResult<SemanticVersion> tryParse(byte[] bytes, int offset, int length) {
+        return Parser.tryParseSemanticVersion(AsciiSequence.of(bytes), offset, offset + length);
+    }
+    
+    /**
+     * Non-throwing form of valueOf(ByteBuffer, int, int).
+     * @param buffer ASCII bytes to parse, heap or direct
+     * @param offset Absolute index of the first byte
+     * @param length Number of bytes
+     * @return Result holding the parsed semver, or the error and its offset
+     */
+    public static ParseResult<SemanticVersion> tryParse(ByteBuffer buffer, int offset, int length) {
+        return Parser.tryParseSemanticVersion(AsciiSequence.of(buffer), offset, offset + length);
+    }
+    
+    /**
+     * Same as valueOf, but served from the shared ParseCache, so repeated
+     * strings are parsed once and then shared while they stay cached.
+     * @param semVerString String to parse
+     * @return Parsed semver
+     * @see ParseCache#defaultSemanticVersionCache()
+     */
+    public static SemanticVersion cachedValueOf(String semVerString) {
+        return ParseCache.defaultSemanticVersionCache().get(semVerString);
     }
     
     /**
      * Returns an "empty" semver of 0.0.0.
      */
     public SemanticVersion() {
-        this(0, 0, 0, "");
+        this(0, 0, 0, "", false);
+    }
+    
+    /**
+     * Same as new SemanticVersion(major, minor, patch), without boxing.
+     * @param major Non-negative major version
+     * @param minor Non-negative minor version
+     * @param patch Non-negative patch version
+     * @return New SemanticVersion with no prerelease
+     */
+    public static SemanticVersion of(int major, int minor, int patch) {
+        return new SemanticVersion(major, minor, patch, "", true);
+    }
+    
+    /**
+     * Same as new SemanticVersion(major, minor, patch, prerelease), without boxing.
+     * @param major Non-negative major version
+     * @param minor Non-negative minor version
+     * @param patch Non-negative patch version
+     * @param prerelease Prerelease, or "" for none
+     * @return New SemanticVersion
+     */
+    public static SemanticVersion of(int major, int minor, int patch, String prerelease) {
+        return new SemanticVersion(major, minor, patch, prerelease, true);
     }
     
     public SemanticVersion(Integer major, Integer minor, Integer patch) {
@@ -71,46 +231,146 @@ public class SemanticVersion implements Comparable<SemanticVersion> {
     }
     
     public SemanticVersion(Integer major, Integer minor, Integer patch, String prerelease) {
-        // Validate major
-        if(major == null)
-            throw new IllegalArgumentException("major value cannot be null");
-        if(major < 0)
-            throw new IllegalArgumentException("major value must be non-negative");
-        // Validate minor
-        if(minor == null)
-            throw new IllegalArgumentException("minor value cannot be null");
-        if(minor < 0)
-            throw new IllegalArgumentException("minor value must be non-negative");
-        // Validate patch
-        if(patch == null)
-            throw new IllegalArgumentException("patch value cannot be null");
-        if(patch < 0)
-            throw new IllegalArgumentException("patch value must be non-negative");
-        // Validate prerelease
-        if(prerelease == null)
-            throw new IllegalArgumentException("prerelease string cannot be null");
-        Pattern p = Pattern.compile("[^a-zA-Z0-9-]");
-        if(p.matcher(prerelease).find())
-            throw new IllegalArgumentException("prerelease string is restricted to alphanumerics and hyphens");
+        this(unbox(major, "major"), unbox(minor, "minor"), unbox(patch, "patch"), prerelease, true);
+    }
+    
+    /**
+     * Shared constructor. Callers that have already validated every field,
+     * such as Parser, pass validate as false to skip the checks.
+     */
+    SemanticVersion(int major, int minor, int patch, String prerelease, boolean validate) {
+        if(validate) {
+            checkNumber(major, "major");
+            checkNumber(minor, "minor");
+            checkNumber(patch, "patch");
+            checkPrerelease(prerelease);
+        }
         
         this.major = major;
         this.minor = minor;
         this.patch = patch;
-        this.prerelease = prerelease;
+        // Parsed and decoded prereleases are already canonical
+        this.prerelease = validate ? PrereleaseDictionary.shared().internChecked(prerelease) : prerelease;
+        this.packedKey = pack(major, minor, patch, prerelease.isEmpty());
+        this.prereleaseKey = prereleaseKey(prerelease);
+    }
+    
+    /**
+     * Packs the first PRERELEASE_KEY_CHARS chars of prerelease in order,
+     * mapping '-', digits, upper case, and lower case letters to 1 through
+     * 63 so the codes keep String order, and padding short prereleases
+     * with 0 so they sort before longer ones.
+     */
+    static int prereleaseKey(String prerelease) {
+        int key = 0;
+        for(int i = 0; i < PRERELEASE_KEY_CHARS; i++) {
+            int code = 0;
+            if(i < prerelease.length()) {
+                char c = prerelease.charAt(i);
+                if(c == '-')
+                    code = 1;
+                else if(c <= '9')
+                    code = 2 + (c - '0');
+                else if(c <= 'Z')
+                    code = 12 + (c - 'A');
+                else
+                    code = 38 + (c - 'a');
+            }
+            key = (key << PRERELEASE_KEY_CHAR_BITS) | code;
+        }
+        return key;
+    }
+    
+    private static int unbox(Integer value, String field) {
+        if(value == null)
+            throw new IllegalArgumentException(field + " value cannot be null");
+        return value;
+    }
+    
+    static int checkNumber(int value, String field) {
+        if(value < 0)
+            throw new IllegalArgumentException(field + " value must be non-negative");
+        return value;
+    }
+    
+    static String checkPrerelease(String prerelease) {
+        if(prerelease == null)
+            throw new IllegalArgumentException("prerelease string cannot be null");
+        for(int i = 0; i < prerelease.length(); i++) {
+            if(!Parser.isPrereleaseChar(prerelease.charAt(i)))
+                throw new IllegalArgumentException("prerelease string is restricted to alphanumerics and hyphens");
+        }
+        return prerelease;
+    }
+    
+    /**
+     * Rebuilds a release (no prerelease) version from its packed key.
+     * @param key Value previously returned by toPackedKey()
+     * @return SemanticVersion with the packed major, minor, and patch
+     */
+    public static SemanticVersion fromPackedKey(long key) {
+        return fromPackedKey(key, "");
+    }
+    
+    /**
+     * Rebuilds a version from its packed key. The key only records whether
+     * there was a prerelease, so the prerelease string must be supplied again.
+     * @param key Value previously returned by toPackedKey()
+     * @param prerelease Prerelease string, empty if the key is for a release
+     * @return SemanticVersion with the packed major, minor, and patch
+     */
+    public static SemanticVersion fromPackedKey(long key, String prerelease) {
+        if(key < 0)
+            throw new IllegalArgumentException("packed key must be non-negative");
+        if(prerelease == null)
+            throw new IllegalArgumentException("prerelease string cannot be null");
+        if(((key & RELEASE_BIT) != 0) != prerelease.isEmpty())
+            throw new IllegalArgumentException("prerelease string does not match packed key");
+        return new SemanticVersion(unpackMajor(key), unpackMinor(key), unpackPatch(key), prerelease, true);
+    }
+    
+    static int unpackMajor(long key) {
+        return (int) (key >>> MAJOR_SHIFT);
+    }
+    
+    static int unpackMinor(long key) {
+        return (int) ((key >>> MINOR_SHIFT) & ((1L << MINOR_BITS) - 1));
+    }
+    
+    static int unpackPatch(long key) {
+        return (int) ((key >>> PATCH_SHIFT) & ((1L << PATCH_BITS) - 1));
+    }
+    
+    static long pack(int major, int minor, int patch, boolean release) {
+        if(major >>> MAJOR_BITS != 0 || minor >>> MINOR_BITS != 0 || patch >>> PATCH_BITS != 0)
+            return UNPACKABLE;
+        return ((long) major << MAJOR_SHIFT)
+                | ((long) minor << MINOR_SHIFT)
+                | ((long) patch << PATCH_SHIFT)
+                | (release ? RELEASE_BIT : 0L);
     }
     
     @Override
     public int compareTo(SemanticVersion rhs) {
+        // Fast path: one comparison of the packed keys, falling back to the
+        // prereleases only when both have one and the numbers tie
+        if(this.packedKey >= 0 && rhs.packedKey >= 0) {
+            int compareKeys = Long.compare(this.packedKey, rhs.packedKey);
+            if(compareKeys != 0 || (this.packedKey & RELEASE_BIT) != 0)
+                return compareKeys;
+            return comparePrereleases(rhs);
+        }
+        
         // First compare majors. If not equal, return that.
-        int compareMajors = this.major.compareTo(rhs.major);
+        int compareMajors = Integer.compare(this.major, rhs.major);
         if(compareMajors != 0)
             return compareMajors;
         // Next compare minors. If not equal, return that.
-        int compareMinors = this.minor.compareTo(rhs.minor);
+        int compareMinors = Integer.compare(this.minor, rhs.minor);
         if(compareMinors != 0)
             return compareMinors;
         // Next compare patches. If not equal, return that.
-        int comparePatches = this.patch.compareTo(rhs.patch);
+        int comparePatches = Integer.compare(this.patch, rhs.patch);
         if(comparePatches != 0)
             return comparePatches;
         // Major, minor, and patch are equal. Compare prereleases.
@@ -122,7 +382,20 @@ public class SemanticVersion implements Comparable<SemanticVersion> {
         if(this.prerelease.isEmpty() && rhs.prerelease.isEmpty())
             return 0;
         // Major, minor, and patch are equal, and both have non-empty prereleases
-        // Use String's compareTo
+        return comparePrereleases(rhs);
+    }
+    
+    /**
+     * Same as String's compareTo on the prereleases, deciding by the
+     * prerelease keys alone unless both prereleases start alike and one is
+     * too long for its key to hold it all.
+     */
+    private int comparePrereleases(SemanticVersion rhs) {
+        if(this.prereleaseKey != rhs.prereleaseKey)
+            return Integer.compare(this.prereleaseKey, rhs.prereleaseKey);
+        if(this.prerelease == rhs.prerelease
+                || (this.prerelease.length() <= PRERELEASE_KEY_CHARS && rhs.prerelease.length() <= PRERELEASE_KEY_CHARS))
+            return 0;
         return this.prerelease.compareTo(rhs.prerelease);
     }
     
@@ -137,11 +410,11 @@ public class SemanticVersion implements Comparable<SemanticVersion> {
             return true;
         
         // If rhs.major == 0, always return false
-        if(rhs.major.equals(0))
+        if(rhs.major == 0)
             return false;
         
         // If rhs.major >= 1, return true if this.major == rhs.major && this > rhs
-        return (this.major.equals(rhs.major) && this.compareTo(rhs) == 1);
+        return (this.major == rhs.major && this.compareTo(rhs) > 0);
     }
     
     //
@@ -159,48 +432,326 @@ public class SemanticVersion implements Comparable<SemanticVersion> {
     public Integer getPatch() {
         return patch;
     }
+    
+    /**
+     * Same as getMajor(), without boxing.
+     */
+    public int major() {
+        return major;
+    }
+    
+    /**
+     * Same as getMinor(), without boxing.
+     */
+    public int minor() {
+        return minor;
+    }
+    
+    /**
+     * Same as getPatch(), without boxing.
+     */
+    public int patch() {
+        return patch;
+    }
 
     public String getPrerelease() {
         return prerelease;
     }
     
+    /**
+     * Packs major, minor, patch, and whether there is a prerelease into a
+     * single long. Comparing two packed keys with Long.compare gives the same
+     * order as compareTo, except that versions with equal numbers and
+     * different prereleases share a key.
+     * Major is limited to 20 bits, and minor and patch to 21 bits each.
+     * @return The packed key, or UNPACKABLE if a component is out of range
+     */
+    public long toPackedKey() {
+        return packedKey;
+    }
+    
+    /**
+     * @return True if toPackedKey() returns a usable key
+     */
+    public boolean isPackable() {
+        return packedKey != UNPACKABLE;
+    }
+    
+    // The setters only validate the field they change; the rest of this
+    // instance was validated when it was built.
+    
     public SemanticVersion setMajor(Integer major) {
-        return new SemanticVersion(major, minor, patch, prerelease);
+        return withMajor(unbox(major, "major"));
     }
 
     public SemanticVersion setMinor(Integer minor) {
-        return new SemanticVersion(major, minor, patch, prerelease);
+        return withMinor(unbox(minor, "minor"));
     }
 
     public SemanticVersion setPatch(Integer patch) {
-        return new SemanticVersion(major, minor, patch, prerelease);
+        return withPatch(unbox(patch, "patch"));
     }
 
     public SemanticVersion setPrerelease(String prerelease) {
-        return new SemanticVersion(major, minor, patch, prerelease);
+        return new SemanticVersion(major, minor, patch, checkPrerelease(prerelease), false);
+    }
+    
+    /**
+     * Same as setMajor(major), without boxing.
+     */
+    public SemanticVersion withMajor(int major) {
+        return new SemanticVersion(checkNumber(major, "major"), minor, patch, prerelease, false);
+    }
+    
+    /**
+     * Same as setMinor(minor), without boxing.
+     */
+    public SemanticVersion withMinor(int minor) {
+        return new SemanticVersion(major, checkNumber(minor, "minor"), patch, prerelease, false);
+    }
+    
+    /**
+     * Same as setPatch(patch), without boxing.
+     */
+    public SemanticVersion withPatch(int patch) {
+        return new SemanticVersion(major, minor, checkNumber(patch, "patch"), prerelease, false);
+    }
+    
+    /**
+     * @return New Builder starting from this version's fields
+     */
+    public Builder toBuilder() {
+        return new Builder().set(this);
+    }
+    
+    /**
+     * Mutable builder for SemanticVersions. Setters don't validate; build()
+     * checks every field once. A Builder can be reused: build() leaves its
+     * fields in place, so a loop can change one field and build again.
+     * Not thread-safe.
+     */
+    public static final class Builder {
+        private int major;
+        private int minor;
+        private int patch;
+        private String prerelease = "";
+        
+        /**
+         * Starts from 0.0.0 with no prerelease.
+         */
+        public Builder() {
+        }
+        
+        /**
+         * Copies every field of semver.
+         * @param semver Version to copy
+         * @return This Builder
+         */
+        public Builder set(SemanticVersion semver) {
+            this.major = semver.major;
+            this.minor = semver.minor;
+            this.patch = semver.patch;
+            this.prerelease = semver.prerelease;
+            return this;
+        }
+        
+        public Builder major(int major) {
+            this.major = major;
+            return this;
+        }
+        
+        public Builder minor(int minor) {
+            this.minor = minor;
+            return this;
+        }
+        
+        public Builder patch(int patch) {
+            this.patch = patch;
+            return this;
+        }
+        
+        public Builder prerelease(String prerelease) {
+            this.prerelease = prerelease;
+            return this;
+        }
+        
+        /**
+         * Resets to 0.0.0 with no prerelease.
+         * @return This Builder
+         */
+        public Builder clear() {
+            major = 0;
+            minor = 0;
+            patch = 0;
+            prerelease = "";
+            return this;
+        }
+        
+        /**
+         * @return New SemanticVersion from the current fields
+         * @throws IllegalArgumentException if a field is invalid
+         */
+        public SemanticVersion build() {
+            return new SemanticVersion(major, minor, patch, prerelease, true);
+        }
+        
+        @Override
+        public String toString() {
+            return "Builder{" + major + "." + minor + "." + patch + (prerelease == null || prerelease.isEmpty() ? "" : "-" + prerelease) + "}";
+        }
+    }
+
+    /**
+     * Returns the canonical instance equal to this one, like String.intern().
+     * Canonical instances are only weakly held, so interning doesn't keep
+     * otherwise unused versions alive.
+     * @return Canonical SemanticVersion
+     * @see Interner#defaultSemanticVersionInterner()
+     */
+    public SemanticVersion intern() {
+        return Interner.defaultSemanticVersionInterner().intern(this);
     }
 
     @Override
     public String toString() {
-        String numericPart = major + "." + minor + "." + patch;
+        String cached = rendered;
+        if(cached != null)
+            return cached;
+        return appendTo(new StringBuilder(asciiLength())).toString();
+    }
+    
+    /**
+     * Same as toString(), but keeps the result on this instance so later
+     * calls to either method return it without rendering again. Meant for
+     * values that are printed over and over; costs a String per instance.
+     * @return String form of this semver
+     */
+    public String toCachedString() {
+        String cached = rendered;
+        if(cached == null)
+            rendered = cached = toString();
+        return cached;
+    }
+    
+    /**
+     * Appends the same text as toString() without building a String.
+     * @param sb Destination
+     * @return sb
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        sb.append(major).append('.').append(minor).append('.').append(patch);
+        if(!prerelease.isEmpty())
+            sb.append('-').append(prerelease);
+        return sb;
+    }
+    
+    /**
+     * Appends the same text as toString() without building a String.
+     * @param out Destination, e.g. a Writer
+     * @return out
+     * @throws IOException if out does
+     */
+    public Appendable appendTo(Appendable out) throws IOException {
+        Ascii.appendDecimal(out, major);
+        out.append('.');
+        Ascii.appendDecimal(out, minor);
+        out.append('.');
+        Ascii.appendDecimal(out, patch);
+        if(!prerelease.isEmpty())
+            out.append('-').append(prerelease);
+        return out;
+    }
+    
+    /**
+     * @return Length of toString(), which is also the number of bytes
+     * writeAscii writes
+     */
+    public int asciiLength() {
+        int length = Ascii.decimalLength(major) + Ascii.decimalLength(minor) + Ascii.decimalLength(patch) + 2;
         if(!prerelease.isEmpty())
-            return numericPart + "-" + prerelease;
-        else
-            return numericPart;
+            length += prerelease.length() + 1;
+        return length;
+    }
+    
+    /**
+     * Writes toString() as ASCII bytes.
+     * @param dst Destination array
+     * @param offset Index to write the first byte at
+     * @return Index after the last byte written
+     * @throws IndexOutOfBoundsException if asciiLength() bytes don't fit;
+     * nothing is written in that case
+     */
+    public int writeAscii(byte[] dst, int offset) {
+        Ascii.checkRoom(dst, offset, asciiLength());
+        return writeAsciiUnchecked(dst, offset);
+    }
+    
+    int writeAsciiUnchecked(byte[] dst, int offset) {
+        offset = Ascii.putDecimal(dst, offset, major);
+        dst[offset++] = '.';
+        offset = Ascii.putDecimal(dst, offset, minor);
+        dst[offset++] = '.';
+        offset = Ascii.putDecimal(dst, offset, patch);
+        if(!prerelease.isEmpty()) {
+            dst[offset++] = '-';
+            offset = Ascii.putString(dst, offset, prerelease);
+        }
+        return offset;
+    }
+    
+    /**
+     * Writes toString() as ASCII bytes at the buffer's position, advancing it.
+     * @param dst Destination buffer
+     * @throws BufferOverflowException if asciiLength() bytes don't fit;
+     * nothing is written in that case
+     */
+    public void writeAscii(ByteBuffer dst) {
+        Ascii.checkRoom(dst, asciiLength());
+        writeAsciiUnchecked(dst);
+    }
+    
+    void writeAsciiUnchecked(ByteBuffer dst) {
+        Ascii.putDecimal(dst, major);
+        dst.put((byte) '.');
+        Ascii.putDecimal(dst, minor);
+        dst.put((byte) '.');
+        Ascii.putDecimal(dst, patch);
+        if(!prerelease.isEmpty()) {
+            dst.put((byte) '-');
+            Ascii.putString(dst, prerelease);
+        }
     }
 
+    /**
+     * Serializes as a compact ExternalForm instead of the default form.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return new ExternalForm(this);
+    }
+    
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("SemanticVersion is deserialized through ExternalForm");
+    }
+    
     @Override
     public int hashCode() {
-        int hash = 5;
-        hash = 53 * hash + Objects.hashCode(this.major);
-        hash = 53 * hash + Objects.hashCode(this.minor);
-        hash = 53 * hash + Objects.hashCode(this.patch);
-        hash = 53 * hash + Objects.hashCode(this.prerelease);
+        int hash = this.hash;
+        if(hash == 0) {
+            hash = 5;
+            hash = 53 * hash + this.major;
+            hash = 53 * hash + this.minor;
+            hash = 53 * hash + this.patch;
+            hash = 53 * hash + Objects.hashCode(this.prerelease);
+            this.hash = hash;
+        }
         return hash;
     }
 
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
         if (obj == null) {
             return false;
         }
@@ -208,13 +759,21 @@ public class SemanticVersion implements Comparable<SemanticVersion> {
             return false;
         }
         final SemanticVersion other = (SemanticVersion) obj;
-        if (!Objects.equals(this.major, other.major)) {
+        // Cheap rejections first: differing packed or prerelease keys, or differing
+        // hashes when both have already been computed
+        if (this.packedKey != other.packedKey || this.prereleaseKey != other.prereleaseKey) {
+            return false;
+        }
+        if (this.hash != 0 && other.hash != 0 && this.hash != other.hash) {
+            return false;
+        }
+        if (this.major != other.major) {
             return false;
         }
-        if (!Objects.equals(this.minor, other.minor)) {
+        if (this.minor != other.minor) {
             return false;
         }
-        if (!Objects.equals(this.patch, other.patch)) {
+        if (this.patch != other.patch) {
             return false;
         }
         if (!Objects.equals(this.prerelease, other.prerelease)) {
@@ -0,0 +1,456 @@
+/*
+ * SemanticVersion2.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 4:36:21 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+/**
+ * SemanticVersion2.
+ * Implements a Semantic Versioning 2.0.0 version number, as an opt-in
+ * alternative to SemanticVersion's 1.0.0 rules: prereleases are dot-separated
+ * identifiers, an optional +build suffix is carried but ignored in ordering,
+ * and numbers cannot have leading zeros.
+ * Prerelease identifiers are tokenized once, when the version is created,
+ * into a numeric value per identifier (or -1 for an alphanumeric one) and a
+ * shared String per alphanumeric identifier, so compareTo never splits or
+ * parses. Those Strings come from a PrereleaseDictionary of their own, as
+ * large as the shared one, since dotted tags aren't valid 1.0.0
+ * prereleases. As with SemanticVersion, versions whose numbers fit a packed
+ * key are ordered by one long comparison unless both are prereleases of the
+ * same major.minor.patch.
+ * compareTo gives 2.0.0 precedence, so versions differing only in build
+ * metadata compare as 0 while equals tells them apart, the same way
+ * BigDecimal treats scale.
+ * Immutable class.
+ * @author PSexton
+ */
+public final class SemanticVersion2 implements Comparable<SemanticVersion2> {
+    private static final String[] NO_IDENTIFIERS = new String[0];
+    private static final long[] NO_NUMBERS = new long[0];
+    private static final PrereleaseDictionary DICTIONARY = new PrereleaseDictionary(PrereleaseDictionary.shared().capacity());
+
+    private final int major;
+    private final int minor;
+    private final int patch;
+    private final String prerelease;
+    private final String build;
+    // Per prerelease identifier: its value if numeric, else -1 and the
+    // identifier in identifiers
+    private final long[] numbers;
+    private final String[] identifiers;
+    private final long packedKey;
+    // Lazily cached hashCode(), 0 until first computed, like String.hash
+    private int hash;
+
+    private SemanticVersion2(int major, int minor, int patch, String prerelease, long[] numbers, String[] identifiers, String build) {
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+        this.prerelease = prerelease;
+        this.numbers = numbers;
+        this.identifiers = identifiers;
+        this.build = build;
+        this.packedKey = SemanticVersion.pack(major, minor, patch, prerelease.isEmpty());
+    }
+
+    /**
+     * Parses major.minor.patch[-prerelease][+build].
+     * @param s Text to parse
+     * @return Parsed version
+     * @throws IllegalArgumentException if s is not a valid 2.0.0 version
+     */
+    public static SemanticVersion2 valueOf(CharSequence s) {
+        return scan(s, 0, (s == null) ? 0 : s.length(), null);
+    }
+
+    /**
+     * Parses s[start, end) without copying it.
+     * @see #valueOf(CharSequence)
+     */
+    public static SemanticVersion2 valueOf(CharSequence s, int start, int end) {
+        checkRange(s, start, end);
+        return scan(s, start, end, null);
+    }
+
+    /**
+     * Non-throwing form of valueOf(CharSequence).
+     * @return Result holding the parsed version, or the error and its offset
+     */
+    public static ParseResult<SemanticVersion2> tryParse(CharSequence s) {
+        return tryParse(s, 0, (s == null) ? 0 : s.length());
+    }
+
+    /**
+     * Non-throwing form of valueOf(CharSequence, int, int).
+     * @return Result holding the parsed version, or the error and its offset
+     */
+    public static ParseResult<SemanticVersion2> tryParse(CharSequence s, int start, int end) {
+        checkRange(s, start, end);
+        ParseResult<SemanticVersion2> result = new ParseResult<>();
+        SemanticVersion2 value = scan(s, start, end, result);
+        if(value != null)
+            result.succeed(value);
+        return result;
+    }
+
+    public static SemanticVersion2 of(int major, int minor, int patch) {
+        return of(major, minor, patch, "", "");
+    }
+
+    public static SemanticVersion2 of(int major, int minor, int patch, String prerelease) {
+        return of(major, minor, patch, prerelease, "");
+    }
+
+    /**
+     * @param prerelease Dot-separated identifiers, or "" for none
+     * @param build Dot-separated build metadata, or "" for none
+     * @throws IllegalArgumentException if a field is invalid
+     */
+    public static SemanticVersion2 of(int major, int minor, int patch, String prerelease, String build) {
+        SemanticVersion.checkNumber(major, "major");
+        SemanticVersion.checkNumber(minor, "minor");
+        SemanticVersion.checkNumber(patch, "patch");
+        if(prerelease == null)
+            throw new IllegalArgumentException("prerelease string cannot be null");
+        if(build == null)
+            throw new IllegalArgumentException("build string cannot be null");
+        return create(major, minor, patch, prerelease, 0, prerelease.length(), build, 0, build.length(), null);
+    }
+
+    /**
+     * Converts a 1.0.0 version. Its prerelease becomes a single identifier.
+     * @throws IllegalArgumentException if the prerelease is numeric with a
+     * leading zero or too large, which 2.0.0 forbids
+     */
+    public static SemanticVersion2 from(SemanticVersion semver) {
+        return of(semver.major(), semver.minor(), semver.patch(), semver.getPrerelease(), "");
+    }
+
+    static void checkRange(CharSequence s, int start, int end) {
+        int length = (s == null) ? 0 : s.length();
+        if(start < 0 || start > end || end > length)
+            throw new IndexOutOfBoundsException("range [" + start + ", " + end + ") out of bounds for length " + length);
+    }
+
+    static SemanticVersion2 scan(CharSequence s, int from, int to, ParseResult<?> result) {
+        if(s == null || from == to)
+            return Parser.fail(result, ParseError.EMPTY, from);
+
+        int major = 0;
+        int minor = 0;
+        int patch = 0;
+        int i = from;
+        for(int part = 0; part < 3; part++) {
+            if(part > 0) {
+                if(i == to || s.charAt(i) != '.')
+                    return Parser.fail(result, ParseError.EXPECTED_PERIOD, i);
+                i++;
+            }
+            long scan = Parser.scanNumber(s, i, to);
+            if(scan < 0)
+                return Parser.fail(result, ParseError.NUMBER_TOO_LARGE, (int) (-1 - scan));
+            int end = (int) scan;
+            if(end == i)
+                return Parser.fail(result, ParseError.EXPECTED_DIGIT, i);
+            if(end > i + 1 && s.charAt(i) == '0')
+                return Parser.fail(result, ParseError.LEADING_ZERO, i);
+            int value = (int) (scan >> 32);
+            if(part == 0)
+                major = value;
+            else if(part == 1)
+                minor = value;
+            else
+                patch = value;
+            i = end;
+        }
+
+        int preFrom = i;
+        int preTo = i;
+        if(i < to && s.charAt(i) == '-') {
+            preFrom = preTo = ++i;
+            while(preTo < to && s.charAt(preTo) != '+')
+                preTo++;
+            if(preTo == preFrom)
+                return Parser.fail(result, ParseError.EMPTY_PRERELEASE, preFrom);
+            i = preTo;
+        }
+        int buildFrom = i;
+        if(i < to) {
+            if(s.charAt(i) != '+')
+                return Parser.fail(result, ParseError.EXPECTED_PRERELEASE_OR_BUILD, i);
+            buildFrom = i + 1;
+            if(buildFrom == to)
+                return Parser.fail(result, ParseError.EMPTY_BUILD, buildFrom);
+        }
+        else
+            buildFrom = to;
+        return create(major, minor, patch, s, preFrom, preTo, s, buildFrom, to, result);
+    }
+
+    /**
+     * Checks and tokenizes the prerelease pre[preFrom, preTo) and the build
+     * metadata meta[metaFrom, metaTo), either of which may be empty.
+     */
+    private static SemanticVersion2 create(int major, int minor, int patch,
+            CharSequence pre, int preFrom, int preTo, CharSequence meta, int metaFrom, int metaTo, ParseResult<?> result) {
+        String prerelease = "";
+        long[] numbers = NO_NUMBERS;
+        String[] identifiers = NO_IDENTIFIERS;
+        if(preFrom < preTo) {
+            int count = 1;
+            for(int i = preFrom; i < preTo; i++) {
+                char c = pre.charAt(i);
+                if(c == '.')
+                    count++;
+                else if(!Parser.isPrereleaseChar(c))
+                    return Parser.fail(result, ParseError.INVALID_PRERELEASE_CHAR, i);
+            }
+            PrereleaseDictionary dictionary = DICTIONARY;
+            numbers = new long[count];
+            identifiers = new String[count];
+            int start = preFrom;
+            for(int k = 0; k < count; k++) {
+                int end = start;
+                boolean numeric = true;
+                while(end < preTo && pre.charAt(end) != '.') {
+                    numeric &= Parser.isDigit(pre.charAt(end));
+                    end++;
+                }
+                if(end == start)
+                    return Parser.fail(result, ParseError.EMPTY_IDENTIFIER, start);
+                if(numeric) {
+                    if(end > start + 1 && pre.charAt(start) == '0')
+                        return Parser.fail(result, ParseError.LEADING_ZERO, start);
+                    long value = 0;
+                    for(int i = start; i < end; i++) {
+                        int digit = pre.charAt(i) - '0';
+                        if(value > (Long.MAX_VALUE - digit) / 10)
+                            return Parser.fail(result, ParseError.IDENTIFIER_TOO_LARGE, i);
+                        value = value * 10 + digit;
+                    }
+                    numbers[k] = value;
+                }
+                else {
+                    numbers[k] = -1;
+                    identifiers[k] = dictionary.intern(pre, start, end);
+                }
+                start = end + 1;
+            }
+            prerelease = dictionary.intern(pre, preFrom, preTo);
+        }
+
+        String build = "";
+        if(metaFrom < metaTo) {
+            boolean empty = true;
+            for(int i = metaFrom; i < metaTo; i++) {
+                char c = meta.charAt(i);
+                if(c == '.') {
+                    if(empty)
+                        return Parser.fail(result, ParseError.EMPTY_IDENTIFIER, i);
+                    empty = true;
+                }
+                else if(!Parser.isPrereleaseChar(c))
+                    return Parser.fail(result, ParseError.INVALID_BUILD_CHAR, i);
+                else
+                    empty = false;
+            }
+            if(empty)
+                return Parser.fail(result, ParseError.EMPTY_IDENTIFIER, metaTo);
+            build = Parser.slice(meta, metaFrom, metaTo);
+        }
+        return new SemanticVersion2(major, minor, patch, prerelease, numbers, identifiers, build);
+    }
+
+    /**
+     * Orders by Semantic Versioning 2.0.0 precedence: numbers, then a
+     * release above its prereleases, then prerelease identifiers left to
+     * right, numeric ones by value and below alphanumeric ones, which
+     * compare in ASCII order; a prefix is lower. Build metadata is ignored.
+     */
+    @Override
+    public int compareTo(SemanticVersion2 rhs) {
+        if(this.packedKey >= 0 && rhs.packedKey >= 0) {
+            int compareKeys = Long.compare(this.packedKey, rhs.packedKey);
+            if(compareKeys != 0 || (this.packedKey & SemanticVersion.RELEASE_BIT) != 0)
+                return compareKeys;
+            return compareIdentifiers(rhs);
+        }
+
+        int compare = Integer.compare(this.major, rhs.major);
+        if(compare != 0)
+            return compare;
+        compare = Integer.compare(this.minor, rhs.minor);
+        if(compare != 0)
+            return compare;
+        compare = Integer.compare(this.patch, rhs.patch);
+        if(compare != 0)
+            return compare;
+        // A release is greater than any of its prereleases
+        if(this.numbers.length == 0 || rhs.numbers.length == 0)
+            return Boolean.compare(this.numbers.length == 0, rhs.numbers.length == 0);
+        return compareIdentifiers(rhs);
+    }
+
+    /**
+     * Compares the prerelease identifiers of two prereleases.
+     */
+    private int compareIdentifiers(SemanticVersion2 rhs) {
+        if(this.prerelease == rhs.prerelease)
+            return 0;
+        int count = Math.min(this.numbers.length, rhs.numbers.length);
+        for(int k = 0; k < count; k++) {
+            long lhsNumber = this.numbers[k];
+            long rhsNumber = rhs.numbers[k];
+            if(lhsNumber >= 0 || rhsNumber >= 0) {
+                // -1 marks alphanumeric, which sorts above every number
+                if(lhsNumber != rhsNumber)
+                    return (lhsNumber < 0) ? 1 : (rhsNumber < 0) ? -1 : Long.compare(lhsNumber, rhsNumber);
+                continue;
+            }
+            String lhsIdentifier = this.identifiers[k];
+            String rhsIdentifier = rhs.identifiers[k];
+            if(lhsIdentifier != rhsIdentifier) {
+                int compare = lhsIdentifier.compareTo(rhsIdentifier);
+                if(compare != 0)
+                    return compare;
+            }
+        }
+        return Integer.compare(this.numbers.length, rhs.numbers.length);
+    }
+
+    /**
+     * Check for Compatibly Greater Than status, by the same rules as
+     * SemanticVersion.isCompatiblyGreaterThan, using precedence.
+     * @param rhs SemanticVersion2 to compare to
+     * @return True if this is compatibly greater than rhs
+     */
+    public boolean isCompatiblyGreaterThan(SemanticVersion2 rhs) {
+        int compare = this.compareTo(rhs);
+        if(compare == 0)
+            return true;
+        if(rhs.major == 0)
+            return false;
+        return this.major == rhs.major && compare > 0;
+    }
+
+    /**
+     * Shorthand for isCompatiblyGreaterThan
+     * @param rhs SemanticVersion2 to compare to
+     * @return True if this is compatibly greater than rhs
+     */
+    public boolean cgt(SemanticVersion2 rhs) {
+        return isCompatiblyGreaterThan(rhs);
+    }
+
+    public int major() {
+        return major;
+    }
+
+    public int minor() {
+        return minor;
+    }
+
+    public int patch() {
+        return patch;
+    }
+
+    /**
+     * @return Dot-separated prerelease identifiers, or "" for a release
+     */
+    public String getPrerelease() {
+        return prerelease;
+    }
+
+    /**
+     * @return Dot-separated build metadata, or "" for none
+     */
+    public String getBuild() {
+        return build;
+    }
+
+    /**
+     * @return Number of prerelease identifiers, 0 for a release
+     */
+    public int prereleaseIdentifierCount() {
+        return numbers.length;
+    }
+
+    /**
+     * @return The same version without build metadata
+     */
+    public SemanticVersion2 withoutBuild() {
+        if(build.isEmpty())
+            return this;
+        return new SemanticVersion2(major, minor, patch, prerelease, numbers, identifiers, "");
+    }
+
+    /**
+     * Same layout as SemanticVersion.toPackedKey(), so keys of the two
+     * types can share an index. Ordering by key matches compareTo except
+     * between prereleases with equal numbers.
+     * @return Packed key, or SemanticVersion.UNPACKABLE
+     */
+    public long toPackedKey() {
+        return packedKey;
+    }
+
+    public boolean isPackable() {
+        return packedKey >= 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(major).append('.').append(minor).append('.').append(patch);
+        if(!prerelease.isEmpty())
+            sb.append('-').append(prerelease);
+        if(!build.isEmpty())
+            sb.append('+').append(build);
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+        if(hash == 0) {
+            hash = 5;
+            hash = 53 * hash + this.major;
+            hash = 53 * hash + this.minor;
+            hash = 53 * hash + this.patch;
+            hash = 53 * hash + this.prerelease.hashCode();
+            hash = 53 * hash + this.build.hashCode();
+            this.hash = hash;
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final SemanticVersion2 other = (SemanticVersion2) obj;
+        return this.packedKey == other.packedKey
+                && this.major == other.major
+                && this.minor == other.minor
+                && this.patch == other.patch
+                && this.prerelease.equals(other.prerelease)
+                && this.build.equals(other.build);
+    }
+}
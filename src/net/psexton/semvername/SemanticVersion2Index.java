@@ -0,0 +1,176 @@
+/*
+ * SemanticVersion2Index.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 11:06:19 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SemanticVersion2Index.
+ * SemanticVersionIndex for Semantic Versioning 2.0.0: a sorted index of
+ * SemanticVersionName2s, grouped by name and then by major version, giving
+ * the same answers as scanning every entry with cgt and compareTo.
+ * Versions differing only in build metadata have equal precedence but are
+ * distinct entries. Where they tie for an answer, the one with the greatest
+ * build, by String order, is returned by latestCompatible, latest,
+ * latestInMajor and floor, and the one with the least by ceiling; range and
+ * versions list them by build.
+ * Not thread-safe.
+ * @author PSexton
+ */
+public class SemanticVersion2Index {
+    // Precedence, then build, so equals and the tree agree
+    private static final Comparator<SemanticVersionName2> ORDER = Comparator.<SemanticVersionName2>naturalOrder()
+            .thenComparing(semvername -> semvername.getSemver().getBuild());
+
+    private final MajorIndex<SemanticVersionName2> index = new MajorIndex<>(
+            SemanticVersionName2::getName, semvername -> semvername.getSemver().major(), ORDER);
+
+    public SemanticVersion2Index() {
+    }
+
+    /**
+     * @param semvernames Initial contents
+     */
+    public SemanticVersion2Index(Collection<SemanticVersionName2> semvernames) {
+        addAll(semvernames);
+    }
+
+    /**
+     * @param semvername SemanticVersionName2 to add
+     * @return True if it wasn't already present
+     */
+    public boolean add(SemanticVersionName2 semvername) {
+        return index.add(semvername);
+    }
+
+    /**
+     * @param semvernames SemanticVersionName2s to add
+     * @return True if any weren't already present
+     */
+    public boolean addAll(Collection<SemanticVersionName2> semvernames) {
+        boolean changed = false;
+        for(SemanticVersionName2 semvername : semvernames)
+            changed |= add(semvername);
+        return changed;
+    }
+
+    /**
+     * @param semvername SemanticVersionName2 to remove
+     * @return True if it was present
+     */
+    public boolean remove(SemanticVersionName2 semvername) {
+        return index.remove(semvername);
+    }
+
+    public boolean contains(SemanticVersionName2 semvername) {
+        return index.contains(semvername);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public boolean isEmpty() {
+        return index.size() == 0;
+    }
+
+    public void clear() {
+        index.clear();
+    }
+
+    /**
+     * @return Every name with at least one version, in no particular order
+     */
+    public Set<String> names() {
+        return index.names();
+    }
+
+    /**
+     * Newest version that is compatibly greater than pinned, i.e. the
+     * greatest v with v.cgt(pinned).
+     * @param pinned Version currently in use
+     * @return Newest compatible version, or null if there is none
+     */
+    public SemanticVersionName2 latestCompatible(SemanticVersionName2 pinned) {
+        return index.latestCompatible(pinned);
+    }
+
+    /**
+     * @param name Name part
+     * @return Greatest version of name, or null if there is none
+     */
+    public SemanticVersionName2 latest(String name) {
+        return index.latest(name);
+    }
+
+    /**
+     * @param name Name part
+     * @param major Major version
+     * @return Greatest version of name within major, or null if there is none
+     */
+    public SemanticVersionName2 latestInMajor(String name, int major) {
+        return index.latestInMajor(name, major);
+    }
+
+    /**
+     * @param target Version to search for
+     * @return Greatest version with target's name that is less than or equal
+     * to target, or null if there is none
+     */
+    public SemanticVersionName2 floor(SemanticVersionName2 target) {
+        return index.floor(target);
+    }
+
+    /**
+     * @param target Version to search for
+     * @return Least version with target's name that is greater than or equal
+     * to target, or null if there is none
+     */
+    public SemanticVersionName2 ceiling(SemanticVersionName2 target) {
+        return index.ceiling(target);
+    }
+
+    /**
+     * Versions between from and to, in ascending order. Both bounds must have
+     * the same name.
+     * @param from Lower bound
+     * @param fromInclusive True to include from itself
+     * @param to Upper bound
+     * @param toInclusive True to include to itself
+     * @return New list of the matching versions
+     */
+    public List<SemanticVersionName2> range(SemanticVersionName2 from, boolean fromInclusive, SemanticVersionName2 to, boolean toInclusive) {
+        return index.range(from, fromInclusive, to, toInclusive);
+    }
+
+    /**
+     * @param name Name part
+     * @return Every version of name in ascending order, as a new list
+     */
+    public List<SemanticVersionName2> versions(String name) {
+        return index.versions(name);
+    }
+
+    @Override
+    public String toString() {
+        return "SemanticVersion2Index{names=" + index.names().size() + ", size=" + index.size() + "}";
+    }
+}
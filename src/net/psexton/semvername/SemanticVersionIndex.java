@@ -0,0 +1,168 @@
+/*
+ * SemanticVersionIndex.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 1:14:07 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SemanticVersionIndex.
+ * Sorted index of SemanticVersionNames, grouped by name and then by major
+ * version. Answers latest-compatible, floor, ceiling, latest and range
+ * queries with a hash lookup plus a few tree searches, giving the same
+ * answers as scanning every entry with cgt and compareTo.
+ * Not thread-safe.
+ * @author PSexton
+ */
+public class SemanticVersionIndex {
+    private final MajorIndex<SemanticVersionName> index = new MajorIndex<>(
+            SemanticVersionName::getName, semvername -> semvername.getSemver().major(), Comparator.naturalOrder());
+
+    public SemanticVersionIndex() {
+    }
+
+    /**
+     * @param semvernames Initial contents
+     */
+    public SemanticVersionIndex(Collection<SemanticVersionName> semvernames) {
+        addAll(semvernames);
+    }
+
+    /**
+     * @param semvername SemanticVersionName to add
+     * @return True if it wasn't already present
+     */
+    public boolean add(SemanticVersionName semvername) {
+        return index.add(semvername);
+    }
+
+    /**
+     * @param semvernames SemanticVersionNames to add
+     * @return True if any weren't already present
+     */
+    public boolean addAll(Collection<SemanticVersionName> semvernames) {
+        boolean changed = false;
+        for(SemanticVersionName semvername : semvernames)
+            changed |= add(semvername);
+        return changed;
+    }
+
+    /**
+     * @param semvername SemanticVersionName to remove
+     * @return True if it was present
+     */
+    public boolean remove(SemanticVersionName semvername) {
+        return index.remove(semvername);
+    }
+
+    public boolean contains(SemanticVersionName semvername) {
+        return index.contains(semvername);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public boolean isEmpty() {
+        return index.size() == 0;
+    }
+
+    public void clear() {
+        index.clear();
+    }
+
+    /**
+     * @return Every name with at least one version, in no particular order
+     */
+    public Set<String> names() {
+        return index.names();
+    }
+
+    /**
+     * Newest version that is compatibly greater than pinned, i.e. the
+     * greatest v with v.cgt(pinned).
+     * @param pinned Version currently in use
+     * @return Newest compatible version, or null if there is none
+     */
+    public SemanticVersionName latestCompatible(SemanticVersionName pinned) {
+        return index.latestCompatible(pinned);
+    }
+
+    /**
+     * @param name Name part
+     * @return Greatest version of name, or null if there is none
+     */
+    public SemanticVersionName latest(String name) {
+        return index.latest(name);
+    }
+
+    /**
+     * @param name Name part
+     * @param major Major version
+     * @return Greatest version of name within major, or null if there is none
+     */
+    public SemanticVersionName latestInMajor(String name, int major) {
+        return index.latestInMajor(name, major);
+    }
+
+    /**
+     * @param target Version to search for
+     * @return Greatest version with target's name that is less than or equal
+     * to target, or null if there is none
+     */
+    public SemanticVersionName floor(SemanticVersionName target) {
+        return index.floor(target);
+    }
+
+    /**
+     * @param target Version to search for
+     * @return Least version with target's name that is greater than or equal
+     * to target, or null if there is none
+     */
+    public SemanticVersionName ceiling(SemanticVersionName target) {
+        return index.ceiling(target);
+    }
+
+    /**
+     * Versions between from and to, in ascending order. Both bounds must have
+     * the same name.
+     * @param from Lower bound
+     * @param fromInclusive True to include from itself
+     * @param to Upper bound
+     * @param toInclusive True to include to itself
+     * @return New list of the matching versions
+     */
+    public List<SemanticVersionName> range(SemanticVersionName from, boolean fromInclusive, SemanticVersionName to, boolean toInclusive) {
+        return index.range(from, fromInclusive, to, toInclusive);
+    }
+
+    /**
+     * @param name Name part
+     * @return Every version of name in ascending order, as a new list
+     */
+    public List<SemanticVersionName> versions(String name) {
+        return index.versions(name);
+    }
+
+    @Override
+    public String toString() {
+        return "SemanticVersionIndex{names=" + index.names().size() + ", size=" + index.size() + "}";
+    }
+}
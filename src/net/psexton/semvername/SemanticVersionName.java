@@ -17,32 +17,161 @@
  */
 package net.psexton.semvername;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  *
  * @author PSexton
  */
-public class SemanticVersionName implements Comparable<SemanticVersionName> {
+public class SemanticVersionName implements Comparable<SemanticVersionName>, Serializable {
+    private static final long serialVersionUID = 1L;
+    
     private final String name;
     private final SemanticVersion semver;
+    private final long nameKey;
+    // Set by toCachedString(); racy but idempotent, like String.hash
+    private String rendered;
+    // Lazily cached hashCode(), 0 until first computed, like String.hash
+    private int hash;
+    
+    // The first NAME_KEY_CHARS chars of the name, 7 bits each, packed into
+    // nameKey so that Long.compare on keys agrees with String.compareTo on
+    // names whenever the keys differ. Name chars are all ASCII and non-zero,
+    // so the zero padding of short names sorts them before longer ones.
+    private static final int NAME_KEY_CHARS = 9;
+    private static final int NAME_KEY_CHAR_BITS = 7;
     
     public static SemanticVersionName valueOf(String semVerNameString) {
-        if(semVerNameString == null || semVerNameString.isEmpty())
-            throw new IllegalArgumentException("string cannot be null or empty");
-        
-        // First use regex to break into name/major/minor/patch/prerelease parts
-        Pattern pattern = Pattern.compile("([\\w-]+)-((\\d+)\\.(\\d+)\\.(\\d+)(-(.+))?)");
-        Matcher matcher = pattern.matcher(semVerNameString);
-        if(!matcher.matches())
-            throw new IllegalArgumentException("string did not match regex");
-        
-        String nameCapture = matcher.group(1);
-        String semverCapture = matcher.group(2);
-        
-        return new SemanticVersionName(nameCapture, SemanticVersion.valueOf(semverCapture));
+        return Parser.parseSemanticVersionName(semVerNameString);
+    }
+    
+    /**
+     * Parses a semvername from any CharSequence, e.g. a StringBuilder or CharBuffer,
+     * without first copying it into a String.
+     * @param chars Characters to parse
+     * @return Parsed semvername
+     */
+    public static SemanticVersionName valueOf(CharSequence chars) {
+        return Parser.parseSemanticVersionName(chars);
+    }
+    
+    /**
+     * Parses the semvername in chars[start, end).
+     * @param chars Characters to parse
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @return Parsed semvername
+     */
+    public static SemanticVersionName valueOf(CharSequence chars, int start, int end) {
+        return Parser.parseSemanticVersionName(chars, start, end);
+    }
+    
+    /**
+     * Parses the semvername in chars[offset, offset + length).
+     * @param chars Characters to parse
+     * @param offset Index of the first character
+     * @param length Number of characters
+     * @return Parsed semvername
+     */
+    public static SemanticVersionName valueOf(char[] chars, int offset, int length) {
+        return Parser.parseSemanticVersionName(Parser.wrap(chars), offset, offset + length);
+    }
+    
+    /**
+     * Parses the ASCII-encoded semvername in bytes[offset, offset + length), without
+     * decoding the bytes into a String first. UTF-8 input is fine, as any
+     * non-ASCII byte is rejected by the grammar anyway.
+     * @param bytes ASCII bytes to parse
+     * @param offset Index of the first byte
+     * @param length Number of bytes
+     * @return Parsed semvername
+     */
+    public static SemanticVersionName valueOf(byte[] bytes, int offset, int length) {
+        return Parser.parseSemanticVersionName(AsciiSequence.of(bytes), offset, offset + length);
+    }
+    
+    /**
+     * Parses the ASCII-encoded semvername at buffer[offset, offset + length), using
+     * absolute indexes. The buffer's position and limit are not changed.
+     * @param buffer ASCII bytes to parse, heap or direct
+     * @param offset Absolute index of the first byte
+     * @param length Number of bytes
+     * @return Parsed semvername
+     */
+    public static SemanticVersionName valueOf(ByteBuffer buffer, int offset, int length) {
+        return Parser.parseSemanticVersionName(AsciiSequence.of(buffer), offset, offset + length);
+    }
+    
+    /**
+     * Same as valueOf, but reports invalid input through the result instead
+     * of throwing, so rejecting a string costs no exception or stack trace.
+     * @param semVerNameString String to parse
+     * @return Result holding the parsed semvername, or the error and its offset
+     */
+    public static ParseResult<SemanticVersionName> tryParse(String semVerNameString) {
+        return Parser.tryParseSemanticVersionName(semVerNameString);
+    }
+    
+    /**
+     * Non-throwing form of valueOf(CharSequence, int, int).
+     * @param chars Characters to parse
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @return Result holding the parsed semvername, or the error and its offset
+     */
+    public static ParseResult<SemanticVersionName> tryParse(CharSequence chars, int start, int end) {
+        return Parser.tryParseSemanticVersionName(chars, start, end);
+    }
+    
+    /**
+     * Non-throwing form of valueOf(char[], int, int).
+     * @param chars Characters to parse
+     * @param offset Index of the first character
+     * @param length Number of characters
+     * @return Result holding the parsed semvername, or the error and its offset
+     */
+    public static ParseResult<SemanticVersionName> tryParse(char[] chars, int offset, int length) {
+        return Parser.tryParseSemanticVersionName(Parser.wrap(chars), offset, offset + length);
+    }
+    
+    /**
+     * Non-throwing form of valueOf(byte[], int, int).
+     * @param bytes ASCII bytes to parse
+     * @param offset Index of the first byte
+     * @param length Number of bytes
+     * @return Result holding the parsed semvername, or the error and its offset
+     */
+    public static ParseResult<SemanticVersionName> tryParse(byte[] bytes, int offset, int length) {
+        return Parser.tryParseSemanticVersionName(AsciiSequence.of(bytes), offset, offset + length);
+    }
+    
+    /**
+     * Non-throwing form of valueOf(ByteBuffer, int, int).
+     * @param buffer ASCII bytes to parse, heap or direct
+     * @param offset Absolute index of the first byte
+     * @param length Number of bytes
+     * @return Result holding the parsed semvername, or the error and its offset
+     */
+    public static ParseResult<SemanticVersionName> tryParse(ByteBuffer buffer, int offset, int length) {
+        return Parser.tryParseSemanticVersionName(AsciiSequence.of(buffer), offset, offset + length);
+    }
+    
+    /**
+     * Same as valueOf, but served from the shared ParseCache, so repeated
+     * strings are parsed once and then shared while they stay cached.
+     * @param semVerNameString String to parse
+     * @return Parsed semvername
+     * @see ParseCache#defaultSemanticVersionNameCache()
+     */
+    public static SemanticVersionName cachedValueOf(String semVerNameString) {
+        return ParseCache.defaultSemanticVersionNameCache().get(semVerNameString);
     }
     
     /**
@@ -53,20 +182,73 @@ public class SemanticVersionName implements Comparable<SemanticVersionName> {
     }
     
     public SemanticVersionName(String name, SemanticVersion version) {
+        this(name, version, true);
+    }
+    
+    /**
+     * Shared constructor. Callers that have already validated the name, such
+     * as Parser, pass validate as false to skip the checks.
+     */
+    SemanticVersionName(String name, SemanticVersion version, boolean validate) {
+        if(validate) {
+            checkName(name);
+            checkVersion(version);
+        }
+        
+        this.name = name;
+        this.semver = version;
+        this.nameKey = nameKey(name);
+    }
+    
+    static String checkName(String name) {
         if(name == null || name.isEmpty())
             throw new IllegalArgumentException("name cannot be null or empty");
+        for(int i = 0; i < name.length(); i++) {
+            if(!Parser.isNameChar(name.charAt(i)))
+                throw new IllegalArgumentException("name string is restricted to alphanumerics, hyphens, and underscores");
+        }
+        return name;
+    }
+    
+    private static SemanticVersion checkVersion(SemanticVersion version) {
         if(version == null)
             throw new IllegalArgumentException("version cannot be null");
-        
-        // Validate name
-        Pattern p = Pattern.compile("[^a-zA-Z0-9-_]");
-        if(p.matcher(name).find())
-            throw new IllegalArgumentException("name string is restricted to alphanumerics, hyphens, and underscores");
-        
-        this.name = name;
-        this.semver = version;
+        return version;
+    }
+    
+    private static long nameKey(String name) {
+        long key = 0;
+        int length = Math.min(name.length(), NAME_KEY_CHARS);
+        for(int i = 0; i < length; i++)
+            key |= (long) name.charAt(i) << (NAME_KEY_CHAR_BITS * (NAME_KEY_CHARS - 1 - i));
+        return key;
     }
 
+    /**
+     * Same as new SemanticVersionName(name, major, minor, patch), without boxing.
+     * @param name Name part
+     * @param major Non-negative major version
+     * @param minor Non-negative minor version
+     * @param patch Non-negative patch version
+     * @return New SemanticVersionName with no prerelease
+     */
+    public static SemanticVersionName of(String name, int major, int minor, int patch) {
+        return new SemanticVersionName(name, SemanticVersion.of(major, minor, patch));
+    }
+    
+    /**
+     * Same as new SemanticVersionName(name, major, minor, patch, prerelease), without boxing.
+     * @param name Name part
+     * @param major Non-negative major version
+     * @param minor Non-negative minor version
+     * @param patch Non-negative patch version
+     * @param prerelease Prerelease, or "" for none
+     * @return New SemanticVersionName
+     */
+    public static SemanticVersionName of(String name, int major, int minor, int patch, String prerelease) {
+        return new SemanticVersionName(name, SemanticVersion.of(major, minor, patch, prerelease));
+    }
+    
     public SemanticVersionName(String name, Integer major, Integer minor, Integer patch) {
         this(name, new SemanticVersion(major, minor, patch));
     }
@@ -77,10 +259,17 @@ public class SemanticVersionName implements Comparable<SemanticVersionName> {
     
     @Override
     public int compareTo(SemanticVersionName rhs) {
-        // First compare name parts
-        int compareNames = this.name.compareTo(rhs.name);
-        if(compareNames != 0)
-            return compareNames;
+        // First compare name parts, by their packed prefixes when those
+        // differ, and only walking the Strings when a name is too long for
+        // its prefix to decide. Canonical names (see NameTable) are the same
+        // String, so they skip the walk.
+        if(this.nameKey != rhs.nameKey)
+            return Long.compare(this.nameKey, rhs.nameKey);
+        if(this.name != rhs.name && (this.name.length() > NAME_KEY_CHARS || rhs.name.length() > NAME_KEY_CHARS)) {
+            int compareNames = this.name.compareTo(rhs.name);
+            if(compareNames != 0)
+                return compareNames;
+        }
         
         // If those are equal, then compare semver parts
         return this.semver.compareTo(rhs.semver);
@@ -109,28 +298,131 @@ public class SemanticVersionName implements Comparable<SemanticVersionName> {
     }
     
     public SemanticVersionName setName(String name) {
-        return new SemanticVersionName(name, semver);
+        return new SemanticVersionName(checkName(name), semver, false);
     }
     
     public SemanticVersionName setSemver(SemanticVersion semver) {
-        return new SemanticVersionName(name, semver);
+        return new SemanticVersionName(name, checkVersion(semver), false);
+    }
+    
+    /**
+     * Returns the canonical instance equal to this one, like String.intern().
+     * The canonical instance also holds the canonical SemanticVersion.
+     * Canonical instances are only weakly held, so interning doesn't keep
+     * otherwise unused names alive.
+     * @return Canonical SemanticVersionName
+     * @see Interner#defaultSemanticVersionNameInterner()
+     */
+    public SemanticVersionName intern() {
+        SemanticVersion canonicalSemver = semver.intern();
+        SemanticVersionName candidate = (canonicalSemver == semver) ? this : new SemanticVersionName(name, canonicalSemver, false);
+        return Interner.defaultSemanticVersionNameInterner().intern(candidate);
     }
     
     @Override
     public String toString() {
-        return name + "-" + semver.toString();
+        String cached = rendered;
+        if(cached != null)
+            return cached;
+        return appendTo(new StringBuilder(asciiLength())).toString();
+    }
+    
+    /**
+     * Same as toString(), but keeps the result on this instance so later
+     * calls to either method return it without rendering again. Meant for
+     * values that are printed over and over; costs a String per instance.
+     * @return String form of this semvername
+     */
+    public String toCachedString() {
+        String cached = rendered;
+        if(cached == null)
+            rendered = cached = toString();
+        return cached;
+    }
+    
+    /**
+     * Appends the same text as toString() without building a String.
+     * @param sb Destination
+     * @return sb
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        return semver.appendTo(sb.append(name).append('-'));
+    }
+    
+    /**
+     * Appends the same text as toString() without building a String.
+     * @param out Destination, e.g. a Writer
+     * @return out
+     * @throws IOException if out does
+     */
+    public Appendable appendTo(Appendable out) throws IOException {
+        return semver.appendTo(out.append(name).append('-'));
+    }
+    
+    /**
+     * @return Length of toString(), which is also the number of bytes
+     * writeAscii writes
+     */
+    public int asciiLength() {
+        return name.length() + 1 + semver.asciiLength();
+    }
+    
+    /**
+     * Writes toString() as ASCII bytes.
+     * @param dst Destination array
+     * @param offset Index to write the first byte at
+     * @return Index after the last byte written
+     * @throws IndexOutOfBoundsException if asciiLength() bytes don't fit;
+     * nothing is written in that case
+     */
+    public int writeAscii(byte[] dst, int offset) {
+        Ascii.checkRoom(dst, offset, asciiLength());
+        offset = Ascii.putString(dst, offset, name);
+        dst[offset++] = '-';
+        return semver.writeAsciiUnchecked(dst, offset);
+    }
+    
+    /**
+     * Writes toString() as ASCII bytes at the buffer's position, advancing it.
+     * @param dst Destination buffer
+     * @throws BufferOverflowException if asciiLength() bytes don't fit;
+     * nothing is written in that case
+     */
+    public void writeAscii(ByteBuffer dst) {
+        Ascii.checkRoom(dst, asciiLength());
+        Ascii.putString(dst, name);
+        dst.put((byte) '-');
+        semver.writeAsciiUnchecked(dst);
     }
 
+    /**
+     * Serializes as a compact ExternalForm instead of the default form.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return new ExternalForm(this);
+    }
+    
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("SemanticVersionName is deserialized through ExternalForm");
+    }
+    
     @Override
     public int hashCode() {
-        int hash = 7;
-        hash = 17 * hash + Objects.hashCode(this.name);
-        hash = 17 * hash + Objects.hashCode(this.semver);
+        int hash = this.hash;
+        if(hash == 0) {
+            hash = 7;
+            hash = 17 * hash + Objects.hashCode(this.name);
+            hash = 17 * hash + Objects.hashCode(this.semver);
+            this.hash = hash;
+        }
         return hash;
     }
 
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
         if (obj == null) {
             return false;
         }
@@ -138,6 +430,14 @@ public class SemanticVersionName implements Comparable<SemanticVersionName> {
             return false;
         }
         final SemanticVersionName other = (SemanticVersionName) obj;
+        // Cheap rejections first: differing name prefixes, or differing
+        // hashes when both have already been computed
+        if (this.nameKey != other.nameKey) {
+            return false;
+        }
+        if (this.hash != 0 && other.hash != 0 && this.hash != other.hash) {
+            return false;
+        }
         if (!Objects.equals(this.name, other.name)) {
             return false;
         }
@@ -0,0 +1,193 @@
+/*
+ * SemanticVersionName2.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 10:41:07 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+/**
+ * SemanticVersionName2.
+ * A name paired with a Semantic Versioning 2.0.0 version, written
+ * name-major.minor.patch[-prerelease][+build], e.g.
+ * "foo-bar-1.2.3-rc.1+exp.sha.5114f85". The name follows the same rules as
+ * SemanticVersionName's, so the version starts at the digits just before
+ * the first period.
+ * Ordered by name and then by version precedence, so, like
+ * SemanticVersion2, semvernames differing only in build metadata compare
+ * as 0 while equals tells them apart.
+ * Immutable class.
+ * @author PSexton
+ */
+public final class SemanticVersionName2 implements Comparable<SemanticVersionName2> {
+    private final String name;
+    private final SemanticVersion2 semver;
+    // Lazily cached hashCode(), 0 until first computed, like String.hash
+    private int hash;
+
+    /**
+     * @param name Name part: alphanumerics, hyphens and underscores
+     * @param semver Version part
+     * @throws IllegalArgumentException if either part is invalid
+     */
+    public SemanticVersionName2(String name, SemanticVersion2 semver) {
+        this.name = SemanticVersionName.checkName(name);
+        if(semver == null)
+            throw new IllegalArgumentException("version cannot be null");
+        this.semver = semver;
+    }
+
+    /**
+     * Parses name-major.minor.patch[-prerelease][+build].
+     * @param s Text to parse
+     * @return Parsed semvername
+     * @throws IllegalArgumentException if s is not a valid 2.0.0 semvername
+     */
+    public static SemanticVersionName2 valueOf(CharSequence s) {
+        return scan(s, 0, (s == null) ? 0 : s.length(), null);
+    }
+
+    /**
+     * Parses s[start, end) without copying it.
+     * @see #valueOf(CharSequence)
+     */
+    public static SemanticVersionName2 valueOf(CharSequence s, int start, int end) {
+        SemanticVersion2.checkRange(s, start, end);
+        return scan(s, start, end, null);
+    }
+
+    /**
+     * Non-throwing form of valueOf(CharSequence).
+     * @return Result holding the parsed semvername, or the error and its offset
+     */
+    public static ParseResult<SemanticVersionName2> tryParse(CharSequence s) {
+        return tryParse(s, 0, (s == null) ? 0 : s.length());
+    }
+
+    /**
+     * Non-throwing form of valueOf(CharSequence, int, int).
+     * @return Result holding the parsed semvername, or the error and its offset
+     */
+    public static ParseResult<SemanticVersionName2> tryParse(CharSequence s, int start, int end) {
+        SemanticVersion2.checkRange(s, start, end);
+        ParseResult<SemanticVersionName2> result = new ParseResult<>();
+        SemanticVersionName2 value = scan(s, start, end, result);
+        if(value != null)
+            result.succeed(value);
+        return result;
+    }
+
+    public static SemanticVersionName2 of(String name, int major, int minor, int patch) {
+        return new SemanticVersionName2(name, SemanticVersion2.of(major, minor, patch));
+    }
+
+    public static SemanticVersionName2 of(String name, int major, int minor, int patch, String prerelease) {
+        return new SemanticVersionName2(name, SemanticVersion2.of(major, minor, patch, prerelease));
+    }
+
+    public static SemanticVersionName2 of(String name, int major, int minor, int patch, String prerelease, String build) {
+        return new SemanticVersionName2(name, SemanticVersion2.of(major, minor, patch, prerelease, build));
+    }
+
+    /**
+     * Converts a 1.0.0 semvername.
+     * @throws IllegalArgumentException if its version can't be converted
+     * @see SemanticVersion2#from(SemanticVersion)
+     */
+    public static SemanticVersionName2 from(SemanticVersionName semvername) {
+        return new SemanticVersionName2(semvername.getName(), SemanticVersion2.from(semvername.getSemver()));
+    }
+
+    private static SemanticVersionName2 scan(CharSequence s, int from, int to, ParseResult<?> result) {
+        int digitsStart = Parser.scanNamePart(s, from, to, result);
+        if(digitsStart < 0)
+            return null;
+        SemanticVersion2 semver = SemanticVersion2.scan(s, digitsStart, to, result);
+        if(semver == null)
+            return null;
+        return new SemanticVersionName2(Parser.slice(s, from, digitsStart - 1), semver);
+    }
+
+    /**
+     * Compares names, then version precedence. Build metadata is ignored.
+     */
+    @Override
+    public int compareTo(SemanticVersionName2 rhs) {
+        if(this.name != rhs.name) {
+            int compareNames = this.name.compareTo(rhs.name);
+            if(compareNames != 0)
+                return compareNames;
+        }
+        return this.semver.compareTo(rhs.semver);
+    }
+
+    /**
+     * Check for Compatibly Greater Than status.
+     * @param rhs SemanticVersionName2 to compare to
+     * @return True if the names are equal and this version is compatibly
+     * greater than rhs's
+     */
+    public boolean isCompatiblyGreaterThan(SemanticVersionName2 rhs) {
+        return name.equals(rhs.name) && semver.cgt(rhs.semver);
+    }
+
+    /**
+     * Shorthand for isCompatiblyGreaterThan
+     * @param rhs SemanticVersionName2 to compare to
+     * @return True if this is compatibly greater than rhs
+     */
+    public boolean cgt(SemanticVersionName2 rhs) {
+        return isCompatiblyGreaterThan(rhs);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SemanticVersion2 getSemver() {
+        return semver;
+    }
+
+    @Override
+    public String toString() {
+        return name + "-" + semver;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+        if(hash == 0) {
+            hash = 7;
+            hash = 17 * hash + this.name.hashCode();
+            hash = 17 * hash + this.semver.hashCode();
+            this.hash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Equal names and equal versions, build metadata included.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final SemanticVersionName2 other = (SemanticVersionName2) obj;
+        return this.name.equals(other.name) && this.semver.equals(other.semver);
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * SemanticVersionRegistry.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 2:05:49 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * SemanticVersionRegistry.
+ * Thread-safe registry of published SemanticVersionNames, for workloads
+ * where many threads query while a few publish.
+ * Each name holds an immutable, sorted array of its versions behind an
+ * AtomicReference. Reads are a hash lookup, a volatile read and a binary
+ * search, with no locks and no retries. Writes copy the array and swap it in
+ * with compareAndSet, retrying only when another write to the same name got
+ * there first, so writes to different names never contend.
+ * Every write is atomic: a reader sees a name's versions either entirely
+ * before or entirely after it.
+ * @author PSexton
+ */
+public class SemanticVersionRegistry implements Iterable<SemanticVersionName> {
+    private static final SemanticVersionName[] EMPTY = new SemanticVersionName[0];
+
+    // Entries are never removed, even when a name's last version is, so a
+    // writer can't update a reference that has been dropped from the map
+    private final ConcurrentHashMap<String, AtomicReference<SemanticVersionName[]>> names = new ConcurrentHashMap<>();
+
+    /**
+     * Adds semvername if it isn't already published.
+     * @param semvername SemanticVersionName to publish
+     * @return True if it was added
+     */
+    public boolean publish(SemanticVersionName semvername) {
+        AtomicReference<SemanticVersionName[]> ref = reference(semvername);
+        while(true) {
+            SemanticVersionName[] current = ref.get();
+            int index = Arrays.binarySearch(current, semvername);
+            if(index >= 0)
+                return false;
+            if(ref.compareAndSet(current, insert(current, -1 - index, semvername)))
+                return true;
+        }
+    }
+
+    /**
+     * Adds semvername only if it is greater than every published version of
+     * its name. The check and the add happen atomically, so of several
+     * threads racing to publish, only increasing versions get in.
+     * @param semvername SemanticVersionName to publish
+     * @return True if it was added, false if an equal or newer version was
+     * already published
+     */
+    public boolean publishIfNewer(SemanticVersionName semvername) {
+        AtomicReference<SemanticVersionName[]> ref = reference(semvername);
+        while(true) {
+            SemanticVersionName[] current = ref.get();
+            if(current.length > 0 && current[current.length - 1].compareTo(semvername) >= 0)
+                return false;
+            if(ref.compareAndSet(current, insert(current, current.length, semvername)))
+                return true;
+        }
+    }
+
+    /**
+     * @param semvername SemanticVersionName to withdraw
+     * @return True if it was published
+     */
+    public boolean remove(SemanticVersionName semvername) {
+        if(semvername == null)
+            return false;
+        AtomicReference<SemanticVersionName[]> ref = names.get(semvername.getName());
+        if(ref == null)
+            return false;
+        while(true) {
+            SemanticVersionName[] current = ref.get();
+            int index = Arrays.binarySearch(current, semvername);
+            if(index < 0)
+                return false;
+            SemanticVersionName[] next = new SemanticVersionName[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, next.length - index);
+            if(ref.compareAndSet(current, next))
+                return true;
+        }
+    }
+
+    public boolean contains(SemanticVersionName semvername) {
+        return semvername != null && Arrays.binarySearch(versions(semvername.getName()), semvername) >= 0;
+    }
+
+    /**
+     * @param name Name part
+     * @return Greatest published version of name, or null if there is none
+     */
+    public SemanticVersionName latest(String name) {
+        SemanticVersionName[] versions = versions(name);
+        return (versions.length == 0) ? null : versions[versions.length - 1];
+    }
+
+    /**
+     * Newest published version that is compatibly greater than pinned, i.e.
+     * the greatest v with v.cgt(pinned).
+     * @param pinned Version currently in use
+     * @return Newest compatible version, or null if there is none
+     */
+    public SemanticVersionName latestCompatible(SemanticVersionName pinned) {
+        SemanticVersionName[] versions = versions(pinned.getName());
+        int index = Arrays.binarySearch(versions, pinned);
+        int major = pinned.getSemver().major();
+        // A 0.y.z version is only compatible with itself
+        if(major == 0)
+            return (index >= 0) ? versions[index] : null;
+        // Otherwise the last version with the same major, if it's at or above pinned
+        int start = (index >= 0) ? index : -1 - index;
+        int end = endOfMajor(versions, start, major);
+        return (end == start) ? null : versions[end - 1];
+    }
+
+    /**
+     * @return Index just past the last version in [from, length) with the
+     * given major, or from if there is none
+     */
+    private static int endOfMajor(SemanticVersionName[] versions, int from, int major) {
+        int low = from;
+        int high = versions.length;
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            if(versions[mid].getSemver().major() <= major)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * @param name Name part
+     * @return Every published version of name in ascending order, as an
+     * unmodifiable list that later writes don't affect
+     */
+    public List<SemanticVersionName> snapshot(String name) {
+        return Collections.unmodifiableList(Arrays.asList(versions(name)));
+    }
+
+    /**
+     * @return Number of published versions, summed over names one at a time
+     */
+    public int size() {
+        int size = 0;
+        for(AtomicReference<SemanticVersionName[]> ref : names.values())
+            size += ref.get().length;
+        return size;
+    }
+
+    /**
+     * Iterates over a snapshot of every published version, name by name.
+     * Every name's versions are captured when iterator() is called, so
+     * writes made after that are never seen, however long iteration takes.
+     * The names are read one after another without a global lock, so
+     * writes to different names that race with the call itself may be seen
+     * in any combination; each name is still never seen half-written.
+     * Names are visited in no particular order, each name's versions in
+     * ascending order. Never throws ConcurrentModificationException.
+     * @return Iterator over published versions
+     */
+    @Override
+    public Iterator<SemanticVersionName> iterator() {
+        List<SemanticVersionName[]> captured = new ArrayList<>(names.size());
+        for(AtomicReference<SemanticVersionName[]> ref : names.values()) {
+            SemanticVersionName[] versions = ref.get();
+            if(versions.length > 0)
+                captured.add(versions);
+        }
+        final Iterator<SemanticVersionName[]> arrays = captured.iterator();
+        return new Iterator<SemanticVersionName>() {
+            private SemanticVersionName[] versions = EMPTY;
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                while(index == versions.length) {
+                    if(!arrays.hasNext())
+                        return false;
+                    versions = arrays.next();
+                    index = 0;
+                }
+                return true;
+            }
+
+            @Override
+            public SemanticVersionName next() {
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                return versions[index++];
+            }
+        };
+    }
+
+    private SemanticVersionName[] versions(String name) {
+        AtomicReference<SemanticVersionName[]> ref = names.get(name);
+        return (ref == null) ? EMPTY : ref.get();
+    }
+
+    private AtomicReference<SemanticVersionName[]> reference(SemanticVersionName semvername) {
+        if(semvername == null)
+            throw new IllegalArgumentException("semvername cannot be null");
+        AtomicReference<SemanticVersionName[]> ref = names.get(semvername.getName());
+        if(ref == null)
+            ref = names.computeIfAbsent(semvername.getName(), name -> new AtomicReference<>(EMPTY));
+        return ref;
+    }
+
+    private static SemanticVersionName[] insert(SemanticVersionName[] current, int index, SemanticVersionName semvername) {
+        SemanticVersionName[] next = new SemanticVersionName[current.length + 1];
+        System.arraycopy(current, 0, next, 0, index);
+        next[index] = semvername;
+        System.arraycopy(current, index, next, index + 1, current.length - index);
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        return "SemanticVersionRegistry{names=" + names.size() + ", size=" + size() + "}";
+    }
+}
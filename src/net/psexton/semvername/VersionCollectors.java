@@ -0,0 +1,137 @@
+/*
+ * VersionCollectors.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 6:31:05 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * VersionCollectors.
+ * Stream Collectors for the usual reductions over semvernames: the latest
+ * per name, the latest per compatibility line (name and major), and counts
+ * per line. They take the place of groupingBy + maxBy chains, which box a
+ * map entry and an Optional per group and merge map by map in parallel
+ * streams. Here each stream segment fills one primitive-backed hash table,
+ * and combining two segments only adds the smaller table's lines to the
+ * larger one. The collectors are UNORDERED, so parallel streams need not
+ * keep encounter order.
+ * summarize and parallelSummarize do the same reduction straight from a
+ * Spliterator, the latter splitting it over the common ForkJoinPool.
+ * @author PSexton
+ */
+public final class VersionCollectors {
+    // Below this many elements, a Spliterator is summarized without splitting
+    private static final long PARALLEL_THRESHOLD = 1 << 12;
+
+    private VersionCollectors() {
+    }
+
+    /**
+     * @return Collector of the greatest semvername for each name
+     */
+    public static Collector<SemanticVersionName, ?, Map<String, SemanticVersionName>> latestPerName() {
+        return collector(false, VersionLines::latestPerName);
+    }
+
+    /**
+     * @return Collector of, for each name, the greatest semvername for each major
+     */
+    public static Collector<SemanticVersionName, ?, Map<String, SortedMap<Integer, SemanticVersionName>>> latestPerMajor() {
+        return collector(true, table -> new VersionLines(table).latestPerMajor());
+    }
+
+    /**
+     * @return Collector of, for each name, the number of semvernames for each major
+     */
+    public static Collector<SemanticVersionName, ?, Map<String, SortedMap<Integer, Long>>> countsPerLine() {
+        return collector(true, table -> new VersionLines(table).countsPerLine());
+    }
+
+    /**
+     * @return Collector of the full per-line summary
+     */
+    public static Collector<SemanticVersionName, ?, VersionLines> toVersionLines() {
+        return collector(true, VersionLines::new);
+    }
+
+    private static <R> Collector<SemanticVersionName, LineTable, R> collector(boolean byMajor, Function<LineTable, R> finisher) {
+        Supplier<LineTable> supplier = () -> new LineTable(byMajor);
+        BiConsumer<LineTable, SemanticVersionName> accumulator = LineTable::add;
+        BinaryOperator<LineTable> combiner = LineTable::merge;
+        return Collector.of(supplier, accumulator, combiner, finisher, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Summarizes every remaining element of source on the calling thread.
+     * @param source Semvernames to summarize
+     * @return Per-line summary
+     */
+    public static VersionLines summarize(Spliterator<? extends SemanticVersionName> source) {
+        if(source == null)
+            throw new IllegalArgumentException("source cannot be null");
+        return new VersionLines(summarizeAll(source));
+    }
+
+    /**
+     * Same result as summarize(source), splitting source with trySplit and
+     * summarizing the pieces in parallel on the common ForkJoinPool.
+     * @param source Semvernames to summarize; should split well, e.g. one
+     * from an ArrayList or an array
+     * @return Per-line summary
+     */
+    public static VersionLines parallelSummarize(Spliterator<? extends SemanticVersionName> source) {
+        if(source == null)
+            throw new IllegalArgumentException("source cannot be null");
+        return new VersionLines(ForkJoinPool.commonPool().invoke(new SummarizeTask(source)));
+    }
+
+    private static LineTable summarizeAll(Spliterator<? extends SemanticVersionName> source) {
+        LineTable table = new LineTable(true);
+        source.forEachRemaining(table::add);
+        return table;
+    }
+
+    private static final class SummarizeTask extends RecursiveTask<LineTable> {
+        private static final long serialVersionUID = 1L;
+
+        private final Spliterator<? extends SemanticVersionName> source;
+
+        SummarizeTask(Spliterator<? extends SemanticVersionName> source) {
+            this.source = source;
+        }
+
+        @Override
+        protected LineTable compute() {
+            Spliterator<? extends SemanticVersionName> prefix;
+            if(source.estimateSize() <= PARALLEL_THRESHOLD || (prefix = source.trySplit()) == null)
+                return summarizeAll(source);
+            SummarizeTask left = new SummarizeTask(prefix);
+            left.fork();
+            LineTable right = new SummarizeTask(source).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * VersionExtractor.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 7:48:29 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * VersionExtractor.
+ * Finds every semvername embedded in longer text, such as artifact file
+ * names ("billing-service-3.12.0-rc2.jar"), URLs, and log lines, in one
+ * pass and without creating a String per candidate. Matches are reported
+ * to a Handler as ranges of the text, which can be handed straight to
+ * SemanticVersionName.valueOf(CharSequence, int, int) or skipped.
+ * A match is a run of name chars ending in -major.minor.patch, optionally
+ * followed by -prerelease, that is neither preceded nor followed by a name
+ * char. Every match is a string SemanticVersionName.valueOf accepts.
+ * File extensions need no special handling: prereleases can't contain
+ * periods, so ".jar" or ".tar.gz" after a version never joins the match.
+ * Suffixes given to the constructor strip classifiers that would otherwise
+ * read as a prerelease, e.g. "-sources" turns "lib-1.0.0-sources.jar" into
+ * "lib-1.0.0".
+ * Immutable and thread-safe.
+ * @author PSexton
+ */
+public final class VersionExtractor {
+    private static final int DEFAULT_WINDOW = 8192;
+    // A run of name chars longer than this is dropped when reading a Reader
+    private static final int MAX_WINDOW = 1 << 20;
+    // tryMatch results other than a match's end
+    private static final int NO_MATCH = -1;
+    private static final int NEED_MORE = -2;
+
+    private final char[][] suffixes;
+
+    /**
+     * Receives each match as it is found.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * @param text Text holding the match. When reading a Reader, a
+         * window onto the input that is only valid during this call.
+         * @param start Index of the match in text
+         * @param end Index after the match in text
+         * @param offset Position in the whole input of index 0 of text;
+         * always 0 except when reading a Reader
+         */
+        void match(CharSequence text, int start, int end, long offset);
+    }
+
+    /**
+     * @param suffixes Classifiers to strip from the end of a match, each a
+     * hyphen followed by name chars, e.g. "-sources", "-bin"
+     */
+    public VersionExtractor(String... suffixes) {
+        this.suffixes = new char[suffixes.length][];
+        for(int i = 0; i < suffixes.length; i++) {
+            String suffix = suffixes[i];
+            if(suffix == null || suffix.length() < 2 || suffix.charAt(0) != '-')
+                throw new IllegalArgumentException("suffix must be a hyphen followed by name chars");
+            SemanticVersionName.checkName(suffix);
+            this.suffixes[i] = suffix.toCharArray();
+        }
+    }
+
+    /**
+     * @return Number of matches
+     */
+    public int extract(CharSequence text, Handler handler) {
+        return extract(text, 0, text.length(), handler);
+    }
+
+    /**
+     * Looks for matches within text[from, to), treating from and to as
+     * boundaries.
+     * @return Number of matches
+     */
+    public int extract(CharSequence text, int from, int to, Handler handler) {
+        if(text == null)
+            throw new IllegalArgumentException("text cannot be null");
+        if(from < 0 || from > to || to > text.length())
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for length " + text.length());
+        Counter counter = new Counter(handler);
+        scan(text, from, to, false, true, counter, 0);
+        return (int) counter.count;
+    }
+
+    /**
+     * Looks for matches in ASCII bytes from the buffer's position to its
+     * limit, without moving either. Reported indexes are absolute indexes
+     * into the buffer.
+     * @return Number of matches
+     */
+    public int extract(ByteBuffer buffer, Handler handler) {
+        if(buffer == null)
+            throw new IllegalArgumentException("buffer cannot be null");
+        return extract(AsciiSequence.of(buffer), buffer.position(), buffer.limit(), handler);
+    }
+
+    /**
+     * Reads reader to its end, looking for matches through a window that
+     * keeps any run of name chars still open at the end of one read for
+     * the next. Does not close reader.
+     * @return Number of matches
+     * @throws IOException if reader does
+     */
+    public long extract(Reader reader, Handler handler) throws IOException {
+        return extract(reader, handler, DEFAULT_WINDOW);
+    }
+
+    long extract(Reader reader, Handler handler, int window) throws IOException {
+        if(reader == null)
+            throw new IllegalArgumentException("reader cannot be null");
+        Counter counter = new Counter(handler);
+        char[] chars = new char[window];
+        CharBuffer text = CharBuffer.wrap(chars);
+        long offset = 0;
+        int filled = 0;
+        // 1 once chars[0] holds the char before the text still to be scanned
+        int from = 0;
+        boolean atEnd = false;
+        while(!atEnd) {
+            int read = reader.read(chars, filled, chars.length - filled);
+            if(read < 0)
+                atEnd = true;
+            else
+                filled += read;
+            int resume = scan(text, from, filled, from > 0, atEnd, counter, offset);
+            if(resume == from && filled == chars.length) {
+                // One run fills the whole window: widen it, up to a point
+                if(chars.length < MAX_WINDOW) {
+                    chars = Arrays.copyOf(chars, Math.min(chars.length * 2, MAX_WINDOW));
+                    text = CharBuffer.wrap(chars);
+                    continue;
+                }
+                resume = filled;
+            }
+            // Keep the text from resume on, and the char before it
+            int keep = (resume > 0) ? resume - 1 : 0;
+            System.arraycopy(chars, keep, chars, 0, filled - keep);
+            filled -= keep;
+            offset += keep;
+            from = resume - keep;
+        }
+        return counter.count;
+    }
+
+    /**
+     * Parses every match in text.
+     * @return Semvernames in the order they appear
+     */
+    public List<SemanticVersionName> findAll(CharSequence text) {
+        List<SemanticVersionName> found = new ArrayList<>();
+        extract(text, (chars, start, end, offset) -> found.add(SemanticVersionName.valueOf(chars, start, end)));
+        return found;
+    }
+
+    /**
+     * Reports the matches in s[from, to).
+     * @param continued Whether s[from - 1] is the input just before from,
+     * rather than from being a boundary
+     * @param atEnd Whether to is the end of the input; if not, a match that
+     * might continue past to is left for the next call
+     * @return Index from which to scan again once more input has been
+     * appended; to if everything before it has been decided
+     */
+    private int scan(CharSequence s, int from, int to, boolean continued, boolean atEnd, Handler handler, long offset) {
+        // Start of the current run of name chars, which may be name-major,
+        // or -1 while in a run that can't start a match because it follows
+        // a name char: one already under way before from, or the rest of a
+        // run a match was cut out of
+        int runStart = (continued && Parser.isNameChar(s.charAt(from - 1))) ? -1 : from;
+        int i = from;
+        while(i < to) {
+            char c = s.charAt(i);
+            if(c == '.') {
+                int end = (runStart < 0) ? NO_MATCH : tryMatch(s, runStart, i, to, atEnd);
+                if(end == NEED_MORE)
+                    return runStart;
+                if(end >= 0) {
+                    handler.match(s, runStart, end, offset);
+                    i = end;
+                    runStart = -1;
+                    continue;
+                }
+                runStart = i + 1;
+            }
+            else if(!Parser.isNameChar(c))
+                runStart = i + 1;
+            i++;
+        }
+        return (atEnd || runStart < 0) ? to : runStart;
+    }
+
+    /**
+     * Tries to match a semvername whose name-major is s[runStart, dot).
+     * @return End of the match, NO_MATCH, or NEED_MORE if the input stops
+     * before the match could be decided
+     */
+    private int tryMatch(CharSequence s, int runStart, int dot, int to, boolean atEnd) {
+        int digitsStart = dot;
+        while(digitsStart > runStart && Parser.isDigit(s.charAt(digitsStart - 1)))
+            digitsStart--;
+        // Need digits, a hyphen before them, and a name before that
+        if(digitsStart == dot || digitsStart - 1 <= runStart || s.charAt(digitsStart - 1) != '-')
+            return NO_MATCH;
+        if(Parser.scanNumber(s, digitsStart, dot) < 0)
+            return NO_MATCH;
+
+        int i = dot + 1;
+        for(int part = 0; part < 2; part++) {
+            long scan = Parser.scanNumber(s, i, to);
+            if(scan < 0)
+                return NO_MATCH;
+            int end = (int) scan;
+            if(end == to && !atEnd)
+                return NEED_MORE;
+            if(end == i)
+                return NO_MATCH;
+            i = end;
+            if(part == 0) {
+                if(i == to || s.charAt(i) != '.')
+                    return NO_MATCH;
+                i++;
+            }
+        }
+
+        int end = i;
+        if(i < to && s.charAt(i) == '-') {
+            end = i + 1;
+            while(end < to && Parser.isPrereleaseChar(s.charAt(end)))
+                end++;
+            if(end == to && !atEnd)
+                return NEED_MORE;
+            if(end == i + 1)
+                return NO_MATCH;
+        }
+        // Stripping first lets a suffix run on past the prerelease, as in
+        // "-my_classifier"
+        if(end > i && suffixes.length > 0) {
+            int stripped = stripSuffix(s, i, end, to, atEnd);
+            if(stripped != end)
+                return stripped;
+        }
+        if(end < to && Parser.isNameChar(s.charAt(end)))
+            return NO_MATCH;
+        return end;
+    }
+
+    /**
+     * Cuts the match back to the first hyphen in s[preStart, end), the
+     * hyphen before the prerelease included, at which a suffix starts and
+     * is followed by a boundary, as long as that leaves a valid match.
+     * @return The hyphen's index, end if no suffix is there, or NEED_MORE
+     */
+    private int stripSuffix(CharSequence s, int preStart, int end, int to, boolean atEnd) {
+        for(int p = preStart; p < end; p++) {
+            // Cutting just after the prerelease's hyphen would leave it empty
+            if(s.charAt(p) != '-' || p == preStart + 1)
+                continue;
+            for(char[] suffix : suffixes) {
+                int matched = 0;
+                while(matched < suffix.length && p + matched < to && s.charAt(p + matched) == suffix[matched])
+                    matched++;
+                if(matched < suffix.length) {
+                    if(p + matched == to && !atEnd)
+                        return NEED_MORE;
+                    continue;
+                }
+                int after = p + suffix.length;
+                if(after == to && !atEnd)
+                    return NEED_MORE;
+                if(after == to || !Parser.isNameChar(s.charAt(after)))
+                    return p;
+            }
+        }
+        return end;
+    }
+
+    private static final class Counter implements Handler {
+        private final Handler handler;
+        long count;
+
+        Counter(Handler handler) {
+            if(handler == null)
+                throw new IllegalArgumentException("handler cannot be null");
+            this.handler = handler;
+        }
+
+        @Override
+        public void match(CharSequence text, int start, int end, long offset) {
+            count++;
+            handler.match(text, start, end, offset);
+        }
+    }
+}
@@ -0,0 +1,440 @@
+/*
+ * VersionIndexFile.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 8:14:37 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * VersionIndexFile.
+ * Persistent, memory-mapped form of OffHeapVersionStore, so a service can
+ * start from a prebuilt index instead of parsing every version again.
+ * Opening a file reads the header and the dictionaries and maps the
+ * records, so the cost depends on the number of distinct names and
+ * prereleases, not on the number of versions. Queries then read the records
+ * straight from the mapped pages.
+ * Writing replaces a file atomically, so a store still mapping the old
+ * file keeps working until it is dropped for one opened on the new file.
+ * <p>
+ * Layout, all little-endian:
+ * <pre>
+ * header (64 bytes)
+ *   int  magic "SVNI"
+ *   int  format version (1)
+ *   int  record size (20)
+ *   int  name count
+ *   int  prerelease count
+ *   int  reserved (0)
+ *   long record count
+ *   long dictionary offset
+ *   long records offset (a multiple of 8)
+ *   long CRC32 of the dictionaries
+ *   long CRC32 of the records
+ * dictionaries
+ *   names, then non-empty prereleases, each in String order, each as an
+ *   int length followed by that many ASCII bytes
+ * records
+ *   OffHeapVersionStore records, in sorted order
+ * </pre>
+ * @author PSexton
+ */
+public final class VersionIndexFile {
+    static final int MAGIC = 0x53564E49;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    // Versions of a stream sorted at a time, bounding the heap write uses
+    static final int RUN_SIZE = 1 << 18;
+    private static final int MERGE_BUFFER_RECORDS = 1 << 12;
+
+    private VersionIndexFile() {
+    }
+
+    /**
+     * Sorts, de-duplicates and writes semvernames to file, replacing it.
+     * @param file File to write
+     * @param semvernames Versions to index
+     * @throws IOException if the file can't be written
+     */
+    public static void write(Path file, Collection<SemanticVersionName> semvernames) throws IOException {
+        write(file, OffHeapVersionStore.load(semvernames));
+    }
+
+    /**
+     * Same as write(file, collection), for e.g.
+     * Files.lines(dump).map(SemanticVersionName::valueOf).
+     * The stream is read in runs of 2^18 versions, each sorted into an
+     * OffHeapVersionStore, and the runs are merged into the file. So only
+     * one run's SemanticVersionNames are on the heap at a time, plus the
+     * distinct names and prereleases; the records take 20 bytes each in
+     * direct memory until the file is written.
+     */
+    public static void write(Path file, Stream<SemanticVersionName> semvernames) throws IOException {
+        write(file, semvernames, RUN_SIZE);
+    }
+
+    static void write(Path file, Stream<SemanticVersionName> semvernames, int runSize) throws IOException {
+        List<OffHeapVersionStore> runs = new ArrayList<>();
+        List<SemanticVersionName> run = new ArrayList<>();
+        Iterator<SemanticVersionName> iterator = semvernames.iterator();
+        while(iterator.hasNext()) {
+            run.add(iterator.next());
+            if(run.size() == runSize) {
+                runs.add(OffHeapVersionStore.load(run));
+                run.clear();
+            }
+        }
+        if(!run.isEmpty() || runs.isEmpty())
+            runs.add(OffHeapVersionStore.load(run));
+        if(runs.size() == 1) {
+            write(file, runs.get(0));
+            return;
+        }
+        
+        TreeSet<String> names = new TreeSet<>();
+        TreeSet<String> prereleases = new TreeSet<>();
+        for(OffHeapVersionStore store : runs) {
+            names.addAll(Arrays.asList(store.names()));
+            prereleases.addAll(Arrays.asList(store.prereleases()));
+        }
+        String[] nameArray = names.toArray(new String[names.size()]);
+        String[] prereleaseArray = prereleases.toArray(new String[prereleases.size()]);
+        PriorityQueue<Run> queue = new PriorityQueue<>(runs.size(), (lhs, rhs) -> compareRecords(lhs.record, rhs.record));
+        for(OffHeapVersionStore store : runs) {
+            Run cursor = new Run(store, nameArray, prereleaseArray);
+            if(cursor.next())
+                queue.add(cursor);
+        }
+        write(file, nameArray, prereleaseArray, (channel, position, crc) -> {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(MERGE_BUFFER_RECORDS * OffHeapVersionStore.RECORD_BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            int[] last = new int[5];
+            long size = 0;
+            while(!queue.isEmpty()) {
+                Run cursor = queue.poll();
+                // Runs are de-duplicated, but may share versions with each other
+                if(size == 0 || compareRecords(cursor.record, last) != 0) {
+                    System.arraycopy(cursor.record, 0, last, 0, last.length);
+                    for(int field : last)
+                        buffer.putInt(field);
+                    size++;
+                    if(!buffer.hasRemaining())
+                        position = flush(channel, buffer, position, crc);
+                }
+                if(cursor.next())
+                    queue.add(cursor);
+            }
+            flush(channel, buffer, position, crc);
+            return size;
+        });
+    }
+
+    /**
+     * Writes an existing store to file, replacing it.
+     * @param file File to write
+     * @param store Store to persist
+     * @throws IOException if the file can't be written
+     */
+    public static void write(Path file, OffHeapVersionStore store) throws IOException {
+        write(file, store.names(), store.prereleases(), (channel, position, crc) -> {
+            for(ByteBuffer chunk : store.chunks()) {
+                ByteBuffer records = whole(chunk);
+                crc.update(records);
+                records.rewind();
+                writeFully(channel, records, position);
+                position += records.capacity();
+            }
+            return store.size();
+        });
+    }
+
+    /**
+     * Writes the header, the dictionaries and whatever records writes, to
+     * a new file beside file that then atomically replaces it. Replacing
+     * rather than truncating file leaves stores already mapping it reading
+     * the old contents, where truncating would fault them on their next
+     * access.
+     */
+    private static void write(Path file, String[] names, String[] prereleases, RecordWriter records) throws IOException {
+        ByteBuffer dictionaries = encodeDictionaries(names, prereleases);
+        long dictionaryOffset = HEADER_BYTES;
+        long recordsOffset = align(dictionaryOffset + dictionaries.remaining());
+        CRC32 dictionaryCrc = new CRC32();
+        dictionaryCrc.update(dictionaries.duplicate());
+        
+        // Not Files.createTempFile, whose owner-only permissions would then
+        // replace the file's
+        Path temp = file.toAbsolutePath().resolveSibling("." + file.getFileName() + "."
+                + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+        try {
+            try(FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                writeFully(channel, dictionaries, dictionaryOffset);
+                CRC32 recordsCrc = new CRC32();
+                long size = records.write(channel, recordsOffset, recordsCrc);
+                // Padding before empty records still has to exist
+                if(channel.size() < recordsOffset)
+                    writeFully(channel, ByteBuffer.allocate((int) (recordsOffset - channel.size())), channel.size());
+                
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(OffHeapVersionStore.RECORD_BYTES);
+                header.putInt(names.length).putInt(prereleases.length).putInt(0);
+                header.putLong(size).putLong(dictionaryOffset).putLong(recordsOffset);
+                header.putLong(dictionaryCrc.getValue()).putLong(recordsCrc.getValue());
+                header.flip();
+                writeFully(channel, header, 0);
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch(Throwable t) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch(IOException suppressed) {
+                t.addSuppressed(suppressed);
+            }
+            throw t;
+        }
+    }
+
+    private static long flush(FileChannel channel, ByteBuffer buffer, long position, CRC32 crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer);
+        buffer.rewind();
+        int length = buffer.remaining();
+        writeFully(channel, buffer, position);
+        buffer.clear();
+        return position + length;
+    }
+
+    private static int compareRecords(int[] lhs, int[] rhs) {
+        for(int i = 0; i < lhs.length; i++) {
+            int compare = Integer.compare(lhs[i], rhs[i]);
+            if(compare != 0)
+                return compare;
+        }
+        return 0;
+    }
+
+    /**
+     * Cursor over one sorted run of a stream being written, giving its
+     * records with ranks in the merged dictionaries.
+     */
+    private static final class Run {
+        private final OffHeapVersionStore store;
+        private final int[] nameRanks;
+        // One longer than the run's prereleases, for the release rank
+        private final int[] prereleaseRanks;
+        private final int[] record = new int[5];
+        private long index = -1;
+
+        Run(OffHeapVersionStore store, String[] names, String[] prereleases) {
+            this.store = store;
+            nameRanks = new int[store.names().length];
+            for(int i = 0; i < nameRanks.length; i++)
+                nameRanks[i] = Arrays.binarySearch(names, store.names()[i]);
+            prereleaseRanks = new int[store.prereleases().length + 1];
+            for(int i = 0; i < store.prereleases().length; i++)
+                prereleaseRanks[i] = Arrays.binarySearch(prereleases, store.prereleases()[i]);
+            prereleaseRanks[store.prereleases().length] = prereleases.length;
+        }
+
+        /**
+         * @return False if the run is exhausted
+         */
+        boolean next() {
+            if(++index == store.size())
+                return false;
+            record[0] = nameRanks[store.field(index, OffHeapVersionStore.NAME_OFFSET)];
+            record[1] = store.field(index, OffHeapVersionStore.MAJOR_OFFSET);
+            record[2] = store.field(index, OffHeapVersionStore.MINOR_OFFSET);
+            record[3] = store.field(index, OffHeapVersionStore.PATCH_OFFSET);
+            record[4] = prereleaseRanks[store.field(index, OffHeapVersionStore.PRERELEASE_OFFSET)];
+            return true;
+        }
+    }
+
+    /**
+     * Source of an index file's records.
+     */
+    private interface RecordWriter {
+        /**
+         * Writes records in sorted order from position on.
+         * @param crc CRC to update with every record written
+         * @return Number of records written
+         */
+        long write(FileChannel channel, long position, CRC32 crc) throws IOException;
+    }
+
+    /**
+     * Maps an index file, checking its header and dictionaries but not its
+     * records.
+     * @param file File written by write()
+     * @return Store reading from the mapped file
+     * @throws IOException if the file can't be read or is corrupt
+     */
+    public static OffHeapVersionStore open(Path file) throws IOException {
+        return open(file, false);
+    }
+
+    /**
+     * Maps an index file.
+     * @param file File written by write()
+     * @param verifyRecords True to also check the records' CRC, which reads
+     * the whole file
+     * @return Store reading from the mapped file
+     * @throws IOException if the file can't be read or is corrupt
+     */
+    public static OffHeapVersionStore open(Path file, boolean verifyRecords) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if(fileSize < HEADER_BYTES)
+                throw corrupt(file, "shorter than its header");
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if(header.getInt() != MAGIC)
+                throw corrupt(file, "not a version index");
+            int formatVersion = header.getInt();
+            if(formatVersion != FORMAT_VERSION)
+                throw corrupt(file, "unsupported format version " + formatVersion);
+            if(header.getInt() != OffHeapVersionStore.RECORD_BYTES)
+                throw corrupt(file, "unexpected record size");
+            int nameCount = header.getInt();
+            int prereleaseCount = header.getInt();
+            header.getInt();
+            long size = header.getLong();
+            long dictionaryOffset = header.getLong();
+            long recordsOffset = header.getLong();
+            long dictionaryCrc = header.getLong();
+            long recordsCrc = header.getLong();
+            if(nameCount < 0 || prereleaseCount < 0 || size < 0 || dictionaryOffset < HEADER_BYTES
+                    || recordsOffset < dictionaryOffset || recordsOffset - dictionaryOffset > Integer.MAX_VALUE
+                    || size > (fileSize - recordsOffset) / OffHeapVersionStore.RECORD_BYTES)
+                throw corrupt(file, "inconsistent header");
+            
+            ByteBuffer dictionaries = channel.map(FileChannel.MapMode.READ_ONLY, dictionaryOffset, recordsOffset - dictionaryOffset)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            CRC32 crc = new CRC32();
+            int dictionaryLength = dictionaryLength(dictionaries, nameCount + prereleaseCount);
+            if(dictionaryLength < 0)
+                throw corrupt(file, "truncated dictionaries");
+            ByteBuffer dictionaryBytes = dictionaries.duplicate();
+            dictionaryBytes.limit(dictionaryLength);
+            crc.update(dictionaryBytes);
+            if(crc.getValue() != dictionaryCrc)
+                throw corrupt(file, "dictionary checksum mismatch");
+            String[] names = decodeStrings(dictionaries, nameCount);
+            String[] prereleases = decodeStrings(dictionaries, prereleaseCount);
+            
+            int chunkShift = OffHeapVersionStore.DEFAULT_CHUNK_SHIFT;
+            long chunkRecords = 1L << chunkShift;
+            ByteBuffer[] chunks = new ByteBuffer[(int) ((size + chunkRecords - 1) >>> chunkShift)];
+            crc.reset();
+            for(int i = 0; i < chunks.length; i++) {
+                long inChunk = Math.min(chunkRecords, size - (i * chunkRecords));
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY,
+                        recordsOffset + i * chunkRecords * OffHeapVersionStore.RECORD_BYTES, inChunk * OffHeapVersionStore.RECORD_BYTES);
+                chunks[i] = chunk.order(ByteOrder.LITTLE_ENDIAN);
+                if(verifyRecords)
+                    crc.update(whole(chunk));
+            }
+            if(verifyRecords && crc.getValue() != recordsCrc)
+                throw corrupt(file, "record checksum mismatch");
+            // The mappings stay valid after the channel is closed
+            return new OffHeapVersionStore(names, prereleases, chunks, chunkShift, size);
+        }
+    }
+
+    private static ByteBuffer encodeDictionaries(String[] names, String[] prereleases) {
+        int length = 0;
+        for(String name : names)
+            length += 4 + name.length();
+        for(String prerelease : prereleases)
+            length += 4 + prerelease.length();
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        for(String name : names)
+            buffer.putInt(name.length()).put(name.getBytes(StandardCharsets.US_ASCII));
+        for(String prerelease : prereleases)
+            buffer.putInt(prerelease.length()).put(prerelease.getBytes(StandardCharsets.US_ASCII));
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * @return Bytes taken by count length-prefixed Strings, or -1 if they
+     * run past the buffer
+     */
+    private static int dictionaryLength(ByteBuffer buffer, int count) {
+        long position = 0;
+        for(int i = 0; i < count; i++) {
+            if(position + 4 > buffer.limit())
+                return -1;
+            int length = buffer.getInt((int) position);
+            if(length < 0)
+                return -1;
+            position += 4L + length;
+        }
+        return (position > buffer.limit()) ? -1 : (int) position;
+    }
+
+    private static String[] decodeStrings(ByteBuffer buffer, int count) {
+        String[] strings = new String[count];
+        byte[] bytes = new byte[0];
+        for(int i = 0; i < count; i++) {
+            int length = buffer.getInt();
+            if(bytes.length < length)
+                bytes = new byte[length];
+            buffer.get(bytes, 0, length);
+            strings[i] = new String(bytes, 0, length, StandardCharsets.US_ASCII);
+        }
+        return strings;
+    }
+
+    private static ByteBuffer whole(ByteBuffer chunk) {
+        ByteBuffer view = chunk.duplicate();
+        view.clear();
+        return view;
+    }
+
+    private static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while(buffer.hasRemaining())
+            position += channel.write(buffer, position);
+    }
+
+    private static IOException corrupt(Path file, String message) {
+        return new IOException(file + ": " + message);
+    }
+}
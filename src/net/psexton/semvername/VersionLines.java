@@ -0,0 +1,144 @@
+/*
+ * VersionLines.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 6:14:40 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * VersionLines.
+ * Summary of a set of semvernames by compatibility line, i.e. by (name,
+ * major): the latest semvername on each line and how many there were.
+ * Built by VersionCollectors.toVersionLines() or VersionCollectors.summarize.
+ * Lines are numbered from 0 to size() - 1 in no particular order.
+ * Immutable once built.
+ * @author PSexton
+ */
+public final class VersionLines {
+    private final LineTable table;
+
+    VersionLines(LineTable table) {
+        this.table = table;
+    }
+
+    /**
+     * @return Number of lines
+     */
+    public int size() {
+        return table.size();
+    }
+
+    public String name(int line) {
+        return table.name(checkLine(line));
+    }
+
+    public int major(int line) {
+        return table.major(checkLine(line));
+    }
+
+    /**
+     * @return Greatest semvername on the line
+     */
+    public SemanticVersionName latest(int line) {
+        return table.latest(checkLine(line));
+    }
+
+    /**
+     * @return Number of semvernames on the line, counting duplicates
+     */
+    public long count(int line) {
+        return table.count(checkLine(line));
+    }
+
+    /**
+     * @return Greatest semvername with this name and major, or null if there
+     * are none
+     */
+    public SemanticVersionName latest(String name, int major) {
+        int line = table.find(name, major);
+        return (line < 0) ? null : table.latest(line);
+    }
+
+    /**
+     * @return Number of semvernames with this name and major
+     */
+    public long count(String name, int major) {
+        int line = table.find(name, major);
+        return (line < 0) ? 0 : table.count(line);
+    }
+
+    /**
+     * @return Number of semvernames summarized
+     */
+    public long total() {
+        long total = 0;
+        for(int line = 0; line < table.size(); line++)
+            total += table.count(line);
+        return total;
+    }
+
+    /**
+     * @return Greatest semvername for each name
+     */
+    public Map<String, SemanticVersionName> latestPerName() {
+        return latestPerName(table);
+    }
+
+    /**
+     * @return For each name, the greatest semvername for each major, by major
+     */
+    public Map<String, SortedMap<Integer, SemanticVersionName>> latestPerMajor() {
+        Map<String, SortedMap<Integer, SemanticVersionName>> result = new HashMap<>();
+        for(int line = 0; line < table.size(); line++)
+            result.computeIfAbsent(table.name(line), name -> new TreeMap<>()).put(table.major(line), table.latest(line));
+        return result;
+    }
+
+    /**
+     * @return For each name, the number of semvernames for each major, by major
+     */
+    public Map<String, SortedMap<Integer, Long>> countsPerLine() {
+        Map<String, SortedMap<Integer, Long>> result = new HashMap<>();
+        for(int line = 0; line < table.size(); line++)
+            result.computeIfAbsent(table.name(line), name -> new TreeMap<>()).put(table.major(line), table.count(line));
+        return result;
+    }
+
+    /**
+     * Greatest semvername per name, across every line of table.
+     */
+    static Map<String, SemanticVersionName> latestPerName(LineTable table) {
+        Map<String, SemanticVersionName> result = new HashMap<>(Math.max(16, table.size() * 4 / 3 + 1));
+        for(int line = 0; line < table.size(); line++)
+            result.merge(table.name(line), table.latest(line), (lhs, rhs) -> lhs.compareTo(rhs) >= 0 ? lhs : rhs);
+        return result;
+    }
+
+    private int checkLine(int line) {
+        if(line < 0 || line >= table.size())
+            throw new IndexOutOfBoundsException("line " + line + " out of bounds for size " + table.size());
+        return line;
+    }
+
+    @Override
+    public String toString() {
+        return "VersionLines{lines=" + size() + ", total=" + total() + "}";
+    }
+}
@@ -0,0 +1,773 @@
+/*
+ * VersionRange.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 2:58:21 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * VersionRange.
+ * Compiled version constraint, such as "&gt;=1.2.0 &lt;2.0.0", "~1.4",
+ * "^2.1.3", "1.x" or "1.2.0 - 1.4". Immutable.
+ * A range is a sorted list of disjoint intervals over the SemanticVersion
+ * total order, with each end held as a packed key. Matching a packable
+ * version costs a couple of long comparisons per interval; the prerelease
+ * Strings are only compared when a version's numbers tie with a bound's.
+ * <p>
+ * Supported syntax, with ranges separated by "||" and comparators within a
+ * range separated by whitespace (all of which must hold):
+ * <ul>
+ * <li>=V, V: exactly V, or every version covered by a partial V ("1.2", "1.x")</li>
+ * <li>&gt;V, &gt;=V, &lt;V, &lt;=V: compared with compareTo, missing
+ * components filled with 0 ("&gt;1.2" and "&lt;=1.2" cover all of 1.2.x)</li>
+ * <li>~V: V up to the next minor, or the next major if only a major is given</li>
+ * <li>^V: V up to the next change of the first non-zero component</li>
+ * <li>A - B: from A to B inclusive, or to all of B if B is partial</li>
+ * <li>*, x, X, or an empty string: every version</li>
+ * </ul>
+ * Unlike npm, prereleases are not treated specially: a prerelease matches if
+ * it falls inside an interval under compareTo. The upper ends that come from
+ * ~, ^, partial versions and wildcards stop below every prerelease of the
+ * next version, so "^1.2.3" doesn't match 2.0.0-rc1, while an explicit
+ * "&lt;2.0.0" does, since 2.0.0-rc1 &lt; 2.0.0.
+ * @author PSexton
+ */
+public final class VersionRange {
+    private static final VersionRange ANY = new VersionRange(Collections.singletonList(new Interval(null, true, null, true)));
+    private static final VersionRange NONE = new VersionRange(Collections.<Interval>emptyList());
+
+    private final Interval[] intervals;
+
+    private VersionRange(List<Interval> intervals) {
+        this.intervals = normalize(intervals);
+    }
+
+    /**
+     * @return Range that matches every version
+     */
+    public static VersionRange any() {
+        return ANY;
+    }
+
+    /**
+     * @return Range that matches no version
+     */
+    public static VersionRange none() {
+        return NONE;
+    }
+
+    /**
+     * Compiles a range expression.
+     * @param expression Range expression, see the class comment
+     * @return Compiled range
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    public static VersionRange valueOf(String expression) {
+        if(expression == null)
+            throw new IllegalArgumentException("expression cannot be null");
+        return new RangeParser(expression).parse();
+    }
+
+    /**
+     * @param semver Version to test
+     * @return True if semver is inside the range
+     */
+    public boolean matches(SemanticVersion semver) {
+        long key = semver.toPackedKey();
+        if(key >= 0)
+            return matches(key, semver.getPrerelease());
+        for(Interval interval : intervals) {
+            if(interval.contains(semver.major(), semver.minor(), semver.patch(), semver.getPrerelease()))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param semvername Version to test, ignoring its name
+     * @return True if semvername's version is inside the range
+     */
+    public boolean matches(SemanticVersionName semvername) {
+        return matches(semvername.getSemver());
+    }
+
+    /**
+     * Tests a version given as its packed key and prerelease, without a
+     * SemanticVersion object.
+     * @param packedKey Value from SemanticVersion.toPackedKey()
+     * @param prerelease Prerelease string, empty for a release
+     * @return True if the version is inside the range
+     */
+    public boolean matches(long packedKey, String prerelease) {
+        if(packedKey < 0)
+            throw new IllegalArgumentException("packed key must be non-negative");
+        for(Interval interval : intervals) {
+            if(interval.contains(packedKey, prerelease))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Tests a version given as its fields, for callers such as VersionTable
+     * that hold versions in columns.
+     */
+    boolean matches(int major, int minor, int patch, String prerelease) {
+        long key = SemanticVersion.pack(major, minor, patch, prerelease.isEmpty());
+        if(key >= 0)
+            return matches(key, prerelease);
+        for(Interval interval : intervals) {
+            if(interval.contains(major, minor, patch, prerelease))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param other Range to combine with
+     * @return Range matching versions matched by either range
+     */
+    public VersionRange union(VersionRange other) {
+        List<Interval> union = new ArrayList<>(intervals.length + other.intervals.length);
+        union.addAll(Arrays.asList(intervals));
+        union.addAll(Arrays.asList(other.intervals));
+        return new VersionRange(union);
+    }
+
+    /**
+     * @param other Range to combine with
+     * @return Range matching versions matched by both ranges
+     */
+    public VersionRange intersection(VersionRange other) {
+        List<Interval> intersection = new ArrayList<>();
+        for(Interval lhs : intervals) {
+            for(Interval rhs : other.intervals)
+                intersection.add(lhs.intersect(rhs));
+        }
+        return new VersionRange(intersection);
+    }
+
+    /**
+     * @return True if this range has no intervals. A range that isn't empty
+     * can still match no version, e.g. "&gt;1.2.3 &lt;1.2.4-0".
+     */
+    public boolean isEmpty() {
+        return intervals.length == 0;
+    }
+
+    int intervalCount() {
+        return intervals.length;
+    }
+
+    Interval interval(int index) {
+        return intervals[index];
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(intervals);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final VersionRange other = (VersionRange) obj;
+        return Arrays.equals(this.intervals, other.intervals);
+    }
+
+    /**
+     * Interval notation, e.g. "[1.2.0, 2.0.0-*)", where X.Y.Z-* is the point
+     * just below every prerelease of X.Y.Z, and intervals are joined by " || ".
+     */
+    @Override
+    public String toString() {
+        if(intervals.length == 0)
+            return "{}";
+        StringBuilder sb = new StringBuilder();
+        for(Interval interval : intervals) {
+            if(sb.length() > 0)
+                sb.append(" || ");
+            interval.appendTo(sb);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Sorts by lower end, drops empty intervals, and merges overlapping and
+     * touching ones.
+     */
+    private static Interval[] normalize(List<Interval> intervals) {
+        List<Interval> sorted = new ArrayList<>(intervals.size());
+        for(Interval interval : intervals) {
+            if(!interval.isEmpty())
+                sorted.add(interval);
+        }
+        Collections.sort(sorted, Interval.BY_LOWER);
+        List<Interval> merged = new ArrayList<>(sorted.size());
+        for(Interval interval : sorted) {
+            if(!merged.isEmpty()) {
+                Interval last = merged.get(merged.size() - 1);
+                if(last.touches(interval)) {
+                    merged.set(merged.size() - 1, last.span(interval));
+                    continue;
+                }
+            }
+            merged.add(interval);
+        }
+        return merged.toArray(new Interval[merged.size()]);
+    }
+
+    /**
+     * A point in the SemanticVersion order: either a version, or a floor,
+     * the point just below every prerelease of major.minor.patch. A floor
+     * carries an empty prerelease with its key's release bit clear, so it
+     * compares below any real prerelease without needing a special case.
+     */
+    static final class Bound {
+        final int major;
+        final int minor;
+        final int patch;
+        final String prerelease;
+        final boolean floor;
+        final long key;
+
+        private Bound(int major, int minor, int patch, String prerelease, boolean floor) {
+            this.major = major;
+            this.minor = minor;
+            this.patch = patch;
+            this.prerelease = prerelease;
+            this.floor = floor;
+            this.key = SemanticVersion.pack(major, minor, patch, !floor && prerelease.isEmpty());
+        }
+
+        static Bound at(int major, int minor, int patch, String prerelease) {
+            return new Bound(major, minor, patch, prerelease, false);
+        }
+
+        static Bound floor(int major, int minor, int patch) {
+            return new Bound(major, minor, patch, "", true);
+        }
+
+        boolean isRelease() {
+            return !floor && prerelease.isEmpty();
+        }
+
+        /**
+         * Floors sort below prereleases, which sort below the release.
+         */
+        private int rank() {
+            return floor ? 0 : (prerelease.isEmpty() ? 2 : 1);
+        }
+
+        /**
+         * Compares a version to this bound.
+         */
+        int compare(SemanticVersion semver) {
+            long key = semver.toPackedKey();
+            if(key >= 0)
+                return compareKey(key, semver.getPrerelease());
+            return compareFields(semver.major(), semver.minor(), semver.patch(), semver.getPrerelease());
+        }
+
+        /**
+         * Compares a packed version to this bound.
+         */
+        int compareKey(long key, String prerelease) {
+            if(this.key < 0) {
+                return compareFields(SemanticVersion.unpackMajor(key), SemanticVersion.unpackMinor(key),
+                        SemanticVersion.unpackPatch(key), prerelease);
+            }
+            int compareKeys = Long.compare(key, this.key);
+            if(compareKeys != 0 || (key & SemanticVersion.RELEASE_BIT) != 0)
+                return compareKeys;
+            return prerelease.compareTo(this.prerelease);
+        }
+
+        /**
+         * Compares a version given by its fields to this bound.
+         */
+        int compareFields(int major, int minor, int patch, String prerelease) {
+            int compare = compareNumbers(major, minor, patch);
+            if(compare != 0)
+                return compare;
+            compare = Integer.compare(prerelease.isEmpty() ? 2 : 1, rank());
+            if(compare != 0 || prerelease.isEmpty())
+                return compare;
+            return prerelease.compareTo(this.prerelease);
+        }
+
+        int compareTo(Bound other) {
+            int compare = compareNumbers(other.major, other.minor, other.patch);
+            if(compare != 0)
+                return -compare;
+            compare = Integer.compare(rank(), other.rank());
+            if(compare != 0 || rank() != 1)
+                return compare;
+            return prerelease.compareTo(other.prerelease);
+        }
+
+        private int compareNumbers(int major, int minor, int patch) {
+            int compare = Integer.compare(major, this.major);
+            if(compare != 0)
+                return compare;
+            compare = Integer.compare(minor, this.minor);
+            if(compare != 0)
+                return compare;
+            return Integer.compare(patch, this.patch);
+        }
+
+        void appendTo(StringBuilder sb) {
+            sb.append(major).append('.').append(minor).append('.').append(patch);
+            if(floor)
+                sb.append("-*");
+            else if(!prerelease.isEmpty())
+                sb.append('-').append(prerelease);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 3;
+            hash = 29 * hash + this.major;
+            hash = 29 * hash + this.minor;
+            hash = 29 * hash + this.patch;
+            hash = 29 * hash + this.prerelease.hashCode();
+            hash = 29 * hash + (this.floor ? 1 : 0);
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final Bound other = (Bound) obj;
+            return this.major == other.major && this.minor == other.minor && this.patch == other.patch
+                    && this.floor == other.floor && this.prerelease.equals(other.prerelease);
+        }
+    }
+
+    /**
+     * [lower, upper] with each end open or closed; a null end is unbounded.
+     * Floors are always held as closed ends: no version equals a floor, so
+     * open and closed would match the same versions, and keeping one form
+     * lets equals and merging ignore the difference.
+     */
+    static final class Interval {
+        static final Comparator<Interval> BY_LOWER = new Comparator<Interval>() {
+            @Override
+            public int compare(Interval lhs, Interval rhs) {
+                return compareLower(lhs, rhs);
+            }
+        };
+
+        final Bound lower;
+        final boolean lowerInclusive;
+        final Bound upper;
+        final boolean upperInclusive;
+
+        Interval(Bound lower, boolean lowerInclusive, Bound upper, boolean upperInclusive) {
+            this.lower = lower;
+            this.lowerInclusive = lowerInclusive || lower == null || lower.floor;
+            this.upper = upper;
+            this.upperInclusive = upperInclusive || upper == null || upper.floor;
+        }
+
+        /**
+         * @return True if semver is below this interval
+         */
+        boolean startsAfter(SemanticVersion semver) {
+            if(lower == null)
+                return false;
+            int compare = lower.compare(semver);
+            return compare < 0 || (compare == 0 && !lowerInclusive);
+        }
+
+        /**
+         * @return True if semver is above this interval
+         */
+        boolean endsBefore(SemanticVersion semver) {
+            if(upper == null)
+                return false;
+            int compare = upper.compare(semver);
+            return compare > 0 || (compare == 0 && !upperInclusive);
+        }
+
+        boolean contains(SemanticVersion semver) {
+            return !startsAfter(semver) && !endsBefore(semver);
+        }
+
+        boolean contains(long key, String prerelease) {
+            if(lower != null) {
+                int compare = lower.compareKey(key, prerelease);
+                if(compare < 0 || (compare == 0 && !lowerInclusive))
+                    return false;
+            }
+            if(upper != null) {
+                int compare = upper.compareKey(key, prerelease);
+                if(compare > 0 || (compare == 0 && !upperInclusive))
+                    return false;
+            }
+            return true;
+        }
+
+        boolean contains(int major, int minor, int patch, String prerelease) {
+            if(lower != null) {
+                int compare = lower.compareFields(major, minor, patch, prerelease);
+                if(compare < 0 || (compare == 0 && !lowerInclusive))
+                    return false;
+            }
+            if(upper != null) {
+                int compare = upper.compareFields(major, minor, patch, prerelease);
+                if(compare > 0 || (compare == 0 && !upperInclusive))
+                    return false;
+            }
+            return true;
+        }
+
+        boolean isEmpty() {
+            if(lower == null || upper == null)
+                return false;
+            int compare = lower.compareTo(upper);
+            if(compare != 0)
+                return compare > 0;
+            return lower.floor || !lowerInclusive || !upperInclusive;
+        }
+
+        /**
+         * @return True if this and next, which doesn't start before this,
+         * overlap or meet with no version between them
+         */
+        boolean touches(Interval next) {
+            if(upper == null || next.lower == null)
+                return true;
+            int compare = upper.compareTo(next.lower);
+            return compare > 0 || (compare == 0 && (upperInclusive || next.lowerInclusive));
+        }
+
+        /**
+         * @return Smallest interval covering this and next, which doesn't
+         * start before this
+         */
+        Interval span(Interval next) {
+            if(compareUpper(this, next) >= 0)
+                return this;
+            return new Interval(lower, lowerInclusive, next.upper, next.upperInclusive);
+        }
+
+        Interval intersect(Interval other) {
+            Interval low = (compareLower(this, other) >= 0) ? this : other;
+            Interval high = (compareUpper(this, other) <= 0) ? this : other;
+            return new Interval(low.lower, low.lowerInclusive, high.upper, high.upperInclusive);
+        }
+
+        private static int compareLower(Interval lhs, Interval rhs) {
+            if(lhs.lower == null || rhs.lower == null)
+                return Boolean.compare(lhs.lower != null, rhs.lower != null);
+            int compare = lhs.lower.compareTo(rhs.lower);
+            if(compare != 0)
+                return compare;
+            // A closed lower end starts before an open one
+            return Boolean.compare(!lhs.lowerInclusive, !rhs.lowerInclusive);
+        }
+
+        static int compareUpper(Interval lhs, Interval rhs) {
+            if(lhs.upper == null || rhs.upper == null)
+                return Boolean.compare(lhs.upper == null, rhs.upper == null);
+            int compare = lhs.upper.compareTo(rhs.upper);
+            if(compare != 0)
+                return compare;
+            // A closed upper end finishes after an open one
+            return Boolean.compare(lhs.upperInclusive, rhs.upperInclusive);
+        }
+
+        void appendTo(StringBuilder sb) {
+            if(lower == null)
+                sb.append("(*");
+            else {
+                sb.append(lowerInclusive ? '[' : '(');
+                lower.appendTo(sb);
+            }
+            sb.append(", ");
+            if(upper == null)
+                sb.append("*)");
+            else {
+                upper.appendTo(sb);
+                sb.append((upperInclusive && !upper.floor) ? ']' : ')');
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 7;
+            hash = 31 * hash + ((lower == null) ? 0 : lower.hashCode());
+            hash = 31 * hash + (lowerInclusive ? 1 : 0);
+            hash = 31 * hash + ((upper == null) ? 0 : upper.hashCode());
+            hash = 31 * hash + (upperInclusive ? 1 : 0);
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final Interval other = (Interval) obj;
+            return this.lowerInclusive == other.lowerInclusive && this.upperInclusive == other.upperInclusive
+                    && (this.lower == null ? other.lower == null : this.lower.equals(other.lower))
+                    && (this.upper == null ? other.upper == null : this.upper.equals(other.upper));
+        }
+    }
+
+    /**
+     * Recursive descent over the expression. Each comparator set compiles to
+     * one interval, the intersection of its comparators.
+     */
+    private static final class RangeParser {
+        private final String s;
+        private int i;
+
+        RangeParser(String s) {
+            this.s = s;
+        }
+
+        VersionRange parse() {
+            List<Interval> intervals = new ArrayList<>();
+            while(true) {
+                intervals.add(parseSet());
+                if(i == s.length())
+                    break;
+                // parseSet only stops early at "||"
+                i += 2;
+            }
+            return new VersionRange(intervals);
+        }
+
+        private Interval parseSet() {
+            Interval set = new Interval(null, true, null, true);
+            skipSpaces();
+            boolean first = true;
+            while(i < s.length() && !s.startsWith("||", i)) {
+                int start = i;
+                Interval comparator = parseComparator();
+                // "A - B" is only recognised after a bare first version
+                if(first && isBare(start)) {
+                    int mark = i;
+                    skipSpaces();
+                    if(i > mark && i < s.length() && s.charAt(i) == '-' && i + 1 < s.length() && s.charAt(i + 1) == ' ') {
+                        i = start;
+                        comparator = parseHyphen();
+                    }
+                    else
+                        i = mark;
+                }
+                set = set.intersect(comparator);
+                first = false;
+                int mark = i;
+                skipSpaces();
+                if(i == mark && i < s.length() && !s.startsWith("||", i))
+                    throw error("expected whitespace");
+            }
+            return set;
+        }
+
+        private boolean isBare(int start) {
+            char c = s.charAt(start);
+            return c != '<' && c != '>' && c != '=' && c != '~' && c != '^';
+        }
+
+        private Interval parseHyphen() {
+            Partial from = parsePartial();
+            skipSpaces();
+            i++;
+            skipSpaces();
+            Partial to = parsePartial();
+            if(to.isFull())
+                return new Interval(from.atOrZero(), true, to.atOrZero(), true);
+            return new Interval(from.atOrZero(), true, to.next(), false);
+        }
+
+        private Interval parseComparator() {
+            String op = "";
+            if(s.startsWith(">=", i) || s.startsWith("<=", i))
+                op = s.substring(i, i += 2);
+            else if(i < s.length() && "<>=~^".indexOf(s.charAt(i)) >= 0)
+                op = s.substring(i, ++i);
+            skipSpaces();
+            Partial v = parsePartial();
+            if(v.count == 0) {
+                // Nothing is below or above every version
+                if(op.equals("<") || op.equals(">"))
+                    return new Interval(Bound.floor(0, 0, 0), true, Bound.floor(0, 0, 0), true);
+                return new Interval(null, true, null, true);
+            }
+            switch(op) {
+                case ">":
+                    if(v.isFull())
+                        return new Interval(v.atOrZero(), false, null, true);
+                    return new Interval(v.next(), true, null, true);
+                case ">=":
+                    return new Interval(v.atOrZero(), true, null, true);
+                case "<":
+                    return new Interval(null, true, v.atOrZero(), false);
+                case "<=":
+                    if(v.isFull())
+                        return new Interval(null, true, v.atOrZero(), true);
+                    return new Interval(null, true, v.next(), false);
+                case "~":
+                    return new Interval(v.atOrZero(), true, (v.count == 1) ? v.next() : v.next(2), false);
+                case "^":
+                    return new Interval(v.atOrZero(), true, v.caretUpper(), false);
+                default:
+                    if(v.isFull())
+                        return new Interval(v.atOrZero(), true, v.atOrZero(), true);
+                    return new Interval(v.floorOrZero(), true, v.next(), false);
+            }
+        }
+
+        /**
+         * [v]major[.minor[.patch[-prerelease]]], where any of the numbers
+         * may be x, X, or *, which also stands for everything after it.
+         */
+        private Partial parsePartial() {
+            if(i < s.length() && (s.charAt(i) == 'v' || s.charAt(i) == 'V'))
+                i++;
+            Partial v = new Partial();
+            boolean wildcard = false;
+            for(int part = 0; part < 3; part++) {
+                if(part > 0) {
+                    if(i == s.length() || s.charAt(i) != '.')
+                        break;
+                    i++;
+                }
+                char c = (i < s.length()) ? s.charAt(i) : ' ';
+                if(c == 'x' || c == 'X' || c == '*') {
+                    wildcard = true;
+                    i++;
+                    continue;
+                }
+                if(!Parser.isDigit(c))
+                    throw error(ParseError.EXPECTED_DIGIT.getMessage());
+                long value = 0;
+                while(i < s.length() && Parser.isDigit(s.charAt(i))) {
+                    value = value * 10 + (s.charAt(i++) - '0');
+                    if(value > Integer.MAX_VALUE)
+                        throw error(ParseError.NUMBER_TOO_LARGE.getMessage());
+                }
+                if(!wildcard)
+                    v.numbers[v.count++] = (int) value;
+            }
+            if(i < s.length() && s.charAt(i) == '-' && v.isFull()) {
+                int start = ++i;
+                while(i < s.length() && Parser.isPrereleaseChar(s.charAt(i)))
+                    i++;
+                if(i == start)
+                    throw error(ParseError.EMPTY_PRERELEASE.getMessage());
+                v.prerelease = s.substring(start, i);
+            }
+            if(i < s.length() && s.charAt(i) != ' ' && s.charAt(i) != '|')
+                throw error("unexpected character '" + s.charAt(i) + "'");
+            return v;
+        }
+
+        private void skipSpaces() {
+            while(i < s.length() && s.charAt(i) == ' ')
+                i++;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at index " + i + " in \"" + s + "\"");
+        }
+    }
+
+    /**
+     * A possibly partial version: only the first count numbers were given.
+     */
+    private static final class Partial {
+        final int[] numbers = new int[3];
+        int count;
+        String prerelease = "";
+
+        boolean isFull() {
+            return count == 3;
+        }
+
+        /**
+         * @return The version with missing numbers as 0
+         */
+        Bound atOrZero() {
+            return Bound.at(numbers[0], numbers[1], numbers[2], prerelease);
+        }
+
+        /**
+         * @return The floor of the version with missing numbers as 0
+         */
+        Bound floorOrZero() {
+            return Bound.floor(numbers[0], numbers[1], numbers[2]);
+        }
+
+        /**
+         * @return Floor just past every version this partial covers
+         */
+        Bound next() {
+            return next(count);
+        }
+
+        /**
+         * @return Floor of the version after incrementing the given number
+         * of leading components, or null if that overflows
+         */
+        Bound next(int components) {
+            if(components == 0 || numbers[components - 1] == Integer.MAX_VALUE)
+                return null;
+            if(components == 1)
+                return Bound.floor(numbers[0] + 1, 0, 0);
+            if(components == 2)
+                return Bound.floor(numbers[0], numbers[1] + 1, 0);
+            return Bound.floor(numbers[0], numbers[1], numbers[2] + 1);
+        }
+
+        /**
+         * ^ allows changes below the first non-zero given component, or
+         * below the last given one if they are all zero.
+         */
+        Bound caretUpper() {
+            for(int component = 0; component < count; component++) {
+                if(numbers[component] != 0)
+                    return next(component + 1);
+            }
+            return next(count);
+        }
+    }
+}
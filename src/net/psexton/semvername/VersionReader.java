@@ -0,0 +1,237 @@
+/*
+ * VersionReader.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 9:21:45 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * VersionReader.
+ * Reads what VersionWriter writes. Decoded values are checked the same way
+ * the constructors check them, so corrupt input can't produce an invalid
+ * version; it fails with an IOException instead.
+ * Repeated names come back as the same String instance.
+ * Reading from a ByteBuffer or a channel decodes straight out of a buffer;
+ * reading from a DataInput goes a byte at a time, so it never reads past
+ * the last version asked for. Not thread-safe.
+ * @author PSexton
+ * @see VersionWriter
+ */
+public final class VersionReader implements Closeable {
+    /**
+     * Longest name or prerelease read back; a longer length is taken as
+     * corrupt input.
+     */
+    static final int MAX_LENGTH = 65535;
+    private static final int BLOCK_BYTES = 8192;
+
+    private final DataInput in;
+    private final ByteBuffer source;
+    private final ReadableByteChannel channel;
+    private final List<String> dictionary = new ArrayList<>();
+    private byte[] buffer = new byte[64];
+
+    /**
+     * @param in Source
+     */
+    public VersionReader(DataInput in) {
+        this(in, null, null);
+        if(in == null)
+            throw new IllegalArgumentException("in cannot be null");
+    }
+
+    /**
+     * Reads from the buffer's position up to its limit, advancing the position.
+     * @param source Source
+     */
+    public VersionReader(ByteBuffer source) {
+        this(null, source, null);
+        if(source == null)
+            throw new IllegalArgumentException("source cannot be null");
+    }
+
+    /**
+     * Reads from a channel through a buffer, which may read ahead of the
+     * last version asked for.
+     * @param channel Source
+     */
+    public VersionReader(ReadableByteChannel channel) {
+        this(null, (ByteBuffer) ByteBuffer.allocate(BLOCK_BYTES).flip(), channel);
+        if(channel == null)
+            throw new IllegalArgumentException("channel cannot be null");
+    }
+
+    private VersionReader(DataInput in, ByteBuffer source, ReadableByteChannel channel) {
+        this.in = in;
+        this.source = source;
+        this.channel = channel;
+    }
+
+    /**
+     * @return Next SemanticVersion
+     * @throws java.io.EOFException if the input ends first
+     * @throws IOException if the input is corrupt
+     */
+    public SemanticVersion readVersion() throws IOException {
+        int major = readVarint();
+        int minor = readVarint();
+        int patch = readVarint();
+        int length = readVarint();
+        String prerelease = (length == 0) ? "" : readAscii(length);
+        try {
+            SemanticVersion.checkPrerelease(prerelease);
+        }
+        catch(IllegalArgumentException e) {
+            throw new IOException("corrupt version: " + e.getMessage());
+        }
+        return new SemanticVersion(major, minor, patch, PrereleaseDictionary.shared().internChecked(prerelease), false);
+    }
+
+    /**
+     * @return Next SemanticVersionName
+     * @throws java.io.EOFException if the input ends first
+     * @throws IOException if the input is corrupt
+     */
+    public SemanticVersionName readName() throws IOException {
+        int tag = readVarint();
+        String name;
+        if((tag & 1) != 0) {
+            int id = tag >>> 1;
+            if(id >= dictionary.size())
+                throw new IOException("corrupt name: reference to unknown name " + id);
+            name = dictionary.get(id);
+        }
+        else {
+            name = readAscii(tag >>> 1);
+            try {
+                SemanticVersionName.checkName(name);
+            }
+            catch(IllegalArgumentException e) {
+                throw new IOException("corrupt name: " + e.getMessage());
+            }
+            dictionary.add(name);
+        }
+        return new SemanticVersionName(name, readVersion(), false);
+    }
+
+    /**
+     * Reads what VersionWriter.writeVersions wrote.
+     */
+    public List<SemanticVersion> readVersions() throws IOException {
+        int count = readVarint();
+        List<SemanticVersion> semvers = new ArrayList<>(Math.min(count, 1024));
+        for(int i = 0; i < count; i++)
+            semvers.add(readVersion());
+        return semvers;
+    }
+
+    /**
+     * Reads what VersionWriter.writeNames wrote.
+     */
+    public List<SemanticVersionName> readNames() throws IOException {
+        int count = readVarint();
+        List<SemanticVersionName> semvernames = new ArrayList<>(Math.min(count, 1024));
+        for(int i = 0; i < count; i++)
+            semvernames.add(readName());
+        return semvernames;
+    }
+
+    /**
+     * Reads an unsigned LEB128 value that must fit in a non-negative int.
+     */
+    private int readVarint() throws IOException {
+        int value = 0;
+        for(int shift = 0; shift < 35; shift += 7) {
+            byte b = readByte();
+            value |= (b & 0x7f) << shift;
+            if(b >= 0) {
+                if(shift == 28 && b > 0x07)
+                    throw new IOException("corrupt varint: value does not fit in an int");
+                return value;
+            }
+        }
+        throw new IOException("corrupt varint: too many bytes");
+    }
+
+    private String readAscii(int length) throws IOException {
+        if(length > MAX_LENGTH)
+            throw new IOException("corrupt length: " + length + " is longer than " + MAX_LENGTH);
+        if(in == null && channel == null && length > source.remaining())
+            throw new EOFException();
+        // Read a block at a time and only grow the buffer as bytes arrive,
+        // so a corrupt length can't allocate much more than the input holds
+        int read = 0;
+        while(read < length) {
+            int chunk = Math.min(length - read, BLOCK_BYTES);
+            if(in == null) {
+                if(!source.hasRemaining())
+                    fill();
+                chunk = Math.min(chunk, source.remaining());
+            }
+            if(buffer.length < read + chunk)
+                buffer = Arrays.copyOf(buffer, Math.min(length, Math.max(read + chunk, buffer.length * 2)));
+            if(in != null)
+                in.readFully(buffer, read, chunk);
+            else
+                source.get(buffer, read, chunk);
+            read += chunk;
+        }
+        return new String(buffer, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private byte readByte() throws IOException {
+        if(in != null)
+            return in.readByte();
+        if(!source.hasRemaining())
+            fill();
+        return source.get();
+    }
+
+    /**
+     * Refills the empty source from the channel.
+     * @throws EOFException if there is no channel or it has ended
+     */
+    private void fill() throws IOException {
+        if(channel == null)
+            throw new EOFException();
+        source.clear();
+        int read;
+        do {
+            read = channel.read(source);
+        } while(read == 0);
+        source.flip();
+        if(read < 0)
+            throw new EOFException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if(in instanceof Closeable)
+            ((Closeable) in).close();
+        else if(channel != null)
+            channel.close();
+    }
+}
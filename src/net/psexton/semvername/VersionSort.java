@@ -0,0 +1,404 @@
+/*
+ * VersionSort.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 5:17:40 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * VersionSort.
+ * Sorts arrays of SemanticVersions and SemanticVersionNames into exactly the
+ * order Arrays.sort gives, including keeping equal elements in their
+ * original order, without calling compareTo for every comparison.
+ * Each element's packed key is read once and the keys are LSD radix sorted,
+ * 16 bits per pass, skipping passes where every key has the same digit.
+ * Names are then placed by a stable counting sort on their rank among the
+ * distinct names, or on their rank in a NameTable. The only compareTo
+ * calls left are for runs of prereleases with equal numbers, which are
+ * sorted by their prerelease Strings.
+ * If any version is too large to pack, the whole array falls back to
+ * Arrays.sort.
+ * @author PSexton
+ */
+public final class VersionSort {
+    private static final int DIGIT_BITS = 16;
+    private static final int DIGIT_MASK = (1 << DIGIT_BITS) - 1;
+    // Packed keys use the low 63 bits
+    private static final int PASSES = 4;
+    // Below this, insertion-sorting TimSort beats the radix passes' fixed cost
+    private static final int RADIX_THRESHOLD = 64;
+    // Below this, forking isn't worth it
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private VersionSort() {
+    }
+
+    public static void sort(SemanticVersion[] a) {
+        sort(a, 0, a.length);
+    }
+
+    /**
+     * Sorts a[from, to).
+     */
+    public static void sort(SemanticVersion[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int n = to - from;
+        if(n < RADIX_THRESHOLD) {
+            Arrays.sort(a, from, to);
+            return;
+        }
+        long[] keys = new long[n];
+        for(int i = 0; i < n; i++) {
+            keys[i] = a[from + i].toPackedKey();
+            if(keys[i] < 0) {
+                Arrays.sort(a, from, to);
+                return;
+            }
+        }
+        Object[] items = Arrays.copyOfRange(a, from, to, Object[].class);
+        sortByKeys(keys, items);
+        System.arraycopy(items, 0, a, from, n);
+        sortPrereleaseRuns(a, from, keys, null);
+    }
+
+    public static void sort(SemanticVersionName[] a) {
+        sort(a, 0, a.length);
+    }
+
+    /**
+     * Sorts a[from, to).
+     */
+    public static void sort(SemanticVersionName[] a, int from, int to) {
+        sort(a, from, to, null);
+    }
+
+    /**
+     * Same order as sort(a), taking name ranks from names instead of
+     * ranking the array's distinct names on every call. Names not yet in
+     * the table may be added to it.
+     */
+    public static void sort(SemanticVersionName[] a, NameTable names) {
+        if(names == null)
+            throw new IllegalArgumentException("names cannot be null");
+        sort(a, 0, a.length, names);
+    }
+
+    private static void sort(SemanticVersionName[] a, int from, int to, NameTable table) {
+        checkRange(a.length, from, to);
+        int n = to - from;
+        if(n < RADIX_THRESHOLD) {
+            Arrays.sort(a, from, to);
+            return;
+        }
+        long[] keys = new long[n];
+        for(int i = 0; i < n; i++) {
+            keys[i] = a[from + i].getSemver().toPackedKey();
+            if(keys[i] < 0) {
+                Arrays.sort(a, from, to);
+                return;
+            }
+        }
+        
+        int[] ranks = new int[n];
+        int rankCount;
+        if(table != null) {
+            // Intern everything first so the ranks are computed only once
+            for(int i = 0; i < n; i++)
+                ranks[i] = table.intern(a[from + i].getName());
+            int[] tableRanks = table.ranks();
+            for(int i = 0; i < n; i++)
+                ranks[i] = tableRanks[ranks[i]];
+            rankCount = tableRanks.length;
+        }
+        else {
+            // Rank the distinct names. Name order is String order, since
+            // names are restricted to ASCII.
+            Map<String, Integer> rankByName = new HashMap<>();
+            for(int i = from; i < to; i++)
+                rankByName.putIfAbsent(a[i].getName(), 0);
+            String[] distinct = rankByName.keySet().toArray(new String[rankByName.size()]);
+            Arrays.sort(distinct);
+            for(int rank = 0; rank < distinct.length; rank++)
+                rankByName.put(distinct[rank], rank);
+            for(int i = 0; i < n; i++)
+                ranks[i] = rankByName.get(a[from + i].getName());
+            rankCount = distinct.length;
+        }
+        
+        // LSD: sort by version first, then stably by name
+        Object[] items = Arrays.copyOfRange(a, from, to, Object[].class);
+        int[] order = new int[n];
+        for(int i = 0; i < n; i++)
+            order[i] = i;
+        sortByKeys(keys, null, order);
+        int[] count = new int[rankCount + 1];
+        for(int i = 0; i < n; i++)
+            count[ranks[i] + 1]++;
+        for(int rank = 0; rank < rankCount; rank++)
+            count[rank + 1] += count[rank];
+        long[] sortedKeys = new long[n];
+        int[] sortedRanks = new int[n];
+        for(int i = 0; i < n; i++) {
+            int source = order[i];
+            int target = count[ranks[source]]++;
+            a[from + target] = (SemanticVersionName) items[source];
+            sortedKeys[target] = keys[i];
+            sortedRanks[target] = ranks[source];
+        }
+        sortPrereleaseRuns(a, from, sortedKeys, sortedRanks);
+    }
+
+    /**
+     * Same order as sort(a), using the common ForkJoinPool for large arrays:
+     * each half is sorted in parallel, down to chunks that are radix sorted,
+     * and the sorted halves are merged in parallel too.
+     */
+    public static void parallelSort(SemanticVersion[] a) {
+        if(a.length < PARALLEL_THRESHOLD) {
+            sort(a);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new SortTask<>(a, new SemanticVersion[a.length], 0, a.length, VersionSort::sort));
+    }
+
+    /**
+     * Same order as sort(a), using the common ForkJoinPool for large arrays.
+     * @see #parallelSort(SemanticVersion[])
+     */
+    public static void parallelSort(SemanticVersionName[] a) {
+        if(a.length < PARALLEL_THRESHOLD) {
+            sort(a);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new SortTask<>(a, new SemanticVersionName[a.length], 0, a.length, VersionSort::sort));
+    }
+
+    private static void checkRange(int length, int from, int to) {
+        if(from < 0 || from > to || to > length)
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds for length " + length);
+    }
+
+    private static void sortByKeys(long[] keys, Object[] items) {
+        sortByKeys(keys, items, null);
+    }
+
+    /**
+     * Stable LSD radix sort of keys, carrying along items or order, or both.
+     */
+    private static void sortByKeys(long[] keys, Object[] items, int[] order) {
+        int n = keys.length;
+        long[] keyBuffer = new long[n];
+        Object[] itemBuffer = (items == null) ? null : new Object[n];
+        int[] orderBuffer = (order == null) ? null : new int[n];
+        int[] count = new int[(1 << DIGIT_BITS) + 1];
+        long[] srcKeys = keys;
+        Object[] srcItems = items;
+        int[] srcOrder = order;
+        for(int pass = 0; pass < PASSES; pass++) {
+            int shift = pass * DIGIT_BITS;
+            Arrays.fill(count, 0);
+            for(int i = 0; i < n; i++)
+                count[(int) (srcKeys[i] >>> shift) & DIGIT_MASK]++;
+            // Every key has the same digit, so this pass wouldn't move anything
+            if(count[(int) (srcKeys[0] >>> shift) & DIGIT_MASK] == n)
+                continue;
+            int sum = 0;
+            for(int digit = 0; digit <= DIGIT_MASK; digit++) {
+                int c = count[digit];
+                count[digit] = sum;
+                sum += c;
+            }
+            long[] dstKeys = (srcKeys == keys) ? keyBuffer : keys;
+            Object[] dstItems = (items == null) ? null : ((srcItems == items) ? itemBuffer : items);
+            int[] dstOrder = (order == null) ? null : ((srcOrder == order) ? orderBuffer : order);
+            for(int i = 0; i < n; i++) {
+                int target = count[(int) (srcKeys[i] >>> shift) & DIGIT_MASK]++;
+                dstKeys[target] = srcKeys[i];
+                if(dstItems != null)
+                    dstItems[target] = srcItems[i];
+                if(dstOrder != null)
+                    dstOrder[target] = srcOrder[i];
+            }
+            srcKeys = dstKeys;
+            srcItems = dstItems;
+            srcOrder = dstOrder;
+        }
+        if(srcKeys != keys) {
+            System.arraycopy(srcKeys, 0, keys, 0, n);
+            if(items != null)
+                System.arraycopy(srcItems, 0, items, 0, n);
+            if(order != null)
+                System.arraycopy(srcOrder, 0, order, 0, n);
+        }
+    }
+
+    /**
+     * Elements with equal keys (and ranks) are in their original order, which
+     * is already right for releases. Runs of prereleases are sorted by
+     * compareTo, which here only compares the prerelease Strings.
+     */
+    private static <T extends Comparable<? super T>> void sortPrereleaseRuns(T[] a, int from, long[] keys, int[] ranks) {
+        int n = keys.length;
+        int start = 0;
+        while(start < n) {
+            int end = start + 1;
+            while(end < n && keys[end] == keys[start] && (ranks == null || ranks[end] == ranks[start]))
+                end++;
+            if(end - start > 1 && (keys[start] & SemanticVersion.RELEASE_BIT) == 0)
+                Arrays.sort(a, from + start, from + end);
+            start = end;
+        }
+    }
+
+    private interface RangeSorter<T> {
+        void sort(T[] a, int from, int to);
+    }
+
+    /**
+     * Sorts a[from, to), using buffer[from, to) as scratch space.
+     */
+    private static final class SortTask<T extends Comparable<? super T>> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] a;
+        private final T[] buffer;
+        private final int from;
+        private final int to;
+        private final RangeSorter<T> sorter;
+
+        SortTask(T[] a, T[] buffer, int from, int to, RangeSorter<T> sorter) {
+            this.a = a;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.sorter = sorter;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= PARALLEL_THRESHOLD) {
+                sorter.sort(a, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask<>(a, buffer, from, mid, sorter), new SortTask<>(a, buffer, mid, to, sorter));
+            System.arraycopy(a, from, buffer, from, to - from);
+            new MergeTask<>(buffer, from, mid, mid, to, a, from).compute();
+        }
+    }
+
+    /**
+     * Stably merges src[leftFrom, leftTo) and src[rightFrom, rightTo) into
+     * dst starting at dstFrom, splitting the work around the middle of the
+     * larger run so both halves can be merged in parallel.
+     */
+    private static final class MergeTask<T extends Comparable<? super T>> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] src;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final T[] dst;
+        private final int dstFrom;
+
+        MergeTask(T[] src, int leftFrom, int leftTo, int rightFrom, int rightTo, T[] dst, int dstFrom) {
+            this.src = src;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.dst = dst;
+            this.dstFrom = dstFrom;
+        }
+
+        @Override
+        protected void compute() {
+            int leftLength = leftTo - leftFrom;
+            int rightLength = rightTo - rightFrom;
+            if(leftLength + rightLength <= PARALLEL_THRESHOLD) {
+                merge();
+                return;
+            }
+            int leftSplit;
+            int rightSplit;
+            // Equal elements must stay left-run first, so a left pivot goes
+            // after the right run's smaller elements, and a right pivot
+            // after the left run's smaller-or-equal ones
+            if(leftLength >= rightLength) {
+                leftSplit = (leftFrom + leftTo) >>> 1;
+                rightSplit = lowerBound(src, rightFrom, rightTo, src[leftSplit]);
+            }
+            else {
+                rightSplit = (rightFrom + rightTo) >>> 1;
+                leftSplit = upperBound(src, leftFrom, leftTo, src[rightSplit]);
+            }
+            int dstSplit = dstFrom + (leftSplit - leftFrom) + (rightSplit - rightFrom);
+            invokeAll(new MergeTask<>(src, leftFrom, leftSplit, rightFrom, rightSplit, dst, dstFrom),
+                    new MergeTask<>(src, leftSplit, leftTo, rightSplit, rightTo, dst, dstSplit));
+        }
+
+        private void merge() {
+            int i = leftFrom;
+            int j = rightFrom;
+            int k = dstFrom;
+            while(i < leftTo && j < rightTo) {
+                if(src[j].compareTo(src[i]) < 0)
+                    dst[k++] = src[j++];
+                else
+                    dst[k++] = src[i++];
+            }
+            while(i < leftTo)
+                dst[k++] = src[i++];
+            while(j < rightTo)
+                dst[k++] = src[j++];
+        }
+
+        /**
+         * @return First index in [from, to) whose element is not less than key
+         */
+        private static <T extends Comparable<? super T>> int lowerBound(T[] a, int from, int to, T key) {
+            while(from < to) {
+                int mid = (from + to) >>> 1;
+                if(a[mid].compareTo(key) < 0)
+                    from = mid + 1;
+                else
+                    to = mid;
+            }
+            return from;
+        }
+
+        /**
+         * @return First index in [from, to) whose element is greater than key
+         */
+        private static <T extends Comparable<? super T>> int upperBound(T[] a, int from, int to, T key) {
+            while(from < to) {
+                int mid = (from + to) >>> 1;
+                if(a[mid].compareTo(key) <= 0)
+                    from = mid + 1;
+                else
+                    to = mid;
+            }
+            return from;
+        }
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * VersionTable.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 6:31:26 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * VersionTable.
+ * Column store for large numbers of semvernames. Each row is five ints: a
+ * name id, major, minor, patch, and a prerelease id, where the ids index
+ * dictionaries holding each distinct name and prerelease String once, the
+ * prereleases as PrereleaseDictionary.shared()'s canonical Strings. A
+ * row costs 20 bytes and no objects, against three objects (more with
+ * distinct Strings) for a SemanticVersionName.
+ * SemanticVersions and SemanticVersionNames are only created when a row is
+ * asked for one. The scans (filter, groupByName, latestPerName) work on the
+ * columns directly and allocate only their result arrays.
+ * Names go in a NameTable, which several tables can share so that their
+ * name ids agree; rows are ordered by name rank rather than by walking the
+ * Strings.
+ * Rows can only be appended. Not thread-safe.
+ * @author PSexton
+ */
+public class VersionTable {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final NameTable names;
+    // Id 0 is always the empty prerelease, i.e. a release
+    private final Dictionary prereleases = new Dictionary();
+    private int[] nameIds;
+    private int[] majors;
+    private int[] minors;
+    private int[] patches;
+    private int[] prereleaseIds;
+    private int size;
+
+    public VersionTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity Rows to allocate space for up front
+     */
+    public VersionTable(int capacity) {
+        this(capacity, new NameTable());
+    }
+
+    /**
+     * @param capacity Rows to allocate space for up front
+     * @param names Table to take name ids from, possibly shared
+     */
+    public VersionTable(int capacity, NameTable names) {
+        if(capacity < 0)
+            throw new IllegalArgumentException("capacity must be non-negative");
+        if(names == null)
+            throw new IllegalArgumentException("names cannot be null");
+        this.names = names;
+        nameIds = new int[capacity];
+        majors = new int[capacity];
+        minors = new int[capacity];
+        patches = new int[capacity];
+        prereleaseIds = new int[capacity];
+        prereleases.id("");
+    }
+
+    /**
+     * @param semvername Version to append
+     * @return Index of the new row
+     */
+    public int add(SemanticVersionName semvername) {
+        SemanticVersion semver = semvername.getSemver();
+        return append(names.intern(semvername.getName()), semver.major(), semver.minor(), semver.patch(),
+                prereleaseId(semver.getPrerelease()));
+    }
+
+    /**
+     * Appends a row without creating a SemanticVersionName.
+     * @return Index of the new row
+     * @throws IllegalArgumentException if a field is invalid
+     */
+    public int add(String name, int major, int minor, int patch, String prerelease) {
+        int nameId = names.intern(name);
+        SemanticVersion.checkNumber(major, "major");
+        SemanticVersion.checkNumber(minor, "minor");
+        SemanticVersion.checkNumber(patch, "patch");
+        SemanticVersion.checkPrerelease(prerelease);
+        return append(nameId, major, minor, patch, prereleaseId(prerelease));
+    }
+
+    /**
+     * @return Id of prerelease, which the caller has checked, held as the
+     * shared dictionary's String so rows hand back the same instance parsed
+     * versions use
+     */
+    private int prereleaseId(String prerelease) {
+        return prereleases.id(PrereleaseDictionary.shared().internChecked(prerelease));
+    }
+
+    private int append(int nameId, int major, int minor, int patch, int prereleaseId) {
+        if(size == majors.length)
+            grow();
+        int row = size++;
+        nameIds[row] = nameId;
+        majors[row] = major;
+        minors[row] = minor;
+        patches[row] = patch;
+        prereleaseIds[row] = prereleaseId;
+        return row;
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, majors.length + (majors.length >> 1));
+        nameIds = Arrays.copyOf(nameIds, capacity);
+        majors = Arrays.copyOf(majors, capacity);
+        minors = Arrays.copyOf(minors, capacity);
+        patches = Arrays.copyOf(patches, capacity);
+        prereleaseIds = Arrays.copyOf(prereleaseIds, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Number of names in the name table; name ids run from 0 to
+     * this - 1. Without a shared table, the number of distinct names.
+     */
+    public int nameCount() {
+        return names.size();
+    }
+
+    /**
+     * @return The name with the given id
+     */
+    public String nameOf(int nameId) {
+        return names.name(nameId);
+    }
+
+    /**
+     * @return Id of name, or -1 if it is not in the name table
+     */
+    public int nameId(String name) {
+        return names.id(name);
+    }
+
+    public NameTable names() {
+        return names;
+    }
+
+    public int nameId(int row) {
+        return nameIds[checkRow(row)];
+    }
+
+    public String name(int row) {
+        return names.name(nameIds[checkRow(row)]);
+    }
+
+    public int major(int row) {
+        return majors[checkRow(row)];
+    }
+
+    public int minor(int row) {
+        return minors[checkRow(row)];
+    }
+
+    public int patch(int row) {
+        return patches[checkRow(row)];
+    }
+
+    public String prerelease(int row) {
+        return prereleases.get(prereleaseIds[checkRow(row)]);
+    }
+
+    /**
+     * @return New SemanticVersion for the row
+     */
+    public SemanticVersion semver(int row) {
+        checkRow(row);
+        return new SemanticVersion(majors[row], minors[row], patches[row], prereleases.get(prereleaseIds[row]), false);
+    }
+
+    /**
+     * @return New SemanticVersionName for the row
+     */
+    public SemanticVersionName semvername(int row) {
+        return new SemanticVersionName(name(row), semver(row), false);
+    }
+
+    /**
+     * Compares two rows the way SemanticVersionName.compareTo compares the
+     * semvernames they hold, without creating them.
+     */
+    public int compareRows(int lhs, int rhs) {
+        checkRow(lhs);
+        checkRow(rhs);
+        if(nameIds[lhs] != nameIds[rhs])
+            return names.compare(nameIds[lhs], nameIds[rhs]);
+        return compareVersions(lhs, rhs);
+    }
+
+    /**
+     * Compares the versions of two rows, ignoring their names.
+     */
+    private int compareVersions(int lhs, int rhs) {
+        int compare = Integer.compare(majors[lhs], majors[rhs]);
+        if(compare != 0)
+            return compare;
+        compare = Integer.compare(minors[lhs], minors[rhs]);
+        if(compare != 0)
+            return compare;
+        compare = Integer.compare(patches[lhs], patches[rhs]);
+        if(compare != 0)
+            return compare;
+        int lhsPre = prereleaseIds[lhs];
+        int rhsPre = prereleaseIds[rhs];
+        if(lhsPre == rhsPre)
+            return 0;
+        // Id 0 is the release, which is greater than any prerelease
+        if(lhsPre == 0 || rhsPre == 0)
+            return (lhsPre == 0) ? 1 : -1;
+        return prereleases.get(lhsPre).compareTo(prereleases.get(rhsPre));
+    }
+
+    /**
+     * @param range Range to test each row's version against
+     * @return Indexes of the matching rows, in row order
+     */
+    public int[] filter(VersionRange range) {
+        return filter(-1, range);
+    }
+
+    /**
+     * @param name Name the rows must have
+     * @param range Range to test each row's version against
+     * @return Indexes of the matching rows, in row order
+     */
+    public int[] filter(String name, VersionRange range) {
+        int nameId = names.id(name);
+        if(nameId < 0)
+            return new int[0];
+        return filter(nameId, range);
+    }
+
+    private int[] filter(int nameId, VersionRange range) {
+        int[] rows = new int[DEFAULT_CAPACITY];
+        int count = 0;
+        for(int row = 0; row < size; row++) {
+            if(nameId >= 0 && nameIds[row] != nameId)
+                continue;
+            if(!range.matches(majors[row], minors[row], patches[row], prereleases.get(prereleaseIds[row])))
+                continue;
+            if(count == rows.length)
+                rows = Arrays.copyOf(rows, count * 2);
+            rows[count++] = row;
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Groups row indexes by name id with one counting sort.
+     * @return Grouping of every row
+     */
+    public Grouping groupByName() {
+        int nameCount = names.size();
+        int[] starts = new int[nameCount + 1];
+        for(int row = 0; row < size; row++)
+            starts[nameIds[row] + 1]++;
+        for(int nameId = 0; nameId < nameCount; nameId++)
+            starts[nameId + 1] += starts[nameId];
+        int[] next = Arrays.copyOf(starts, nameCount);
+        int[] rows = new int[size];
+        for(int row = 0; row < size; row++)
+            rows[next[nameIds[row]]++] = row;
+        return new Grouping(starts, rows);
+    }
+
+    /**
+     * @return For each name id, the row holding that name's greatest
+     * version; the first such row if several are equal, or -1 if no row
+     * has the name
+     */
+    public int[] latestPerName() {
+        int[] latest = new int[names.size()];
+        Arrays.fill(latest, -1);
+        for(int row = 0; row < size; row++) {
+            int nameId = nameIds[row];
+            int best = latest[nameId];
+            if(best < 0 || compareVersions(row, best) > 0)
+                latest[nameId] = row;
+        }
+        return latest;
+    }
+
+    private int checkRow(int row) {
+        if(row < 0 || row >= size)
+            throw new IndexOutOfBoundsException("row " + row + " out of bounds for size " + size);
+        return row;
+    }
+
+    @Override
+    public String toString() {
+        return "VersionTable{size=" + size + ", names=" + names.size() + ", prereleases=" + prereleases.size() + "}";
+    }
+
+    /**
+     * Row indexes grouped by name id, as returned by groupByName(). Group g
+     * holds row(start(g)) up to row(end(g) - 1), in row order.
+     */
+    public static final class Grouping {
+        private final int[] starts;
+        private final int[] rows;
+
+        private Grouping(int[] starts, int[] rows) {
+            this.starts = starts;
+            this.rows = rows;
+        }
+
+        /**
+         * @return Number of groups, one per name id
+         */
+        public int groupCount() {
+            return starts.length - 1;
+        }
+
+        public int start(int nameId) {
+            return starts[nameId];
+        }
+
+        public int end(int nameId) {
+            return starts[nameId + 1];
+        }
+
+        public int row(int index) {
+            return rows[index];
+        }
+    }
+
+    /**
+     * Assigns each distinct String a dense id, in order of first appearance.
+     */
+    private static final class Dictionary {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        int id(String s) {
+            Integer id = ids.get(s);
+            if(id == null) {
+                id = strings.size();
+                strings.add(s);
+                ids.put(s, id);
+            }
+            return id;
+        }
+
+        String get(int id) {
+            return strings.get(id);
+        }
+
+        int size() {
+            return strings.size();
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * VersionWriter.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 9:03:18 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.io.Closeable;
+import java.io.DataOutput;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * VersionWriter.
+ * Writes SemanticVersions and SemanticVersionNames in a compact binary form
+ * that VersionReader reads back without any text parsing.
+ * <p>
+ * A version is its major, minor and patch as unsigned LEB128 varints (one
+ * byte each below 128), then the prerelease as a varint length and that
+ * many ASCII bytes, with length 0 for a release. A name is a varint tag and
+ * then, for a new name, its ASCII bytes: tag = length &lt;&lt; 1 for a name
+ * written out, or id &lt;&lt; 1 | 1 to repeat the id'th distinct name this
+ * writer has written out. Names and prereleases are at most
+ * {@value VersionReader#MAX_LENGTH} characters. Dictionary references can
+ * be turned off, e.g. for records that must decode on their own, or for
+ * speed when names are mostly distinct; readers accept both forms.
+ * A collection is a varint count followed by its elements.
+ * <p>
+ * Output is gathered in a reused buffer and handed on in blocks of about
+ * 8 KiB, so writing allocates nothing once the buffer and dictionary have
+ * grown; call flush() or close() to push out the last block. Not
+ * thread-safe.
+ * @author PSexton
+ */
+public final class VersionWriter implements Closeable, Flushable {
+    private static final int BLOCK_BYTES = 8192;
+
+    private final DataOutput out;
+    private final WritableByteChannel channel;
+    private final boolean useDictionary;
+    // Dictionary of names written out, by id, found through an
+    // open-addressing table of id + 1 for each occupied slot; at most half full
+    private String[] names = new String[16];
+    private int[] slots = new int[32];
+    private int nameCount;
+    private byte[] buffer = new byte[BLOCK_BYTES + 64];
+    private int position;
+
+    /**
+     * Writes to out, with dictionary references for repeated names.
+     * @param out Destination
+     */
+    public VersionWriter(DataOutput out) {
+        this(out, true);
+    }
+
+    /**
+     * @param out Destination
+     * @param useDictionary True to write repeated names as references
+     */
+    public VersionWriter(DataOutput out, boolean useDictionary) {
+        this(out, null, useDictionary);
+        if(out == null)
+            throw new IllegalArgumentException("out cannot be null");
+    }
+
+    /**
+     * Writes to channel, with dictionary references for repeated names.
+     * @param channel Destination
+     */
+    public VersionWriter(WritableByteChannel channel) {
+        this(null, channel, true);
+        if(channel == null)
+            throw new IllegalArgumentException("channel cannot be null");
+    }
+
+    private VersionWriter(DataOutput out, WritableByteChannel channel, boolean useDictionary) {
+        this.out = out;
+        this.channel = channel;
+        this.useDictionary = useDictionary;
+    }
+
+    public void write(SemanticVersion semver) throws IOException {
+        putVersion(semver);
+        drainIfFull();
+    }
+
+    public void write(SemanticVersionName semvername) throws IOException {
+        String name = semvername.getName();
+        int id = useDictionary ? id(name) : -1;
+        if(id >= 0)
+            putVarint((id << 1) | 1);
+        else {
+            putVarint(checkLength(name).length() << 1);
+            putAscii(name);
+        }
+        putVersion(semvername.getSemver());
+        drainIfFull();
+    }
+
+    /**
+     * @return Id of name if it has been written out before, or -1 after
+     * giving it the next id
+     */
+    private int id(String name) {
+        int mask = slots.length - 1;
+        int slot = hash(name) & mask;
+        for(int entry = slots[slot]; entry != 0; entry = slots[slot]) {
+            String known = names[entry - 1];
+            if(known == name || known.equals(name))
+                return entry - 1;
+            slot = (slot + 1) & mask;
+        }
+        if(nameCount == names.length) {
+            grow();
+            return id(name);
+        }
+        names[nameCount++] = name;
+        slots[slot] = nameCount;
+        return -1;
+    }
+
+    private static int hash(String name) {
+        int hash = name.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private void grow() {
+        names = Arrays.copyOf(names, names.length * 2);
+        slots = new int[names.length * 2];
+        int mask = slots.length - 1;
+        for(int id = 0; id < nameCount; id++) {
+            int slot = hash(names[id]) & mask;
+            while(slots[slot] != 0)
+                slot = (slot + 1) & mask;
+            slots[slot] = id + 1;
+        }
+    }
+
+    private void putVersion(SemanticVersion semver) throws IOException {
+        putVarint(semver.major());
+        putVarint(semver.minor());
+        putVarint(semver.patch());
+        String prerelease = checkLength(semver.getPrerelease());
+        putVarint(prerelease.length());
+        putAscii(prerelease);
+    }
+
+    /**
+     * Writes semver straight to out, for callers such as serialization that
+     * write a single value and can't keep a writer or its buffer around.
+     */
+    static void writeUnbuffered(DataOutput out, SemanticVersion semver) throws IOException {
+        writeVarint(out, semver.major());
+        writeVarint(out, semver.minor());
+        writeVarint(out, semver.patch());
+        String prerelease = checkLength(semver.getPrerelease());
+        writeVarint(out, prerelease.length());
+        out.writeBytes(prerelease);
+    }
+
+    /**
+     * Writes semvername straight to out, with its name written out rather
+     * than referenced.
+     */
+    static void writeUnbuffered(DataOutput out, SemanticVersionName semvername) throws IOException {
+        String name = checkLength(semvername.getName());
+        writeVarint(out, name.length() << 1);
+        out.writeBytes(name);
+        writeUnbuffered(out, semvername.getSemver());
+    }
+
+    private static void writeVarint(DataOutput out, int value) throws IOException {
+        while((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * @return s, if VersionReader will read it back
+     * @throws IOException if s is longer than VersionReader.MAX_LENGTH
+     */
+    private static String checkLength(String s) throws IOException {
+        if(s.length() > VersionReader.MAX_LENGTH)
+            throw new IOException("cannot encode a name or prerelease longer than " + VersionReader.MAX_LENGTH + " characters");
+        return s;
+    }
+
+    /**
+     * Writes the size and then each element.
+     */
+    public void writeVersions(Collection<SemanticVersion> semvers) throws IOException {
+        writeCount(semvers.size());
+        for(SemanticVersion semver : semvers)
+            write(semver);
+    }
+
+    /**
+     * Writes the size and then each element.
+     */
+    public void writeNames(Collection<SemanticVersionName> semvernames) throws IOException {
+        writeCount(semvernames.size());
+        for(SemanticVersionName semvername : semvernames)
+            write(semvername);
+    }
+
+    private void writeCount(int count) throws IOException {
+        putVarint(count);
+        drainIfFull();
+    }
+
+    private void putVarint(int value) {
+        ensure(5);
+        while((value & ~0x7f) != 0) {
+            buffer[position++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * Appends s, which is known to be ASCII.
+     */
+    private void putAscii(String s) {
+        int length = s.length();
+        ensure(length);
+        for(int i = 0; i < length; i++)
+            buffer[position++] = (byte) s.charAt(i);
+    }
+
+    private void ensure(int bytes) {
+        if(position + bytes > buffer.length)
+            buffer = Arrays.copyOf(buffer, Math.max(position + bytes, buffer.length * 2));
+    }
+
+    private void drainIfFull() throws IOException {
+        if(position >= BLOCK_BYTES)
+            drain();
+    }
+
+    private void drain() throws IOException {
+        if(position == 0)
+            return;
+        if(out != null)
+            out.write(buffer, 0, position);
+        else {
+            ByteBuffer block = ByteBuffer.wrap(buffer, 0, position);
+            while(block.hasRemaining())
+                channel.write(block);
+        }
+        position = 0;
+    }
+
+    /**
+     * Writes out anything buffered, then flushes the destination if it can
+     * be flushed.
+     */
+    @Override
+    public void flush() throws IOException {
+        drain();
+        if(out instanceof Flushable)
+            ((Flushable) out).flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        if(out instanceof Closeable)
+            ((Closeable) out).close();
+        else if(channel != null)
+            channel.close();
+    }
+}
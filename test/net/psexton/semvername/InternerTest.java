@@ -0,0 +1,146 @@
+/*
+ * InternerTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 12:58:20 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author PSexton
+ */
+public class InternerTest {
+
+    /**
+     * Equal values share one instance
+     */
+    @Test
+    public void canonicalInstance() {
+        Interner<SemanticVersion> interner = new Interner<>();
+        SemanticVersion first = SemanticVersion.valueOf("1.2.3-rc1");
+        SemanticVersion second = SemanticVersion.valueOf("1.2.3-rc1");
+        assertNotSame(first, second);
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+        assertEquals(2, interner.getRequestCount());
+        assertEquals(1, interner.getHitCount());
+    }
+
+    /**
+     * Distinct values stay distinct, across table resizes
+     */
+    @Test
+    public void distinctValues() {
+        Interner<SemanticVersion> interner = new Interner<>();
+        List<SemanticVersion> held = new ArrayList<>();
+        for(int i = 0; i < 5000; i++)
+            held.add(interner.intern(new SemanticVersion(1, i / 100, i % 100)));
+        assertEquals(5000, interner.size());
+        for(int i = 0; i < 5000; i++)
+            assertSame(held.get(i), interner.intern(new SemanticVersion(1, i / 100, i % 100)));
+    }
+
+    /**
+     * Unreferenced canonical instances are collected
+     */
+    @Test
+    public void weaklyHeld() throws InterruptedException {
+        Interner<SemanticVersion> interner = new Interner<>();
+        for(int i = 0; i < 1000; i++)
+            interner.intern(new SemanticVersion(2, 0, i));
+        for(int attempt = 0; attempt < 50 && interner.size() > 0; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, interner.size());
+        assertEquals(1000, interner.getCollectedCount());
+    }
+
+    /**
+     * Concurrent callers agree on the canonical instance
+     */
+    @Test
+    public void concurrentIntern() throws Exception {
+        final Interner<SemanticVersionName> interner = new Interner<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SemanticVersionName[]>> futures = new ArrayList<>();
+            for(int t = 0; t < 4; t++) {
+                futures.add(executor.submit(new Callable<SemanticVersionName[]>() {
+                    @Override
+                    public SemanticVersionName[] call() {
+                        SemanticVersionName[] canonical = new SemanticVersionName[500];
+                        for(int i = 0; i < canonical.length; i++)
+                            canonical[i] = interner.intern(SemanticVersionName.valueOf("pkg" + (i % 50) + "-1.0." + i));
+                        return canonical;
+                    }
+                }));
+            }
+            SemanticVersionName[] expected = futures.get(0).get();
+            for(Future<SemanticVersionName[]> future : futures)
+                assertArrayEquals(expected, future.get());
+            for(Future<SemanticVersionName[]> future : futures) {
+                SemanticVersionName[] actual = future.get();
+                for(int i = 0; i < actual.length; i++)
+                    assertSame(expected[i], actual[i]);
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * intern() on the value classes
+     */
+    @Test
+    public void internMethods() {
+        SemanticVersionName a = SemanticVersionName.valueOf("interned-4.5.6");
+        SemanticVersionName b = SemanticVersionName.valueOf("interned-4.5.6");
+        SemanticVersionName canonical = a.intern();
+        assertSame(canonical, b.intern());
+        assertSame(canonical.getSemver(), SemanticVersion.valueOf("4.5.6").intern());
+    }
+
+    /**
+     * A large pool keeps its entries spread over the buckets of every
+     * segment, rather than crowding into the few that match the segment bits
+     */
+    @Test
+    public void largePoolSpread() {
+        Interner<String> interner = new Interner<>();
+        List<String> strong = new ArrayList<>();
+        for(int i = 0; i < 200000; i++) {
+            String value = "lib-" + i;
+            strong.add(value);
+            interner.intern(value);
+        }
+        assertEquals(strong.size(), interner.size());
+        // Random hashing fills about 70% as many buckets as entries or more
+        // at these loads; with the segment bits in the bucket index it is
+        // under 20%
+        assertTrue(interner.occupiedBuckets() > strong.size() / 2);
+    }
+}
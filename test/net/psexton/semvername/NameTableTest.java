@@ -0,0 +1,147 @@
+/*
+ * NameTableTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 2:41:52 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class NameTableTest {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    private static final String[] NAMES = {"foo", "bar", "foo-bar", "foo_bar", "com-example-platform-core",
+        "com-example-platform", "Zeta", "a1", "a10", "a2"};
+
+    private static final RandomNames RANDOM_NAMES = new RandomNames(NAMES)
+            .prereleases("", "", "alpha", "rc1").bounds(3, 3, 3).copyingNames();
+
+    /**
+     * Ids are dense, stable, and in order of first appearance
+     */
+    @Test
+    public void internAssignsDenseIds() {
+        NameTable table = new NameTable();
+        assertEquals(0, table.intern("foo"));
+        assertEquals(1, table.intern("bar"));
+        assertEquals(0, table.intern(new String("foo")));
+        assertEquals(2, table.size());
+        assertEquals(1, table.id("bar"));
+        assertEquals(-1, table.id("baz"));
+        assertEquals("bar", table.name(1));
+    }
+
+    /**
+     * Ranks follow String order, and are kept up to date as names are added
+     */
+    @Test
+    public void ranksFollowStringOrder() {
+        NameTable table = new NameTable();
+        List<String> added = new ArrayList<>();
+        for(String name : NAMES) {
+            table.intern(name);
+            added.add(name);
+            for(String lhs : added) {
+                for(String rhs : added)
+                    assertEquals(Integer.signum(lhs.compareTo(rhs)), Integer.signum(table.compare(table.id(lhs), table.id(rhs))));
+            }
+        }
+        String[] sorted = NAMES.clone();
+        Arrays.sort(sorted);
+        for(int rank = 0; rank < sorted.length; rank++)
+            assertEquals(rank, table.rank(table.id(sorted[rank])));
+    }
+
+    /**
+     * Canonicalized semvernames share one name String
+     */
+    @Test
+    public void canonicalize() {
+        NameTable table = new NameTable();
+        SemanticVersionName first = table.valueOf("foo-bar-1.2.3");
+        SemanticVersionName second = table.valueOf(new StringBuilder("foo-bar-1.2.4-rc1"));
+        assertSame(first.getName(), second.getName());
+        assertEquals(SemanticVersionName.valueOf("foo-bar-1.2.4-rc1"), second);
+        assertSame(second, table.canonicalize(second));
+    }
+
+    /**
+     * The comparator and the table-ranked sort agree with natural ordering
+     */
+    @Test
+    public void orderingMatchesCompareTo() {
+        NameTable table = new NameTable();
+        SemanticVersionName[] semvernames = RANDOM_NAMES.list(new Random(21), 1000).toArray(new SemanticVersionName[0]);
+        SemanticVersionName[] expected = semvernames.clone();
+        Arrays.sort(expected);
+        SemanticVersionName[] viaComparator = semvernames.clone();
+        Arrays.sort(viaComparator, table.comparator());
+        assertArrayEquals(expected, viaComparator);
+        SemanticVersionName[] viaSort = semvernames.clone();
+        VersionSort.sort(viaSort, new NameTable());
+        for(int i = 0; i < expected.length; i++)
+            assertSame(expected[i], viaSort[i]);
+    }
+
+    /**
+     * Tables sharing a NameTable agree on name ids
+     */
+    @Test
+    public void sharedByVersionTables() {
+        NameTable names = new NameTable();
+        VersionTable lhs = new VersionTable(0, names);
+        VersionTable rhs = new VersionTable(0, names);
+        lhs.add(SemanticVersionName.valueOf("foo-1.0.0"));
+        rhs.add(SemanticVersionName.valueOf("bar-1.0.0"));
+        rhs.add(SemanticVersionName.valueOf("foo-2.0.0"));
+        assertEquals(lhs.nameId(0), rhs.nameId(1));
+        assertEquals(2, lhs.nameCount());
+        assertEquals(-1, lhs.latestPerName()[rhs.nameId(0)]);
+        assertTrue(rhs.compareRows(0, 1) < 0);
+    }
+
+    /**
+     * Invalid, names are checked when first added
+     */
+    @Test
+    public void invalidName() {
+        exception.expect(IllegalArgumentException.class);
+        new NameTable().intern("foo.bar");
+    }
+
+    /**
+     * Invalid, unknown id
+     */
+    @Test
+    public void invalidId() {
+        NameTable table = new NameTable();
+        table.intern("foo");
+        exception.expect(IllegalArgumentException.class);
+        table.rank(1);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * OffHeapVersionStoreTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 7:51:03 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author PSexton
+ */
+public class OffHeapVersionStoreTest {
+
+    private static final RandomNames RANDOM_NAMES = new RandomNames("foo", "bar", "foo-bar", "zed");
+
+    /**
+     * Records come back sorted and de-duplicated, across chunk boundaries
+     */
+    @Test
+    public void loadSortsAndDeduplicates() {
+        Random random = new Random(18);
+        List<SemanticVersionName> semvernames = new ArrayList<>();
+        for(int i = 0; i < 1000; i++)
+            semvernames.add(RANDOM_NAMES.next(random));
+        SemanticVersionIndex index = new SemanticVersionIndex(semvernames);
+        OffHeapVersionStore store = OffHeapVersionStore.load(semvernames, 4);
+        
+        List<SemanticVersionName> expected = new ArrayList<>();
+        List<String> names = new ArrayList<>(index.names());
+        Collections.sort(names);
+        for(String name : names)
+            expected.addAll(index.versions(name));
+        assertEquals(expected.size(), store.size());
+        for(int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), store.get(i));
+            assertEquals(i, store.indexOf(expected.get(i)));
+        }
+        assertEquals(expected.size() * 20L, store.recordBytes());
+    }
+
+    /**
+     * Lookups agree with SemanticVersionIndex, including for prereleases
+     * and names that aren't stored
+     */
+    @Test
+    public void lookupsMatchIndex() {
+        Random random = new Random(19);
+        List<SemanticVersionName> semvernames = new ArrayList<>();
+        for(int i = 0; i < 300; i++)
+            semvernames.add(RANDOM_NAMES.next(random));
+        SemanticVersionIndex index = new SemanticVersionIndex(semvernames);
+        OffHeapVersionStore store = OffHeapVersionStore.load(semvernames, 3);
+        for(int i = 0; i < 500; i++) {
+            SemanticVersionName query = RANDOM_NAMES.next(random);
+            if(random.nextInt(4) == 0)
+                query = query.setSemver(query.getSemver().setPrerelease("gamma"));
+            assertEquals(index.contains(query), store.contains(query));
+            assertEquals(index.latestCompatible(query), store.latestCompatible(query));
+            assertEquals(index.latest(query.getName()), store.latest(query.getName()));
+            long insertion = store.indexOf(query);
+            if(insertion < 0) {
+                insertion = -1 - insertion;
+                assertTrue(insertion == 0 || store.get(insertion - 1).compareTo(query) < 0);
+                assertTrue(insertion == store.size() || store.get(insertion).compareTo(query) > 0);
+            }
+        }
+        assertNull(store.latest("nope"));
+        assertNull(store.latestCompatible(SemanticVersionName.valueOf("nope-1.0.0")));
+    }
+
+    /**
+     * Empty store
+     */
+    @Test
+    public void empty() {
+        OffHeapVersionStore store = OffHeapVersionStore.load(new ArrayList<SemanticVersionName>());
+        assertEquals(0, store.size());
+        assertEquals(-1, store.indexOf(SemanticVersionName.valueOf("foo-1.0.0")));
+        assertNull(store.latest("foo"));
+    }
+}
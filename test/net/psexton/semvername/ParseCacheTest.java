@@ -0,0 +1,131 @@
+/*
+ * ParseCacheTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 12:05:44 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class ParseCacheTest {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    /**
+     * Second lookup is a hit and returns the same instance
+     */
+    @Test
+    public void hitReturnsSameInstance() {
+        ParseCache<SemanticVersionName> cache = new ParseCache<>(16, SemanticVersionName::valueOf);
+        SemanticVersionName first = cache.get("core-lib-2.4.1");
+        SemanticVersionName second = cache.get("core-lib-2.4.1");
+        assertSame(first, second);
+        assertEquals(SemanticVersionName.valueOf("core-lib-2.4.1"), first);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * Size never exceeds the maximum
+     */
+    @Test
+    public void bounded() {
+        ParseCache<SemanticVersion> cache = new ParseCache<>(100, SemanticVersion::valueOf);
+        for(int i = 0; i < 1000; i++) {
+            cache.get("1.0." + i);
+            cache.get("1.0." + i);
+        }
+        assertTrue(cache.size() <= 100);
+        assertTrue(cache.getEvictionCount() > 0);
+    }
+
+    /**
+     * Popular entries survive a scan of one-off strings
+     */
+    @Test
+    public void frequentEntriesSurviveScan() {
+        ParseCache<SemanticVersion> cache = new ParseCache<>(64, SemanticVersion::valueOf);
+        for(int round = 0; round < 5; round++) {
+            for(int i = 0; i < 32; i++)
+                cache.get("2.0." + i);
+        }
+        for(int i = 0; i < 10000; i++) {
+            cache.get("3.0." + i);
+            if(i % 100 == 99) {
+                for(int j = 0; j < 32; j++)
+                    cache.get("2.0." + j);
+            }
+        }
+        long hits = cache.getHitCount();
+        for(int i = 0; i < 32; i++)
+            cache.get("2.0." + i);
+        assertEquals(hits + 32, cache.getHitCount());
+        assertTrue(cache.getRejectionCount() > 0);
+    }
+
+    /**
+     * Invalid strings throw every time and are not cached
+     */
+    @Test
+    public void invalidNotCached() {
+        ParseCache<SemanticVersion> cache = new ParseCache<>(16, SemanticVersion::valueOf);
+        for(int i = 0; i < 2; i++) {
+            try {
+                cache.get("1.2");
+                fail();
+            }
+            catch(IllegalArgumentException e) {
+                // expected
+            }
+        }
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Default caches behind cachedValueOf
+     */
+    @Test
+    public void cachedValueOf() {
+        assertEquals(SemanticVersion.valueOf("7.8.9-rc1"), SemanticVersion.cachedValueOf("7.8.9-rc1"));
+        assertSame(SemanticVersionName.cachedValueOf("abc-7.8.9"), SemanticVersionName.cachedValueOf("abc-7.8.9"));
+    }
+
+    /**
+     * Invalid, null through cachedValueOf
+     */
+    @Test
+    public void invalidCachedNull() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersionName.cachedValueOf(null);
+    }
+
+    /**
+     * Invalid, zero size
+     */
+    @Test
+    public void invalidSize() {
+        exception.expect(IllegalArgumentException.class);
+        new ParseCache<>(0, SemanticVersion::valueOf);
+    }
+}
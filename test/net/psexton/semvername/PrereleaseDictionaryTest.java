@@ -0,0 +1,126 @@
+/*
+ * PrereleaseDictionaryTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 3:58:10 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class PrereleaseDictionaryTest {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    /**
+     * Parsed and constructed versions share prerelease Strings
+     */
+    @Test
+    public void parsedVersionsShare() {
+        SemanticVersion first = SemanticVersion.valueOf("1.2.3-SNAPSHOT");
+        SemanticVersion second = SemanticVersionName.valueOf(new StringBuilder("foo-1.2.4-SNAPSHOT")).getSemver();
+        SemanticVersion third = SemanticVersion.of(1, 2, 5, new String("SNAPSHOT"));
+        assertSame(first.getPrerelease(), second.getPrerelease());
+        assertSame(first.getPrerelease(), third.getPrerelease());
+    }
+
+    /**
+     * Only capacity tags are kept; later ones come back unshared
+     */
+    @Test
+    public void capacityBound() {
+        PrereleaseDictionary dictionary = new PrereleaseDictionary(2);
+        String alpha = dictionary.intern(new String("alpha"));
+        assertSame(alpha, dictionary.intern(new String("alpha")));
+        dictionary.intern("beta");
+        String rc1 = new String("rc1");
+        assertSame(rc1, dictionary.intern(rc1));
+        assertNotSame(rc1, dictionary.intern(new String("rc1")));
+        assertEquals(2, dictionary.size());
+        assertSame("", dictionary.intern(""));
+    }
+
+    /**
+     * Lookups by range find the same instance as lookups by String
+     */
+    @Test
+    public void rangeLookup() {
+        PrereleaseDictionary dictionary = new PrereleaseDictionary(16);
+        String beta = dictionary.intern(new String("beta-2"));
+        assertSame(beta, dictionary.intern("1.0.0-beta-2", 6, 12));
+        assertEquals("beta-3", dictionary.intern(new StringBuilder("beta-3"), 0, 6));
+    }
+
+    /**
+     * Prerelease keys order like the Strings, including past the key's length
+     */
+    @Test
+    public void compareMatchesStringOrder() {
+        Random random = new Random(22);
+        String alphabet = "-0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+        String[] prereleases = new String[300];
+        for(int i = 0; i < prereleases.length; i++) {
+            StringBuilder sb = new StringBuilder(i % 2 == 0 ? "SNAPS" : "");
+            int length = 1 + random.nextInt(8);
+            for(int j = 0; j < length; j++)
+                sb.append(alphabet.charAt(random.nextInt(random.nextBoolean() ? 3 : alphabet.length())));
+            prereleases[i] = sb.toString();
+        }
+        for(String lhs : prereleases) {
+            for(String rhs : prereleases) {
+                SemanticVersion lhsVersion = SemanticVersion.of(1, 0, 0, lhs);
+                SemanticVersion rhsVersion = new SemanticVersion(1, 0, 0, new String(rhs), false);
+                assertEquals(Integer.signum(lhs.compareTo(rhs)), Integer.signum(lhsVersion.compareTo(rhsVersion)));
+                assertEquals(lhs.equals(rhs), lhsVersion.equals(rhsVersion));
+            }
+        }
+    }
+
+    /**
+     * Invalid, tags are checked before being added
+     */
+    @Test
+    public void invalidTag() {
+        exception.expect(IllegalArgumentException.class);
+        new PrereleaseDictionary(4).intern("rc.1");
+    }
+
+    /**
+     * The largest capacity sizes its table without overflowing
+     */
+    @Test
+    public void maxCapacity() {
+        PrereleaseDictionary dictionary = new PrereleaseDictionary(PrereleaseDictionary.MAX_CAPACITY);
+        assertEquals(PrereleaseDictionary.MAX_CAPACITY, dictionary.capacity());
+        assertSame(dictionary.intern("rc1"), dictionary.intern(new String("rc1")));
+    }
+
+    /**
+     * Invalid, capacity past MAX_CAPACITY
+     */
+    @Test
+    public void capacityTooLarge() {
+        exception.expect(IllegalArgumentException.class);
+        new PrereleaseDictionary(Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * RandomNames.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 10:12:40 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Random SemanticVersionNames for tests, with names and prereleases drawn
+ * from fixed lists and each version number drawn below a bound. Majors can
+ * instead be drawn below a second, smaller bound half the time.
+ * Every draw takes the name, major, minor, patch and prerelease from the
+ * caller's Random in that order, so a seed always gives the same versions.
+ * Immutable class; the configuring methods return a new generator.
+ * @author PSexton
+ */
+final class RandomNames {
+    private final String[] names;
+    private final String[] prereleases;
+    private final int majors;
+    private final int minors;
+    private final int patches;
+    private final int smallMajors;
+    private final boolean copyNames;
+
+    /**
+     * Generator with majors below 4, minors and patches below 3, and
+     * prereleases "", "", "alpha", "beta" and "rc1".
+     * @param names Names to draw from
+     */
+    RandomNames(String... names) {
+        this(names, new String[] {"", "", "alpha", "beta", "rc1"}, 4, 3, 3, 0, false);
+    }
+
+    private RandomNames(String[] names, String[] prereleases, int majors, int minors, int patches, int smallMajors, boolean copyNames) {
+        this.names = names;
+        this.prereleases = prereleases;
+        this.majors = majors;
+        this.minors = minors;
+        this.patches = patches;
+        this.smallMajors = smallMajors;
+        this.copyNames = copyNames;
+    }
+
+    /**
+     * @return Generator drawing from the names prefix0 to prefix(count-1)
+     */
+    static RandomNames numbered(String prefix, int count) {
+        String[] names = new String[count];
+        for(int i = 0; i < count; i++)
+            names[i] = prefix + i;
+        return new RandomNames(names);
+    }
+
+    /**
+     * @param prereleases Prereleases to draw from, "" for a release
+     */
+    RandomNames prereleases(String... prereleases) {
+        return new RandomNames(names, prereleases, majors, minors, patches, smallMajors, copyNames);
+    }
+
+    /**
+     * @return Generator drawing each number from 0 up to its bound, exclusive
+     */
+    RandomNames bounds(int majors, int minors, int patches) {
+        return new RandomNames(names, prereleases, majors, minors, patches, smallMajors, copyNames);
+    }
+
+    /**
+     * @return Generator drawing every other major, on average, below
+     * smallMajors instead of the majors bound, so both small and large
+     * majors are common
+     */
+    RandomNames smallMajors(int smallMajors) {
+        return new RandomNames(names, prereleases, majors, minors, patches, smallMajors, copyNames);
+    }
+
+    /**
+     * @return Generator giving every version its own copy of its name, so
+     * equal names aren't already the same String
+     */
+    RandomNames copyingNames() {
+        return new RandomNames(names, prereleases, majors, minors, patches, smallMajors, true);
+    }
+
+    SemanticVersionName next(Random random) {
+        String name = names[random.nextInt(names.length)];
+        int major = (smallMajors > 0 && random.nextBoolean()) ? random.nextInt(smallMajors) : random.nextInt(majors);
+        return SemanticVersionName.of(copyNames ? new String(name) : name, major,
+                random.nextInt(minors), random.nextInt(patches), prereleases[random.nextInt(prereleases.length)]);
+    }
+
+    List<SemanticVersionName> list(Random random, int count) {
+        List<SemanticVersionName> semvernames = new ArrayList<>(count);
+        for(int i = 0; i < count; i++)
+            semvernames.add(next(random));
+        return semvernames;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * RangeIndexTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 4:52:18 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author PSexton
+ */
+public class RangeIndexTest {
+
+    /**
+     * Basic stabbing queries
+     */
+    @Test
+    public void basicStab() {
+        RangeIndex<String> index = new RangeIndex<>();
+        index.add("foo", VersionRange.valueOf("<1.2.5"), "A");
+        index.add("foo", VersionRange.valueOf(">=2.0.0 <2.3.1 || 3.x"), "B");
+        index.add("bar", VersionRange.valueOf("*"), "C");
+        assertEquals(Arrays.asList("A"), index.stab(SemanticVersionName.valueOf("foo-1.2.4")));
+        assertEquals(Arrays.asList("B"), index.stab(SemanticVersionName.valueOf("foo-3.1.0")));
+        assertEquals(Collections.emptyList(), index.stab(SemanticVersionName.valueOf("foo-2.5.0")));
+        assertEquals(Arrays.asList("C"), index.stab(SemanticVersionName.valueOf("bar-2.5.0")));
+        assertEquals(Collections.emptyList(), index.stab(SemanticVersionName.valueOf("baz-1.0.0")));
+        assertTrue(index.remove("foo", VersionRange.valueOf(">=2.0.0 <2.3.1 || 3.x"), "B"));
+        assertFalse(index.remove("foo", VersionRange.valueOf(">=2.0.0 <2.3.1 || 3.x"), "B"));
+        assertEquals(Collections.emptyList(), index.stab(SemanticVersionName.valueOf("foo-3.1.0")));
+        assertEquals(2, index.size());
+    }
+
+    /**
+     * Stabbing agrees with testing every range, through adds, removes and
+     * bulk loads
+     */
+    @Test
+    public void matchesBruteForce() {
+        Random random = new Random(15);
+        RangeIndex<Integer> index = new RangeIndex<>(new Random(1));
+        List<VersionRange> ranges = new ArrayList<>();
+        List<Integer> live = new ArrayList<>();
+        for(int i = 0; i < 600; i++) {
+            ranges.add(randomRange(random));
+            live.add(i);
+        }
+        Map<Integer, VersionRange> bulk = new HashMap<>();
+        for(int i = 0; i < 600; i++) {
+            if(i < 200)
+                index.add("foo", ranges.get(i), i);
+            else
+                bulk.put(i, ranges.get(i));
+        }
+        index.bulkLoad("foo", bulk);
+        for(int i = 0; i < 200; i++) {
+            Integer victim = live.remove(random.nextInt(live.size()));
+            assertEquals(!ranges.get(victim).isEmpty(), index.remove("foo", ranges.get(victim), victim));
+        }
+        for(int i = 0; i < 100; i++) {
+            ranges.add(randomRange(random));
+            index.add("foo", ranges.get(600 + i), 600 + i);
+            live.add(600 + i);
+        }
+        
+        for(int i = 0; i < 300; i++) {
+            SemanticVersion semver = SemanticVersion.of(random.nextInt(5), random.nextInt(5), random.nextInt(5), random.nextBoolean() ? "" : "rc1");
+            List<Integer> expected = new ArrayList<>();
+            for(Integer id : live) {
+                if(ranges.get(id).matches(semver))
+                    expected.add(id);
+            }
+            List<Integer> actual = index.stab(new SemanticVersionName("foo", semver));
+            Collections.sort(expected);
+            Collections.sort(actual);
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static VersionRange randomRange(Random random) {
+        String[] ops = {"<", "<=", ">", ">=", "~", "^", ""};
+        String first = ops[random.nextInt(ops.length)] + random.nextInt(5) + "." + random.nextInt(5) + "." + random.nextInt(5);
+        switch(random.nextInt(3)) {
+            case 0:
+                return VersionRange.valueOf(first);
+            case 1:
+                return VersionRange.valueOf(first + " || " + random.nextInt(5) + ".x");
+            default:
+                return VersionRange.valueOf(">=" + random.nextInt(3) + ".0.0 <" + (2 + random.nextInt(3)) + ".0.0-rc1");
+        }
+    }
+
+    /**
+     * A bulk load that fails validation leaves the index as it was
+     */
+    @Test
+    public void failedBulkLoad() {
+        RangeIndex<Integer> index = new RangeIndex<>();
+        for(int i = 0; i < 10; i++)
+            index.add("foo", VersionRange.valueOf(">=1.0.0"), i);
+        Map<Integer, VersionRange> constraints = new HashMap<>();
+        constraints.put(10, VersionRange.valueOf(">=1.0.0"));
+        constraints.put(11, null);
+        try {
+            index.bulkLoad("foo", constraints);
+            fail("expected IllegalArgumentException");
+        }
+        catch(IllegalArgumentException e) {
+        }
+        try {
+            index.bulkLoad("foo", null);
+            fail("expected IllegalArgumentException");
+        }
+        catch(IllegalArgumentException e) {
+        }
+        assertEquals(10, index.size());
+        assertEquals(10, index.stab(SemanticVersionName.valueOf("foo-1.2.3")).size());
+    }
+}
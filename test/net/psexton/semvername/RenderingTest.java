@@ -0,0 +1,108 @@
+/*
+ * RenderingTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 3:36:50 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class RenderingTest {
+
+    private static final String[] NAMES = {"untitled-0.0.0", "a-1.2.3", "core-lib-10.200.3000-rc1",
+        "x_y--2147483647.9.99-a-b"};
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    /**
+     * Every rendering matches toString()
+     */
+    @Test
+    public void renderingsAgree() throws IOException {
+        for(String s : NAMES) {
+            SemanticVersionName semvername = SemanticVersionName.valueOf(s);
+            assertEquals(s, semvername.toString());
+            assertEquals(s.length(), semvername.asciiLength());
+            assertEquals(s, semvername.appendTo(new StringBuilder()).toString());
+            assertEquals(s, semvername.appendTo((Appendable) new StringWriter()).toString());
+
+            byte[] bytes = new byte[s.length() + 3];
+            assertEquals(s.length() + 2, semvername.writeAscii(bytes, 2));
+            assertEquals(s, new String(bytes, 2, s.length(), StandardCharsets.US_ASCII));
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+            semvername.writeAscii(buffer);
+            assertEquals(s.length(), buffer.position());
+            assertEquals(semvername, SemanticVersionName.valueOf(buffer, 0, buffer.position()));
+
+            SemanticVersion semver = semvername.getSemver();
+            String version = semver.toString();
+            assertEquals(version.length(), semver.asciiLength());
+            assertEquals(version, semver.appendTo((Appendable) new StringWriter()).toString());
+            assertEquals(version.length(), semver.writeAscii(new byte[version.length()], 0));
+        }
+    }
+
+    /**
+     * Cached form is reused
+     */
+    @Test
+    public void cachedString() {
+        SemanticVersionName semvername = SemanticVersionName.valueOf("cached-1.2.3-beta");
+        String first = semvername.toCachedString();
+        assertEquals("cached-1.2.3-beta", first);
+        assertSame(first, semvername.toString());
+        assertSame(first, semvername.toCachedString());
+        assertNotSame(semvername.getSemver().toString(), semvername.getSemver().toString());
+    }
+
+    /**
+     * Too small an array writes nothing
+     */
+    @Test
+    public void invalidArrayTooSmall() {
+        byte[] bytes = new byte[8];
+        try {
+            SemanticVersion.valueOf("10.20.30").writeAscii(bytes, 1);
+            fail();
+        }
+        catch(IndexOutOfBoundsException e) {
+            assertTrue(Arrays.equals(new byte[8], bytes));
+        }
+    }
+
+    /**
+     * Too small a buffer
+     */
+    @Test
+    public void invalidBufferTooSmall() {
+        exception.expect(BufferOverflowException.class);
+        SemanticVersionName.valueOf("abc-1.2.3").writeAscii(ByteBuffer.allocate(8));
+    }
+}
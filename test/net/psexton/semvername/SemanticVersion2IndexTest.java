@@ -0,0 +1,137 @@
+/*
+ * SemanticVersion2IndexTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 11:24:31 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author PSexton
+ */
+public class SemanticVersion2IndexTest {
+
+    private static final RandomNames RANDOM_NAMES = new RandomNames("foo", "bar", "foo-bar").bounds(4, 4, 3);
+    private static final String[] PRERELEASES = {"", "", "", "alpha", "alpha.1", "beta", "rc.1", "rc.3"};
+    // Few enough that versions differing only in build metadata are common
+    private static final String[] BUILDS = {"", "", "b1", "b2"};
+    // Precedence, then build: the index's order for ties
+    private static final Comparator<SemanticVersionName2> ORDER = Comparator.<SemanticVersionName2>naturalOrder()
+            .thenComparing(semvername -> semvername.getSemver().getBuild());
+
+    /**
+     * Basic queries against a small index
+     */
+    @Test
+    public void basicQueries() {
+        SemanticVersion2Index index = new SemanticVersion2Index(Arrays.asList(
+                SemanticVersionName2.valueOf("foo-1.0.0"),
+                SemanticVersionName2.valueOf("foo-1.2.0+b2"),
+                SemanticVersionName2.valueOf("foo-1.2.0+b1"),
+                SemanticVersionName2.valueOf("foo-1.3.0-rc.1"),
+                SemanticVersionName2.valueOf("foo-2.0.0"),
+                SemanticVersionName2.valueOf("bar-0.4.0")));
+        assertEquals(6, index.size());
+        assertTrue(index.contains(SemanticVersionName2.valueOf("foo-1.2.0+b1")));
+        assertFalse(index.contains(SemanticVersionName2.valueOf("foo-1.2.0")));
+        assertEquals(SemanticVersionName2.valueOf("foo-1.3.0-rc.1"), index.latestCompatible(SemanticVersionName2.valueOf("foo-1.1.0")));
+        assertEquals(SemanticVersionName2.valueOf("foo-1.2.0+b2"), index.floor(SemanticVersionName2.valueOf("foo-1.2.0")));
+        assertEquals(SemanticVersionName2.valueOf("foo-1.2.0+b1"), index.ceiling(SemanticVersionName2.valueOf("foo-1.2.0+b9")));
+        assertEquals(SemanticVersionName2.valueOf("foo-2.0.0"), index.latest("foo"));
+        assertEquals(SemanticVersionName2.valueOf("bar-0.4.0"), index.latestCompatible(SemanticVersionName2.valueOf("bar-0.4.0+x")));
+        assertNull(index.latestCompatible(SemanticVersionName2.valueOf("bar-0.3.0")));
+        assertEquals(Arrays.asList(SemanticVersionName2.valueOf("foo-1.3.0-rc.1")),
+                index.range(SemanticVersionName2.valueOf("foo-1.2.0"), false, SemanticVersionName2.valueOf("foo-2.0.0+b1"), false));
+        assertEquals(Arrays.asList(SemanticVersionName2.valueOf("foo-1.2.0+b1"), SemanticVersionName2.valueOf("foo-1.2.0+b2")),
+                index.range(SemanticVersionName2.valueOf("foo-1.2.0"), true, SemanticVersionName2.valueOf("foo-1.2.0"), true));
+    }
+
+    /**
+     * Every query agrees with a linear scan using cgt and compareTo, ties
+     * going to the greatest build, or the least for ceiling
+     */
+    @Test
+    public void matchesBruteForce() {
+        Random random = new Random(16);
+        List<SemanticVersionName2> all = new ArrayList<>();
+        SemanticVersion2Index index = new SemanticVersion2Index();
+        for(int i = 0; i < 400; i++) {
+            SemanticVersionName2 semvername = next(random);
+            index.add(semvername);
+            if(!all.contains(semvername))
+                all.add(semvername);
+        }
+        for(int i = 0; i < 100; i++) {
+            SemanticVersionName2 semvername = all.remove(random.nextInt(all.size()));
+            assertTrue(index.remove(semvername));
+        }
+        assertEquals(all.size(), index.size());
+
+        for(int i = 0; i < 500; i++) {
+            SemanticVersionName2 query = next(random);
+            SemanticVersionName2 other = new SemanticVersionName2(query.getName(), next(random).getSemver());
+            boolean lowInclusive = random.nextBoolean();
+            boolean highInclusive = random.nextBoolean();
+            SemanticVersionName2 latestCompatible = null;
+            SemanticVersionName2 latestInMajor = null;
+            SemanticVersionName2 latest = null;
+            SemanticVersionName2 floor = null;
+            SemanticVersionName2 ceiling = null;
+            List<SemanticVersionName2> range = new ArrayList<>();
+            SemanticVersionName2 low = (query.compareTo(other) <= 0) ? query : other;
+            SemanticVersionName2 high = (query.compareTo(other) <= 0) ? other : query;
+            for(SemanticVersionName2 candidate : all) {
+                if(!candidate.getName().equals(query.getName()))
+                    continue;
+                if(candidate.cgt(query) && (latestCompatible == null || ORDER.compare(candidate, latestCompatible) > 0))
+                    latestCompatible = candidate;
+                if(candidate.getSemver().major() == query.getSemver().major() && (latestInMajor == null || ORDER.compare(candidate, latestInMajor) > 0))
+                    latestInMajor = candidate;
+                if(latest == null || ORDER.compare(candidate, latest) > 0)
+                    latest = candidate;
+                if(candidate.compareTo(query) <= 0 && (floor == null || ORDER.compare(candidate, floor) > 0))
+                    floor = candidate;
+                if(candidate.compareTo(query) >= 0 && (ceiling == null || ORDER.compare(candidate, ceiling) < 0))
+                    ceiling = candidate;
+                int compareLow = candidate.compareTo(low);
+                int compareHigh = candidate.compareTo(high);
+                if((lowInclusive ? compareLow >= 0 : compareLow > 0) && (highInclusive ? compareHigh <= 0 : compareHigh < 0))
+                    range.add(candidate);
+            }
+            range.sort(ORDER);
+            assertEquals(latestCompatible, index.latestCompatible(query));
+            assertEquals(latestInMajor, index.latestInMajor(query.getName(), query.getSemver().major()));
+            assertEquals(latest, index.latest(query.getName()));
+            assertEquals(floor, index.floor(query));
+            assertEquals(ceiling, index.ceiling(query));
+            assertEquals(range, index.range(low, lowInclusive, high, highInclusive));
+        }
+    }
+
+    private static SemanticVersionName2 next(Random random) {
+        SemanticVersionName semvername = RANDOM_NAMES.next(random);
+        SemanticVersion semver = semvername.getSemver();
+        return SemanticVersionName2.of(semvername.getName(), semver.major(), semver.minor(), semver.patch(),
+                PRERELEASES[random.nextInt(PRERELEASES.length)], BUILDS[random.nextInt(BUILDS.length)]);
+    }
+}
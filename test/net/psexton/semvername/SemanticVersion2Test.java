@@ -0,0 +1,165 @@
+/*
+ * SemanticVersion2Test.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 5:08:33 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class SemanticVersion2Test {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    /**
+     * Parse and render, with prerelease and build metadata
+     */
+    @Test
+    public void roundTrip() {
+        SemanticVersion2 version = SemanticVersion2.valueOf("1.2.3-rc.1.x-y+build.007");
+        assertEquals(1, version.major());
+        assertEquals(2, version.minor());
+        assertEquals(3, version.patch());
+        assertEquals("rc.1.x-y", version.getPrerelease());
+        assertEquals("build.007", version.getBuild());
+        assertEquals(3, version.prereleaseIdentifierCount());
+        assertEquals("1.2.3-rc.1.x-y+build.007", version.toString());
+        assertEquals(version, SemanticVersion2.of(1, 2, 3, "rc.1.x-y", "build.007"));
+        assertEquals("10.0.0+exp", SemanticVersion2.valueOf("10.0.0+exp").toString());
+    }
+
+    /**
+     * The precedence example from section 11 of the 2.0.0 specification
+     */
+    @Test
+    public void specificationOrder() {
+        List<String> expected = Arrays.asList("1.0.0-alpha", "1.0.0-alpha.1", "1.0.0-alpha.beta", "1.0.0-beta",
+                "1.0.0-beta.2", "1.0.0-beta.11", "1.0.0-rc.1", "1.0.0", "2.0.0", "2.1.0", "2.1.1");
+        SemanticVersion2[] versions = new SemanticVersion2[expected.size()];
+        for(int i = 0; i < versions.length; i++)
+            versions[i] = SemanticVersion2.valueOf(expected.get(i));
+        List<SemanticVersion2> shuffled = Arrays.asList(versions.clone());
+        Collections.shuffle(shuffled, new Random(23));
+        Collections.sort(shuffled);
+        assertEquals(Arrays.asList(versions), shuffled);
+        for(int i = 0; i < versions.length; i++) {
+            for(int j = 0; j < versions.length; j++)
+                assertEquals(Integer.signum(Integer.compare(i, j)), Integer.signum(versions[i].compareTo(versions[j])));
+        }
+    }
+
+    /**
+     * The slow path for numbers too large to pack gives the same order
+     */
+    @Test
+    public void unpackableOrder() {
+        SemanticVersion2 release = SemanticVersion2.valueOf("20261018.0.0");
+        SemanticVersion2 pre = SemanticVersion2.valueOf("20261018.0.0-rc.2");
+        assertFalse(release.isPackable());
+        assertTrue(pre.compareTo(release) < 0);
+        assertTrue(release.compareTo(pre) > 0);
+        assertTrue(SemanticVersion2.valueOf("20261018.0.0-rc.10").compareTo(pre) > 0);
+    }
+
+    /**
+     * Build metadata is ignored by precedence but not by equals
+     */
+    @Test
+    public void buildIgnoredInOrder() {
+        SemanticVersion2 lhs = SemanticVersion2.valueOf("1.0.0-beta+exp.sha.5114f85");
+        SemanticVersion2 rhs = SemanticVersion2.valueOf("1.0.0-beta+20130313144700");
+        assertEquals(0, lhs.compareTo(rhs));
+        assertNotEquals(lhs, rhs);
+        assertEquals(lhs.withoutBuild(), rhs.withoutBuild());
+        assertTrue(lhs.cgt(rhs));
+    }
+
+    /**
+     * Compatibly greater than follows the 1.0.0 rules
+     */
+    @Test
+    public void compatiblyGreaterThan() {
+        assertTrue(SemanticVersion2.valueOf("1.3.0").cgt(SemanticVersion2.valueOf("1.2.0-rc.1")));
+        assertFalse(SemanticVersion2.valueOf("2.0.0").cgt(SemanticVersion2.valueOf("1.2.0")));
+        assertFalse(SemanticVersion2.valueOf("0.2.0").cgt(SemanticVersion2.valueOf("0.1.0")));
+        assertFalse(SemanticVersion2.valueOf("1.2.0-alpha").cgt(SemanticVersion2.valueOf("1.2.0")));
+    }
+
+    /**
+     * Packed keys share SemanticVersion's layout
+     */
+    @Test
+    public void packedKey() {
+        assertEquals(SemanticVersion.valueOf("1.2.3").toPackedKey(), SemanticVersion2.valueOf("1.2.3+b1").toPackedKey());
+        assertEquals(SemanticVersion.valueOf("1.2.3-rc1").toPackedKey(), SemanticVersion2.from(SemanticVersion.valueOf("1.2.3-rc1")).toPackedKey());
+    }
+
+    /**
+     * Errors are reported with their offsets
+     */
+    @Test
+    public void tryParseErrors() {
+        assertEquals(ParseError.LEADING_ZERO, SemanticVersion2.tryParse("01.2.3").getError());
+        assertEquals(ParseError.LEADING_ZERO, SemanticVersion2.tryParse("1.2.3-rc.01").getError());
+        assertEquals(9, SemanticVersion2.tryParse("1.2.3-rc.01").getErrorIndex());
+        assertEquals(ParseError.EMPTY_IDENTIFIER, SemanticVersion2.tryParse("1.2.3-rc..1").getError());
+        assertEquals(ParseError.EMPTY_PRERELEASE, SemanticVersion2.tryParse("1.2.3-+b").getError());
+        assertEquals(ParseError.EMPTY_BUILD, SemanticVersion2.tryParse("1.2.3+").getError());
+        assertEquals(ParseError.INVALID_BUILD_CHAR, SemanticVersion2.tryParse("1.2.3+b_1").getError());
+        assertEquals(ParseError.EXPECTED_PRERELEASE_OR_BUILD, SemanticVersion2.tryParse("1.2.3_rc").getError());
+        assertEquals(ParseError.IDENTIFIER_TOO_LARGE, SemanticVersion2.tryParse("1.2.3-99999999999999999999").getError());
+        assertTrue(SemanticVersion2.tryParse("1.2.3-0.0a.00a+001").isValid());
+    }
+
+    /**
+     * 2.0.0 tags stay out of the 1.0.0 dictionary
+     */
+    @Test
+    public void ownDictionary() {
+        SemanticVersion2.valueOf("1.2.3-rc.9000");
+        exception.expect(IllegalArgumentException.class);
+        PrereleaseDictionary.shared().intern("rc.9000");
+    }
+
+    /**
+     * Invalid, prerelease passed to of() contains a plus sign
+     */
+    @Test
+    public void invalidPrerelease() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion2.of(1, 2, 3, "rc+1");
+    }
+
+    /**
+     * Invalid, 1.0.0 prerelease that is numeric with a leading zero
+     */
+    @Test
+    public void invalidConversion() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion2.from(SemanticVersion.valueOf("1.2.3-01"));
+    }
+}
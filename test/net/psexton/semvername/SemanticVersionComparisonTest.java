@@ -161,4 +161,13 @@ public class SemanticVersionComparisonTest {
         SemanticVersion version1 = SemanticVersion.valueOf("1.2.3");
         assertTrue(version1.isCompatiblyGreaterThan(version1));
     }
+    
+    @Test
+    public void compatiblyGreaterThanPrerelease() {
+        SemanticVersion version1rc1 = SemanticVersion.valueOf("1.0.0-rc1");
+        SemanticVersion version1rc3 = SemanticVersion.valueOf("1.0.0-rc3");
+        
+        assertTrue(version1rc3.isCompatiblyGreaterThan(version1rc1));
+        assertFalse(version1rc1.isCompatiblyGreaterThan(version1rc3));
+    }
 }
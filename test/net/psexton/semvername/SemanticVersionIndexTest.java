@@ -0,0 +1,148 @@
+/*
+ * SemanticVersionIndexTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 1:41:32 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class SemanticVersionIndexTest {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    private static final RandomNames RANDOM_NAMES = new RandomNames("foo", "bar", "foo-bar")
+            .prereleases("", "", "", "alpha", "beta", "rc1", "rc3").bounds(4, 4, 3);
+
+    /**
+     * Basic queries against a small index
+     */
+    @Test
+    public void basicQueries() {
+        SemanticVersionIndex index = new SemanticVersionIndex(Arrays.asList(
+                SemanticVersionName.valueOf("foo-1.0.0"),
+                SemanticVersionName.valueOf("foo-1.2.0"),
+                SemanticVersionName.valueOf("foo-1.3.0-rc1"),
+                SemanticVersionName.valueOf("foo-2.0.0"),
+                SemanticVersionName.valueOf("bar-0.4.0")));
+        assertEquals(5, index.size());
+        assertEquals(SemanticVersionName.valueOf("foo-1.3.0-rc1"), index.latestCompatible(SemanticVersionName.valueOf("foo-1.1.0")));
+        assertEquals(SemanticVersionName.valueOf("foo-2.0.0"), index.latest("foo"));
+        assertEquals(SemanticVersionName.valueOf("foo-1.3.0-rc1"), index.latestInMajor("foo", 1));
+        assertEquals(SemanticVersionName.valueOf("foo-1.3.0-rc1"), index.floor(SemanticVersionName.valueOf("foo-1.9.0")));
+        assertEquals(SemanticVersionName.valueOf("foo-2.0.0"), index.ceiling(SemanticVersionName.valueOf("foo-1.3.0")));
+        assertNull(index.latestCompatible(SemanticVersionName.valueOf("bar-0.3.0")));
+        assertEquals(SemanticVersionName.valueOf("bar-0.4.0"), index.latestCompatible(SemanticVersionName.valueOf("bar-0.4.0")));
+        assertNull(index.latest("baz"));
+        assertEquals(Arrays.asList(SemanticVersionName.valueOf("foo-1.2.0"), SemanticVersionName.valueOf("foo-1.3.0-rc1")),
+                index.range(SemanticVersionName.valueOf("foo-1.0.0"), false, SemanticVersionName.valueOf("foo-2.0.0"), false));
+    }
+
+    /**
+     * Removing the last version of a name removes the name
+     */
+    @Test
+    public void remove() {
+        SemanticVersionIndex index = new SemanticVersionIndex();
+        SemanticVersionName semvername = SemanticVersionName.valueOf("foo-1.0.0");
+        assertTrue(index.add(semvername));
+        assertFalse(index.add(SemanticVersionName.valueOf("foo-1.0.0")));
+        assertTrue(index.contains(semvername));
+        assertTrue(index.remove(semvername));
+        assertFalse(index.remove(semvername));
+        assertTrue(index.isEmpty());
+        assertTrue(index.names().isEmpty());
+        assertNull(index.latest("foo"));
+    }
+
+    /**
+     * Invalid range, bounds with different names
+     */
+    @Test
+    public void invalidRangeNames() {
+        exception.expect(IllegalArgumentException.class);
+        new SemanticVersionIndex().range(SemanticVersionName.valueOf("foo-1.0.0"), true, SemanticVersionName.valueOf("bar-2.0.0"), true);
+    }
+
+    /**
+     * Every query agrees with a linear scan using cgt and compareTo
+     */
+    @Test
+    public void matchesBruteForce() {
+        Random random = new Random(12);
+        List<SemanticVersionName> all = new ArrayList<>();
+        SemanticVersionIndex index = new SemanticVersionIndex();
+        for(int i = 0; i < 400; i++) {
+            SemanticVersionName semvername = RANDOM_NAMES.next(random);
+            index.add(semvername);
+            if(!all.contains(semvername))
+                all.add(semvername);
+        }
+        for(int i = 0; i < 100; i++) {
+            SemanticVersionName semvername = all.remove(random.nextInt(all.size()));
+            assertTrue(index.remove(semvername));
+        }
+        assertEquals(all.size(), index.size());
+        
+        for(int i = 0; i < 500; i++) {
+            SemanticVersionName query = RANDOM_NAMES.next(random);
+            SemanticVersionName other = RANDOM_NAMES.next(random).setName(query.getName());
+            SemanticVersionName latestCompatible = null;
+            SemanticVersionName latestInMajor = null;
+            SemanticVersionName latest = null;
+            SemanticVersionName floor = null;
+            SemanticVersionName ceiling = null;
+            List<SemanticVersionName> range = new ArrayList<>();
+            SemanticVersionName low = (query.compareTo(other) <= 0) ? query : other;
+            SemanticVersionName high = (query.compareTo(other) <= 0) ? other : query;
+            for(SemanticVersionName candidate : all) {
+                if(!candidate.getName().equals(query.getName()))
+                    continue;
+                if(candidate.cgt(query) && (latestCompatible == null || candidate.compareTo(latestCompatible) > 0))
+                    latestCompatible = candidate;
+                if(candidate.getSemver().major() == query.getSemver().major() && (latestInMajor == null || candidate.compareTo(latestInMajor) > 0))
+                    latestInMajor = candidate;
+                if(latest == null || candidate.compareTo(latest) > 0)
+                    latest = candidate;
+                if(candidate.compareTo(query) <= 0 && (floor == null || candidate.compareTo(floor) > 0))
+                    floor = candidate;
+                if(candidate.compareTo(query) >= 0 && (ceiling == null || candidate.compareTo(ceiling) < 0))
+                    ceiling = candidate;
+                if(candidate.compareTo(low) >= 0 && candidate.compareTo(high) < 0)
+                    range.add(candidate);
+            }
+            Collections.sort(range);
+            assertEquals(latestCompatible, index.latestCompatible(query));
+            assertEquals(latestInMajor, index.latestInMajor(query.getName(), query.getSemver().major()));
+            assertEquals(latest, index.latest(query.getName()));
+            assertEquals(floor, index.floor(query));
+            assertEquals(ceiling, index.ceiling(query));
+            assertEquals(range, index.range(low, true, high, false));
+        }
+    }
+}
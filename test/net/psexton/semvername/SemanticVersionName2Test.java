@@ -0,0 +1,110 @@
+/*
+ * SemanticVersionName2Test.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 11:12:54 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class SemanticVersionName2Test {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    /**
+     * Parse and render, with a hyphenated name, prerelease and build metadata
+     */
+    @Test
+    public void roundTrip() {
+        SemanticVersionName2 semvername = SemanticVersionName2.valueOf("foo-bar-1.2.3-rc.1+exp.sha.5114f85");
+        assertEquals("foo-bar", semvername.getName());
+        assertEquals(SemanticVersion2.of(1, 2, 3, "rc.1", "exp.sha.5114f85"), semvername.getSemver());
+        assertEquals("foo-bar-1.2.3-rc.1+exp.sha.5114f85", semvername.toString());
+        assertEquals(semvername, SemanticVersionName2.of("foo-bar", 1, 2, 3, "rc.1", "exp.sha.5114f85"));
+        assertEquals(semvername, SemanticVersionName2.valueOf("[foo-bar-1.2.3-rc.1+exp.sha.5114f85]", 1, 35));
+        assertEquals(SemanticVersionName2.of("foo", 1, 0, 0, "rc1"), SemanticVersionName2.from(SemanticVersionName.valueOf("foo-1.0.0-rc1")));
+    }
+
+    /**
+     * Names are ordered first, then versions by precedence
+     */
+    @Test
+    public void order() {
+        SemanticVersionName2 a = SemanticVersionName2.valueOf("bar-2.0.0");
+        SemanticVersionName2 b = SemanticVersionName2.valueOf("foo-1.0.0-alpha.beta");
+        SemanticVersionName2 c = SemanticVersionName2.valueOf("foo-1.0.0-beta.2");
+        SemanticVersionName2 d = SemanticVersionName2.valueOf("foo-1.0.0-beta.11");
+        assertTrue(a.compareTo(b) < 0);
+        assertTrue(b.compareTo(c) < 0);
+        assertTrue(c.compareTo(d) < 0);
+        assertTrue(d.compareTo(a) > 0);
+    }
+
+    /**
+     * Build metadata is ignored by precedence but not by equals
+     */
+    @Test
+    public void buildMetadata() {
+        SemanticVersionName2 plain = SemanticVersionName2.valueOf("foo-1.0.0");
+        SemanticVersionName2 built = SemanticVersionName2.valueOf("foo-1.0.0+20261018");
+        assertEquals(0, plain.compareTo(built));
+        assertNotEquals(plain, built);
+        assertTrue(built.cgt(plain));
+        assertTrue(plain.cgt(built));
+    }
+
+    /**
+     * Compatibility needs the same name
+     */
+    @Test
+    public void cgt() {
+        assertTrue(SemanticVersionName2.valueOf("foo-1.3.0-rc.1").cgt(SemanticVersionName2.valueOf("foo-1.2.0")));
+        assertFalse(SemanticVersionName2.valueOf("bar-1.3.0").cgt(SemanticVersionName2.valueOf("foo-1.2.0")));
+        assertFalse(SemanticVersionName2.valueOf("foo-2.0.0").cgt(SemanticVersionName2.valueOf("foo-1.2.0")));
+        assertFalse(SemanticVersionName2.valueOf("foo-0.2.1").cgt(SemanticVersionName2.valueOf("foo-0.2.0")));
+    }
+
+    /**
+     * Errors are reported at the same offsets as for the parts on their own
+     */
+    @Test
+    public void tryParseErrors() {
+        ParseResult<SemanticVersionName2> result = SemanticVersionName2.tryParse("foo-1.0.0-rc..1");
+        assertFalse(result.isValid());
+        assertEquals(ParseError.EMPTY_IDENTIFIER, result.getError());
+        assertEquals(13, result.getErrorIndex());
+        result = SemanticVersionName2.tryParse("f*o-1.0.0");
+        assertEquals(ParseError.INVALID_NAME_CHAR, result.getError());
+        assertEquals(1, result.getErrorIndex());
+        assertTrue(SemanticVersionName2.tryParse("foo-1.0.0+x.y").isValid());
+    }
+
+    /**
+     * Invalid semvername, missing name
+     */
+    @Test
+    public void missingName() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersionName2.valueOf("1.0.0");
+    }
+}
@@ -18,6 +18,7 @@
 package net.psexton.semvername;
 
 import java.util.Arrays;
+import java.util.Random;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -145,4 +146,47 @@ public class SemanticVersionNameComparisonTest {
         SemanticVersionName versionName1 = SemanticVersionName.valueOf("abc-1.2.3");
         assertTrue(versionName1.isCompatiblyGreaterThan(versionName1));
     }
+    
+    @Test
+    public void compareLongNamesWithSharedPrefix() {
+        SemanticVersionName short9 = SemanticVersionName.valueOf("abcdefghi-1.0.0");
+        SemanticVersionName long10 = SemanticVersionName.valueOf("abcdefghij-1.0.0");
+        SemanticVersionName long10b = SemanticVersionName.valueOf("abcdefghik-0.1.0");
+        
+        assertTrue(short9.compareTo(long10) < 0);
+        assertTrue(long10.compareTo(short9) > 0);
+        assertTrue(long10.compareTo(long10b) < 0);
+        assertFalse(long10.equals(long10b));
+    }
+    
+    @Test
+    public void compareMatchesStringOrder() {
+        Random random = new Random(9);
+        String alphabet = "-_09AZaz";
+        SemanticVersionName[] names = new SemanticVersionName[300];
+        for(int i = 0; i < names.length; i++) {
+            StringBuilder name = new StringBuilder();
+            int length = 1 + random.nextInt(12);
+            for(int j = 0; j < length; j++)
+                name.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            names[i] = new SemanticVersionName(name.toString(), random.nextInt(3), 0, 0);
+        }
+        for(SemanticVersionName lhs : names) {
+            for(SemanticVersionName rhs : names) {
+                int expected = lhs.getName().compareTo(rhs.getName());
+                if(expected == 0)
+                    expected = lhs.getSemver().compareTo(rhs.getSemver());
+                assertEquals(Integer.signum(expected), Integer.signum(lhs.compareTo(rhs)));
+                assertEquals(expected == 0, lhs.equals(rhs));
+            }
+        }
+    }
+    
+    @Test
+    public void hashCodeIsStable() {
+        SemanticVersionName versionName = SemanticVersionName.valueOf("stable-1.2.3-rc1");
+        int expected = 17 * (17 * 7 + "stable".hashCode()) + versionName.getSemver().hashCode();
+        assertEquals(expected, versionName.hashCode());
+        assertEquals(expected, versionName.hashCode());
+    }
 }
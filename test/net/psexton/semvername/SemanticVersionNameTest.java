@@ -64,6 +64,16 @@ public class SemanticVersionNameTest {
         assertEquals("hello-1.2.3-alpha", semvername.toString());
     }
     
+    /**
+     * Valid of
+     */
+    @Test
+    public void validOf() {
+        SemanticVersionName semvername = SemanticVersionName.of("hello", 1, 2, 3, "alpha");
+        assertEquals(new SemanticVersionName("hello", 1, 2, 3, "alpha"), semvername);
+        assertEquals(new SemanticVersionName("hello", 1, 2, 3), SemanticVersionName.of("hello", 1, 2, 3));
+    }
+    
     /**
      * Invalid, null name
      */
@@ -138,6 +148,43 @@ public class SemanticVersionNameTest {
         SemanticVersionName semvername = SemanticVersionName.valueOf("product.subproduct-1.2.3");
     }
     
+    /**
+     * Valid valueOf, hyphens and digits in name
+     */
+    @Test
+    public void validValueOfHyphenatedName() {
+        SemanticVersionName semvername = SemanticVersionName.valueOf("core-lib-2-4.5.6-rc-1");
+        assertEquals("core-lib-2", semvername.getName());
+        assertEquals(new SemanticVersion(4, 5, 6, "rc-1"), semvername.getSemver());
+    }
+    
+    /**
+     * Valid valueOf, name ending in a hyphen
+     */
+    @Test
+    public void validValueOfTrailingHyphenName() {
+        SemanticVersionName semvername = SemanticVersionName.valueOf("foo--1.2.3");
+        assertEquals("foo-", semvername.getName());
+    }
+    
+    /**
+     * Invalid valueOf, missing name
+     */
+    @Test
+    public void invalidValueOfNoName() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersionName semvername = SemanticVersionName.valueOf("-1.2.3");
+    }
+    
+    /**
+     * Invalid valueOf, missing hyphen between name and semver
+     */
+    @Test
+    public void invalidValueOfNoHyphen() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersionName semvername = SemanticVersionName.valueOf("foo1.2.3");
+    }
+    
     /**
      * Test that setter returns a new instance
      */
@@ -0,0 +1,138 @@
+/*
+ * SemanticVersionPackedKeyTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 10:02:15 AM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class SemanticVersionPackedKeyTest {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    /**
+     * Round trip without a prerelease
+     */
+    @Test
+    public void roundTripNoPre() {
+        SemanticVersion semver = SemanticVersion.valueOf("10.20.30");
+        assertTrue(semver.isPackable());
+        assertEquals(semver, SemanticVersion.fromPackedKey(semver.toPackedKey()));
+    }
+
+    /**
+     * Round trip with a prerelease
+     */
+    @Test
+    public void roundTripWithPre() {
+        SemanticVersion semver = SemanticVersion.valueOf("1.2.3-beta1");
+        assertEquals(semver, SemanticVersion.fromPackedKey(semver.toPackedKey(), "beta1"));
+    }
+
+    /**
+     * Largest values that still fit
+     */
+    @Test
+    public void roundTripLimits() {
+        SemanticVersion semver = new SemanticVersion((1 << 20) - 1, (1 << 21) - 1, (1 << 21) - 1);
+        assertTrue(semver.toPackedKey() >= 0);
+        assertEquals(semver, SemanticVersion.fromPackedKey(semver.toPackedKey()));
+    }
+
+    /**
+     * Major too large to pack
+     */
+    @Test
+    public void unpackableMajor() {
+        SemanticVersion semver = new SemanticVersion(20261018, 0, 0);
+        assertFalse(semver.isPackable());
+        assertEquals(SemanticVersion.UNPACKABLE, semver.toPackedKey());
+    }
+
+    /**
+     * Invalid, key says prerelease but none given
+     */
+    @Test
+    public void invalidMissingPrerelease() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion.fromPackedKey(SemanticVersion.valueOf("1.2.3-rc1").toPackedKey());
+    }
+
+    /**
+     * Invalid, negative key
+     */
+    @Test
+    public void invalidNegativeKey() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion.fromPackedKey(SemanticVersion.UNPACKABLE);
+    }
+
+    /**
+     * Prereleases sort below their release
+     */
+    @Test
+    public void prereleaseKeyIsLess() {
+        SemanticVersion release = SemanticVersion.valueOf("1.2.3");
+        SemanticVersion pre = SemanticVersion.valueOf("1.2.3-rc1");
+        assertTrue(pre.toPackedKey() < release.toPackedKey());
+        assertTrue(release.toPackedKey() < SemanticVersion.valueOf("1.2.4-a").toPackedKey());
+    }
+
+    /**
+     * Key order and compareTo agree, including against unpackable versions
+     */
+    @Test
+    public void compareMatchesFieldOrder() {
+        Random random = new Random(2);
+        int[] numbers = {0, 1, 2, (1 << 20) - 1, 1 << 20, (1 << 21) - 1, 1 << 21, Integer.MAX_VALUE};
+        String[] prereleases = {"", "", "a", "b", "rc1"};
+        SemanticVersion[] versions = new SemanticVersion[200];
+        for(int i = 0; i < versions.length; i++) {
+            versions[i] = new SemanticVersion(numbers[random.nextInt(numbers.length)],
+                    numbers[random.nextInt(numbers.length)], numbers[random.nextInt(numbers.length)],
+                    prereleases[random.nextInt(prereleases.length)]);
+        }
+        for(SemanticVersion lhs : versions) {
+            for(SemanticVersion rhs : versions) {
+                int expected = Integer.signum(fieldCompare(lhs, rhs));
+                assertEquals(expected, Integer.signum(lhs.compareTo(rhs)));
+                if(lhs.isPackable() && rhs.isPackable() && expected != 0 && lhs.getPrerelease().equals(rhs.getPrerelease()))
+                    assertEquals(expected, Long.compare(lhs.toPackedKey(), rhs.toPackedKey()));
+            }
+        }
+    }
+
+    private static int fieldCompare(SemanticVersion lhs, SemanticVersion rhs) {
+        if(!lhs.getMajor().equals(rhs.getMajor()))
+            return lhs.getMajor().compareTo(rhs.getMajor());
+        if(!lhs.getMinor().equals(rhs.getMinor()))
+            return lhs.getMinor().compareTo(rhs.getMinor());
+        if(!lhs.getPatch().equals(rhs.getPatch()))
+            return lhs.getPatch().compareTo(rhs.getPatch());
+        if(lhs.getPrerelease().isEmpty() || rhs.getPrerelease().isEmpty())
+            return Boolean.compare(lhs.getPrerelease().isEmpty(), rhs.getPrerelease().isEmpty());
+        return lhs.getPrerelease().compareTo(rhs.getPrerelease());
+    }
+}
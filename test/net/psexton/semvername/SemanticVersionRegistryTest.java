@@ -0,0 +1,169 @@
+/*
+ * SemanticVersionRegistryTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 2:31:10 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author PSexton
+ */
+public class SemanticVersionRegistryTest {
+
+    /**
+     * Queries agree with SemanticVersionIndex
+     */
+    @Test
+    public void matchesIndex() {
+        Random random = new Random(13);
+        String[] names = {"foo", "bar"};
+        SemanticVersionRegistry registry = new SemanticVersionRegistry();
+        SemanticVersionIndex index = new SemanticVersionIndex();
+        for(int i = 0; i < 300; i++) {
+            SemanticVersionName semvername = SemanticVersionName.of(names[random.nextInt(2)],
+                    random.nextInt(4), random.nextInt(4), random.nextInt(3), random.nextBoolean() ? "" : "rc" + random.nextInt(3));
+            if(random.nextInt(4) == 0)
+                assertEquals(index.remove(semvername), registry.remove(semvername));
+            else
+                assertEquals(index.add(semvername), registry.publish(semvername));
+        }
+        assertEquals(index.size(), registry.size());
+        for(String name : names) {
+            assertEquals(index.versions(name), registry.snapshot(name));
+            assertEquals(index.latest(name), registry.latest(name));
+            for(int major = 0; major < 4; major++) {
+                for(int minor = 0; minor < 4; minor++) {
+                    SemanticVersionName pinned = SemanticVersionName.of(name, major, minor, 1);
+                    assertEquals(index.latestCompatible(pinned), registry.latestCompatible(pinned));
+                }
+            }
+        }
+    }
+
+    /**
+     * Iteration sees the registry as it was when iterator() was called
+     */
+    @Test
+    public void iteratorSnapshot() {
+        SemanticVersionRegistry registry = new SemanticVersionRegistry();
+        registry.publish(SemanticVersionName.valueOf("foo-1.0.0"));
+        registry.publish(SemanticVersionName.valueOf("bar-1.0.0"));
+        Iterator<SemanticVersionName> iterator = registry.iterator();
+        registry.publish(SemanticVersionName.valueOf("foo-1.1.0"));
+        registry.publish(SemanticVersionName.valueOf("bar-1.1.0"));
+        registry.publish(SemanticVersionName.valueOf("baz-1.0.0"));
+        registry.remove(SemanticVersionName.valueOf("bar-1.0.0"));
+        Set<SemanticVersionName> seen = new HashSet<>();
+        while(iterator.hasNext())
+            seen.add(iterator.next());
+        assertEquals(new HashSet<>(Arrays.asList(SemanticVersionName.valueOf("foo-1.0.0"),
+                SemanticVersionName.valueOf("bar-1.0.0"))), seen);
+    }
+
+    /**
+     * Only increasing versions are accepted by publishIfNewer
+     */
+    @Test
+    public void publishIfNewer() {
+        SemanticVersionRegistry registry = new SemanticVersionRegistry();
+        assertTrue(registry.publishIfNewer(SemanticVersionName.valueOf("foo-1.0.0")));
+        assertFalse(registry.publishIfNewer(SemanticVersionName.valueOf("foo-1.0.0")));
+        assertFalse(registry.publishIfNewer(SemanticVersionName.valueOf("foo-1.0.0-rc1")));
+        assertTrue(registry.publishIfNewer(SemanticVersionName.valueOf("foo-1.0.1")));
+        assertTrue(registry.publishIfNewer(SemanticVersionName.valueOf("bar-0.1.0")));
+        assertEquals(SemanticVersionName.valueOf("foo-1.0.1"), registry.latest("foo"));
+        assertNull(registry.latest("baz"));
+    }
+
+    /**
+     * Racing publishers and readers: every publish is seen exactly once, a
+     * reader never sees a name's latest go backwards, and publishIfNewer
+     * only ever extends the sequence
+     */
+    @Test
+    public void concurrentPublish() throws InterruptedException {
+        final SemanticVersionRegistry registry = new SemanticVersionRegistry();
+        final int threads = 4;
+        final int perThread = 500;
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger accepted = new AtomicInteger();
+        final List<Throwable> failures = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+        for(int t = 0; t < threads; t++) {
+            final int id = t;
+            workers.add(new Thread(() -> {
+                try {
+                    start.await();
+                    for(int i = 0; i < perThread; i++) {
+                        registry.publish(SemanticVersionName.of("shared", 1, i, id));
+                        if(registry.publishIfNewer(SemanticVersionName.of("latest", 1, i, id)))
+                            accepted.incrementAndGet();
+                    }
+                }
+                catch(Throwable e) {
+                    synchronized(failures) {
+                        failures.add(e);
+                    }
+                }
+            }));
+            workers.add(new Thread(() -> {
+                try {
+                    start.await();
+                    SemanticVersionName previous = null;
+                    for(int i = 0; i < perThread; i++) {
+                        SemanticVersionName latest = registry.latest("latest");
+                        assertTrue(previous == null || latest.compareTo(previous) >= 0);
+                        previous = latest;
+                        List<SemanticVersionName> snapshot = registry.snapshot("shared");
+                        SemanticVersionName[] sorted = snapshot.toArray(new SemanticVersionName[0]);
+                        Arrays.sort(sorted);
+                        assertEquals(Arrays.asList(sorted), snapshot);
+                    }
+                }
+                catch(Throwable e) {
+                    synchronized(failures) {
+                        failures.add(e);
+                    }
+                }
+            }));
+        }
+        for(Thread worker : workers)
+            worker.start();
+        start.countDown();
+        for(Thread worker : workers)
+            worker.join();
+        
+        assertEquals(new ArrayList<Throwable>(), failures);
+        assertEquals(threads * perThread, registry.snapshot("shared").size());
+        assertEquals(accepted.get(), registry.snapshot("latest").size());
+        int count = 0;
+        for(SemanticVersionName semvername : registry)
+            count++;
+        assertEquals(registry.size(), count);
+    }
+}
@@ -196,4 +196,98 @@ public class SemanticVersionTest {
         assertEquals(version1a.hashCode(), version1a.hashCode());
         assertFalse(version1a.hashCode() == version2.hashCode());
     }
+    
+    /**
+     * Valid of, matches the boxed constructor
+     */
+    @Test
+    public void validOf() {
+        SemanticVersion semver = SemanticVersion.of(1000, 2000, 3000, "rc1");
+        assertEquals(new SemanticVersion(1000, 2000, 3000, "rc1"), semver);
+        assertEquals(1000, semver.major());
+        assertEquals(2000, semver.minor());
+        assertEquals(3000, semver.patch());
+        assertEquals(Integer.valueOf(1000), semver.getMajor());
+        assertEquals(SemanticVersion.of(1, 2, 3), new SemanticVersion(1, 2, 3));
+    }
+    
+    /**
+     * Invalid of, negative minor
+     */
+    @Test
+    public void invalidOfNegativeMinor() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion semver = SemanticVersion.of(1, -2, 3);
+    }
+    
+    /**
+     * Invalid of, null prerelease
+     */
+    @Test
+    public void invalidOfNullPrerelease() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion semver = SemanticVersion.of(1, 2, 3, null);
+    }
+    
+    /**
+     * Setters keep the other fields
+     */
+    @Test
+    public void settersKeepOtherFields() {
+        SemanticVersion orig = SemanticVersion.valueOf("1.2.3-rc1");
+        assertEquals(SemanticVersion.valueOf("4.2.3-rc1"), orig.setMajor(4));
+        assertEquals(SemanticVersion.valueOf("1.5.3-rc1"), orig.withMinor(5));
+        assertEquals(SemanticVersion.valueOf("1.2.6-rc1"), orig.withPatch(6));
+        assertEquals(SemanticVersion.valueOf("1.2.3"), orig.setPrerelease(""));
+    }
+    
+    /**
+     * Invalid setter, negative patch
+     */
+    @Test
+    public void invalidSetNegativePatch() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion semver = new SemanticVersion().withPatch(-1);
+    }
+    
+    /**
+     * Invalid setter, null major
+     */
+    @Test
+    public void invalidSetNullMajor() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion semver = new SemanticVersion().setMajor(null);
+    }
+    
+    /**
+     * Invalid setter, illegal prerelease
+     */
+    @Test
+    public void invalidSetIllegalPrerelease() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion semver = new SemanticVersion().setPrerelease("rc.1");
+    }
+    
+    /**
+     * Builder can be reused, each build() gives a new version
+     */
+    @Test
+    public void builderReuse() {
+        SemanticVersion.Builder builder = SemanticVersion.valueOf("1.2.0-rc1").toBuilder();
+        assertEquals(SemanticVersion.valueOf("1.2.0-rc1"), builder.build());
+        builder.prerelease("");
+        for(int patch = 0; patch < 300; patch++)
+            assertEquals(SemanticVersion.of(1, 2, patch), builder.patch(patch).build());
+        assertEquals(new SemanticVersion(), builder.clear().build());
+    }
+    
+    /**
+     * Invalid builder, checked at build()
+     */
+    @Test
+    public void invalidBuilderPrerelease() {
+        SemanticVersion.Builder builder = new SemanticVersion.Builder().prerelease("a b");
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion semver = builder.build();
+    }
 }
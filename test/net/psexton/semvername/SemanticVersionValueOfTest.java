@@ -209,4 +209,41 @@ public class SemanticVersionValueOfTest {
         exception.expect(IllegalArgumentException.class);
         SemanticVersion semver = SemanticVersion.valueOf("1.2..3");
     }
+    
+    /**
+     * Valid, leading zeros are accepted and dropped
+     */
+    @Test
+    public void validLeadingZeros() {
+        SemanticVersion semver = SemanticVersion.valueOf("01.002.0003");
+        assertEquals("1.2.3", semver.toString());
+    }
+    
+    /**
+     * Valid, largest int in each part
+     */
+    @Test
+    public void validMaxInt() {
+        SemanticVersion semver = SemanticVersion.valueOf("2147483647.2147483647.2147483647");
+        assertEquals(Integer.MAX_VALUE, semver.getMajor().intValue());
+        assertEquals(Integer.MAX_VALUE, semver.getPatch().intValue());
+    }
+    
+    /**
+     * Invalid, major overflows an int
+     */
+    @Test
+    public void invalidOverflow() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion semver = SemanticVersion.valueOf("2147483648.0.0");
+    }
+    
+    /**
+     * Invalid, period in prerelease
+     */
+    @Test
+    public void invalidPeriodInPrerelease() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion semver = SemanticVersion.valueOf("1.2.3-rc.1");
+    }
 }
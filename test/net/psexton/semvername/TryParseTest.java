@@ -0,0 +1,121 @@
+/*
+ * TryParseTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 1:51:17 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class TryParseTest {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    /**
+     * Valid semver
+     */
+    @Test
+    public void validSemver() {
+        ParseResult<SemanticVersion> result = SemanticVersion.tryParse("1.2.3-beta1");
+        assertTrue(result.isValid());
+        assertEquals(SemanticVersion.valueOf("1.2.3-beta1"), result.getValue());
+        assertNull(result.getError());
+        assertEquals(-1, result.getErrorIndex());
+        assertTrue(result.toOptional().isPresent());
+    }
+
+    /**
+     * Valid semvername
+     */
+    @Test
+    public void validSemvername() {
+        ParseResult<SemanticVersionName> result = SemanticVersionName.tryParse("core-lib-2.4.1");
+        assertTrue(result.isValid());
+        assertEquals(new SemanticVersionName("core-lib", 2, 4, 1), result.orElseThrow());
+    }
+
+    @Test
+    public void semverErrors() {
+        assertError(SemanticVersion.tryParse(null), ParseError.EMPTY, 0);
+        assertError(SemanticVersion.tryParse(""), ParseError.EMPTY, 0);
+        assertError(SemanticVersion.tryParse("1"), ParseError.EXPECTED_PERIOD, 1);
+        assertError(SemanticVersion.tryParse("1.2"), ParseError.EXPECTED_PERIOD, 3);
+        assertError(SemanticVersion.tryParse(".2.3"), ParseError.EXPECTED_DIGIT, 0);
+        assertError(SemanticVersion.tryParse("1..3"), ParseError.EXPECTED_DIGIT, 2);
+        assertError(SemanticVersion.tryParse("1.2."), ParseError.EXPECTED_DIGIT, 4);
+        assertError(SemanticVersion.tryParse("1.2w.3"), ParseError.EXPECTED_PERIOD, 3);
+        assertError(SemanticVersion.tryParse("1.2.3.4"), ParseError.EXPECTED_HYPHEN, 5);
+        assertError(SemanticVersion.tryParse("1.2.3-"), ParseError.EMPTY_PRERELEASE, 6);
+        assertError(SemanticVersion.tryParse("1.2.3-rc.1"), ParseError.INVALID_PRERELEASE_CHAR, 8);
+        assertError(SemanticVersion.tryParse("1.21474836470.3"), ParseError.NUMBER_TOO_LARGE, 12);
+    }
+
+    @Test
+    public void semvernameErrors() {
+        assertError(SemanticVersionName.tryParse(""), ParseError.EMPTY, 0);
+        assertError(SemanticVersionName.tryParse("product.subproduct-1.2.3"), ParseError.EXPECTED_DIGIT, 7);
+        assertError(SemanticVersionName.tryParse("foo@bar-1.2.3"), ParseError.INVALID_NAME_CHAR, 3);
+        assertError(SemanticVersionName.tryParse("foo-bar"), ParseError.MISSING_VERSION, 7);
+        assertError(SemanticVersionName.tryParse("-1.2.3"), ParseError.EMPTY_NAME, 0);
+        assertError(SemanticVersionName.tryParse("foo1.2.3"), ParseError.EXPECTED_HYPHEN, 3);
+        assertError(SemanticVersionName.tryParse("1.2.3"), ParseError.EMPTY_NAME, 0);
+        assertError(SemanticVersionName.tryParse("foo-.2.3"), ParseError.EXPECTED_DIGIT, 4);
+        assertError(SemanticVersionName.tryParse("foo-1.2.3-@"), ParseError.INVALID_PRERELEASE_CHAR, 10);
+    }
+
+    /**
+     * valueOf rejects everything tryParse rejects
+     */
+    @Test
+    public void agreesWithValueOf() {
+        String[] inputs = {"1.2.3", "1.2.3-", "01.2.3-a-b", "a-1.2.3", "1.2.3 ", "2147483648.0.0"};
+        for(String input : inputs) {
+            ParseResult<SemanticVersion> result = SemanticVersion.tryParse(input);
+            try {
+                assertEquals(SemanticVersion.valueOf(input), result.getValue());
+                assertTrue(result.isValid());
+            }
+            catch(IllegalArgumentException e) {
+                assertFalse(result.isValid());
+            }
+        }
+    }
+
+    /**
+     * orElseThrow on a failure
+     */
+    @Test
+    public void invalidOrElseThrow() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("at index 3");
+        SemanticVersion.tryParse("1.2").orElseThrow();
+    }
+
+    private static void assertError(ParseResult<?> result, ParseError error, int index) {
+        assertFalse(result.isValid());
+        assertNull(result.getValue());
+        assertFalse(result.toOptional().isPresent());
+        assertEquals(error, result.getError());
+        assertEquals(index, result.getErrorIndex());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * ValueOfOverloadsTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 2:47:31 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class ValueOfOverloadsTest {
+
+    private static final String[] INPUTS = {"core-lib-2.4.1", "a-1.2.3-rc1", "a_b--0.0.0-x-y", "x-1-2.3.4",
+        "1.2.3", "1.2.3-beta1", "1.2", "1.2.3-", "foo-1.2.3.jar", "product.subproduct-1.2.3", "caf\u00e9-1.2.3", "-1.2.3"};
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    /**
+     * Every overload parses (or rejects) exactly what valueOf(String) does
+     */
+    @Test
+    public void overloadsAgree() {
+        for(String input : INPUTS) {
+            String padded = "<<" + input + ">>";
+            int start = 2;
+            int end = 2 + input.length();
+            char[] chars = padded.toCharArray();
+            byte[] bytes = padded.getBytes(StandardCharsets.UTF_8);
+            int byteEnd = bytes.length - 2;
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes);
+            direct.position(1);
+
+            ParseResult<SemanticVersion> semver = SemanticVersion.tryParse(input);
+            assertEquals(semver.getValue(), SemanticVersion.tryParse(padded, start, end).getValue());
+            assertEquals(semver.getValue(), SemanticVersion.tryParse(chars, start, input.length()).getValue());
+            assertEquals(semver.getValue(), SemanticVersion.tryParse(bytes, start, byteEnd - start).getValue());
+            assertEquals(semver.getValue(), SemanticVersion.tryParse(direct, start, byteEnd - start).getValue());
+
+            ParseResult<SemanticVersionName> name = SemanticVersionName.tryParse(input);
+            assertEquals(name.getValue(), SemanticVersionName.tryParse(padded, start, end).getValue());
+            assertEquals(name.getValue(), SemanticVersionName.tryParse(chars, start, input.length()).getValue());
+            assertEquals(name.getValue(), SemanticVersionName.tryParse(bytes, start, byteEnd - start).getValue());
+            assertEquals(name.getValue(), SemanticVersionName.tryParse(direct, start, byteEnd - start).getValue());
+            assertEquals(1, direct.position());
+        }
+    }
+
+    /**
+     * valueOf overloads
+     */
+    @Test
+    public void validValueOf() {
+        SemanticVersionName expected = SemanticVersionName.valueOf("core-lib-2.4.1-rc1");
+        assertEquals(expected, SemanticVersionName.valueOf(new StringBuilder("core-lib-2.4.1-rc1")));
+        assertEquals(expected, SemanticVersionName.valueOf(CharBuffer.wrap("core-lib-2.4.1-rc1")));
+        assertEquals(expected, SemanticVersionName.valueOf(" core-lib-2.4.1-rc1 ".toCharArray(), 1, 18));
+        assertEquals(expected, SemanticVersionName.valueOf(ByteBuffer.wrap("core-lib-2.4.1-rc1".getBytes(StandardCharsets.US_ASCII)), 0, 18));
+        assertEquals(expected.getSemver(), SemanticVersion.valueOf("v2.4.1-rc1".getBytes(StandardCharsets.US_ASCII), 1, 9));
+    }
+
+    /**
+     * Error offsets are indexes into the whole buffer
+     */
+    @Test
+    public void errorIndexIsAbsolute() {
+        byte[] bytes = "xxfoo-1.2.3-@".getBytes(StandardCharsets.US_ASCII);
+        ParseResult<SemanticVersionName> result = SemanticVersionName.tryParse(bytes, 2, bytes.length - 2);
+        assertEquals(ParseError.INVALID_PRERELEASE_CHAR, result.getError());
+        assertEquals(12, result.getErrorIndex());
+    }
+
+    /**
+     * Invalid, empty range
+     */
+    @Test
+    public void invalidEmptyRange() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion.valueOf("1.2.3".toCharArray(), 2, 0);
+    }
+
+    /**
+     * Invalid, null bytes
+     */
+    @Test
+    public void invalidNullBytes() {
+        exception.expect(IllegalArgumentException.class);
+        SemanticVersion.valueOf((byte[]) null, 0, 0);
+    }
+
+    /**
+     * Invalid, range past the end
+     */
+    @Test
+    public void invalidRange() {
+        exception.expect(IndexOutOfBoundsException.class);
+        SemanticVersion.valueOf("1.2.3", 0, 6);
+    }
+}
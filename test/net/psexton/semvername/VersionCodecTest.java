@@ -0,0 +1,222 @@
+/*
+ * VersionCodecTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 10:02:30 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class VersionCodecTest {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    // Numbers taking from one to five varint bytes: half the majors below
+    // 10, the rest anywhere up to Integer.MAX_VALUE
+    private static final RandomNames RANDOM_NAMES = new RandomNames("foo", "bar", "com-example-platform-core")
+            .prereleases("", "", "alpha", "rc1").bounds(Integer.MAX_VALUE, 200, 20000).smallMajors(10);
+
+    private static byte[] encode(List<SemanticVersionName> semvernames, boolean useDictionary) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(VersionWriter writer = new VersionWriter(new DataOutputStream(bytes), useDictionary)) {
+            writer.writeNames(semvernames);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static VersionReader reader(byte[] bytes) {
+        return new VersionReader(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * Round trip, with and without dictionary references
+     */
+    @Test
+    public void roundTrip() throws IOException {
+        List<SemanticVersionName> semvernames = RANDOM_NAMES.list(new Random(20), 500);
+        byte[] withDictionary = encode(semvernames, true);
+        byte[] withoutDictionary = encode(semvernames, false);
+        assertTrue(withDictionary.length < withoutDictionary.length);
+        assertEquals(semvernames, reader(withDictionary).readNames());
+        assertEquals(semvernames, reader(withoutDictionary).readNames());
+        // Repeated names decode to one String
+        List<SemanticVersionName> decoded = reader(withDictionary).readNames();
+        for(SemanticVersionName semvername : decoded) {
+            if(semvername.getName().equals(decoded.get(0).getName()))
+                assertSame(decoded.get(0).getName(), semvername.getName());
+        }
+    }
+
+    /**
+     * Small versions take one byte per number
+     */
+    @Test
+    public void compact() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        VersionWriter writer = new VersionWriter(new DataOutputStream(bytes));
+        writer.write(SemanticVersion.valueOf("1.2.3"));
+        writer.flush();
+        assertEquals(4, bytes.size());
+        writer.write(SemanticVersionName.valueOf("foo-1.2.3-rc1"));
+        writer.write(SemanticVersionName.valueOf("foo-1.2.4"));
+        writer.flush();
+        assertEquals(4 + (1 + 3 + 4 + 3) + (1 + 4), bytes.size());
+    }
+
+    /**
+     * Round trip through channels
+     */
+    @Test
+    public void channels() throws IOException {
+        List<SemanticVersionName> semvernames = RANDOM_NAMES.list(new Random(21), 100);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(VersionWriter writer = new VersionWriter(Channels.newChannel(bytes))) {
+            for(SemanticVersionName semvername : semvernames)
+                writer.write(semvername);
+        }
+        try(VersionReader reader = new VersionReader(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())))) {
+            for(SemanticVersionName semvername : semvernames)
+                assertEquals(semvername, reader.readName());
+            exception.expect(EOFException.class);
+            reader.readName();
+        }
+    }
+
+    /**
+     * Reading straight from a ByteBuffer advances its position
+     */
+    @Test
+    public void byteBuffer() throws IOException {
+        List<SemanticVersionName> semvernames = RANDOM_NAMES.list(new Random(22), 100);
+        ByteBuffer buffer = ByteBuffer.wrap(encode(semvernames, true));
+        VersionReader reader = new VersionReader(buffer);
+        assertEquals(semvernames, reader.readNames());
+        assertFalse(buffer.hasRemaining());
+        exception.expect(EOFException.class);
+        reader.readName();
+    }
+
+    /**
+     * Serialization uses the compact form
+     */
+    @Test
+    public void serialization() throws IOException, ClassNotFoundException {
+        SemanticVersionName semvername = SemanticVersionName.valueOf("foo-1.2.3-rc1");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(semvername);
+            out.writeObject(semvername.getSemver());
+        }
+        try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(semvername, in.readObject());
+            assertEquals(semvername.getSemver(), in.readObject());
+        }
+        assertTrue(bytes.size() < 150);
+    }
+
+    /**
+     * Invalid, prerelease with a bad character
+     */
+    @Test
+    public void invalidPrerelease() throws IOException {
+        exception.expect(IOException.class);
+        reader(new byte[]{1, 2, 3, 2, 'a', '.'}).readVersion();
+    }
+
+    /**
+     * Invalid, reference to a name that was never written
+     */
+    @Test
+    public void invalidReference() throws IOException {
+        exception.expect(IOException.class);
+        reader(new byte[]{3, 1, 2, 3, 0}).readName();
+    }
+
+    /**
+     * Invalid, number larger than an int
+     */
+    @Test
+    public void invalidVarint() throws IOException {
+        exception.expect(IOException.class);
+        reader(new byte[]{(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x0f, 0, 0, 0}).readVersion();
+    }
+
+    /**
+     * Invalid, prerelease length past the limit
+     */
+    @Test
+    public void invalidLength() throws IOException {
+        exception.expect(IOException.class);
+        reader(new byte[]{1, 2, 3, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07, 'a'}).readVersion();
+    }
+
+    /**
+     * Invalid, prerelease length past the end of a buffer
+     */
+    @Test
+    public void truncatedLength() throws IOException {
+        exception.expect(EOFException.class);
+        new VersionReader(ByteBuffer.wrap(new byte[]{1, 2, 3, (byte) 0xff, (byte) 0xff, 0x03, 'a'})).readVersion();
+    }
+
+    /**
+     * Invalid, deserializing a name length past the limit fails with an
+     * IOException rather than allocating it
+     */
+    @Test
+    public void invalidSerializedLength() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.write(new byte[]{2, (byte) 0xfe, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07, 'a'});
+        }
+        try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            exception.expect(IOException.class);
+            new ExternalForm().readExternal(in);
+        }
+    }
+
+    /**
+     * Invalid, writing a name the reader would reject
+     */
+    @Test
+    public void nameTooLong() throws IOException {
+        char[] name = new char[VersionReader.MAX_LENGTH + 1];
+        Arrays.fill(name, 'a');
+        VersionWriter writer = new VersionWriter(new DataOutputStream(new ByteArrayOutputStream()));
+        exception.expect(IOException.class);
+        writer.write(SemanticVersionName.of(new String(name), 1, 2, 3));
+    }
+}
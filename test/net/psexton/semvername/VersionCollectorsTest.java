@@ -0,0 +1,125 @@
+/*
+ * VersionCollectorsTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 6:58:47 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class VersionCollectorsTest {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    private static final RandomNames RANDOM_NAMES = RandomNames.numbered("lib", 50)
+            .prereleases("", "", "alpha", "rc1").bounds(4, 10, 10);
+
+    private static Map<String, SortedMap<Integer, SemanticVersionName>> expectedLatestPerMajor(List<SemanticVersionName> semvernames) {
+        BinaryOperator<SemanticVersionName> max = BinaryOperator.maxBy(SemanticVersionName::compareTo);
+        Map<String, SortedMap<Integer, SemanticVersionName>> expected = new TreeMap<>();
+        for(SemanticVersionName semvername : semvernames) {
+            expected.computeIfAbsent(semvername.getName(), name -> new TreeMap<>())
+                    .merge(semvername.getSemver().major(), semvername, max);
+        }
+        return expected;
+    }
+
+    /**
+     * Latest per name matches groupingBy + maxBy, sequential and parallel
+     */
+    @Test
+    public void latestPerName() {
+        List<SemanticVersionName> semvernames = RANDOM_NAMES.list(new Random(24), 20000);
+        Map<String, SemanticVersionName> expected = semvernames.stream().collect(Collectors.toMap(
+                SemanticVersionName::getName, semvername -> semvername, BinaryOperator.maxBy(SemanticVersionName::compareTo)));
+        assertEquals(expected, semvernames.stream().collect(VersionCollectors.latestPerName()));
+        assertEquals(expected, semvernames.parallelStream().collect(VersionCollectors.latestPerName()));
+    }
+
+    /**
+     * Latest and counts per line, sequential and parallel
+     */
+    @Test
+    public void perLine() {
+        List<SemanticVersionName> semvernames = RANDOM_NAMES.list(new Random(25), 20000);
+        Map<String, SortedMap<Integer, SemanticVersionName>> expected = expectedLatestPerMajor(semvernames);
+        assertEquals(expected, semvernames.stream().collect(VersionCollectors.latestPerMajor()));
+        assertEquals(expected, semvernames.parallelStream().collect(VersionCollectors.latestPerMajor()));
+        Map<String, SortedMap<Integer, Long>> counts = semvernames.parallelStream().collect(VersionCollectors.countsPerLine());
+        for(SortedMap<Integer, Long> perMajor : counts.values()) {
+            for(Long count : perMajor.values())
+                assertTrue(count > 0);
+        }
+        long lib7Major2 = semvernames.stream()
+                .filter(semvername -> semvername.getName().equals("lib7") && semvername.getSemver().major() == 2).count();
+        assertEquals(Long.valueOf(lib7Major2), counts.get("lib7").get(2));
+    }
+
+    /**
+     * The Spliterator summaries agree with the collector
+     */
+    @Test
+    public void summarize() {
+        List<SemanticVersionName> semvernames = RANDOM_NAMES.list(new Random(26), 50000);
+        VersionLines sequential = VersionCollectors.summarize(semvernames.spliterator());
+        VersionLines parallel = VersionCollectors.parallelSummarize(semvernames.spliterator());
+        VersionLines collected = semvernames.parallelStream().collect(VersionCollectors.toVersionLines());
+        for(VersionLines lines : new VersionLines[] {sequential, parallel, collected}) {
+            assertEquals(semvernames.size(), lines.total());
+            assertEquals(expectedLatestPerMajor(semvernames), lines.latestPerMajor());
+            assertEquals(sequential.size(), lines.size());
+            for(int line = 0; line < lines.size(); line++)
+                assertEquals(lines.latest(line), sequential.latest(lines.name(line), lines.major(line)));
+        }
+        assertNull(parallel.latest("lib7", 9));
+        assertEquals(0, parallel.count("nope", 0));
+    }
+
+    /**
+     * Empty input gives empty results
+     */
+    @Test
+    public void empty() {
+        List<SemanticVersionName> none = Collections.emptyList();
+        assertTrue(none.stream().collect(VersionCollectors.latestPerName()).isEmpty());
+        assertEquals(0, VersionCollectors.parallelSummarize(none.spliterator()).size());
+    }
+
+    /**
+     * Invalid, line out of range
+     */
+    @Test
+    public void invalidLine() {
+        VersionLines lines = VersionCollectors.summarize(RANDOM_NAMES.list(new Random(27), 10).spliterator());
+        exception.expect(IndexOutOfBoundsException.class);
+        lines.latest(lines.size());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * VersionExtractorTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 8:26:54 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class VersionExtractorTest {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    // What the extractor finds, for text without suffixes or huge numbers
+    private static final Pattern REFERENCE = Pattern.compile(
+            "(?<![\\w-])[\\w-]+-\\d+\\.\\d+\\.\\d+(?:-[a-zA-Z0-9-]++)?+(?![\\w-])");
+
+    private static final String[] FRAGMENTS = {"foo", "bar_baz", "-", "--", ".", "..", "1", "23", "0", " ", "/",
+        "_", "rc1", "SNAPSHOT", ".jar", ".tar.gz", "-sources", "lib-1.2.3", "-4.5.6", "x-7.8", "=", "\n"};
+
+    private static String randomText(Random random, int fragments) {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < fragments; i++)
+            sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        return sb.toString();
+    }
+
+    private static List<String> spans(VersionExtractor extractor, CharSequence text) {
+        List<String> spans = new ArrayList<>();
+        extractor.extract(text, (chars, start, end, offset) -> spans.add(start + ":" + chars.subSequence(start, end)));
+        return spans;
+    }
+
+    /**
+     * Names in artifact file names, URLs, and log lines
+     */
+    @Test
+    public void findsEmbeddedNames() {
+        VersionExtractor extractor = new VersionExtractor();
+        assertEquals(Arrays.asList(SemanticVersionName.valueOf("billing-service-3.12.0-rc2")),
+                extractor.findAll("billing-service-3.12.0-rc2.jar"));
+        assertEquals(Arrays.asList(SemanticVersionName.valueOf("core-lib-2.0.1")),
+                extractor.findAll("https://repo.example.com/com/example/core-lib/2.0.1/core-lib-2.0.1.tar.gz"));
+        assertEquals(Arrays.asList("9:foo_bar-1.2.3", "26:foo_bar-1.3.0-SNAPSHOT"),
+                spans(extractor, "upgraded foo_bar-1.2.3 to foo_bar-1.3.0-SNAPSHOT, skipped v1.2.3 and x-1.2"));
+    }
+
+    /**
+     * Candidates that run into other name chars are not matches
+     */
+    @Test
+    public void rejectsPartialMatches() {
+        VersionExtractor extractor = new VersionExtractor();
+        assertTrue(extractor.findAll("foo-1.2.3x foo-1.2.3-rc1_x foo-1.2.3- -1.2.3 foo-99999999999.0.0").isEmpty());
+        assertEquals(Arrays.asList("12:foo-1.2.3"), spans(extractor, "foo-1.2.3-_/foo-1.2.3"));
+    }
+
+    /**
+     * Suffixes come off the end of a match
+     */
+    @Test
+    public void stripsSuffixes() {
+        VersionExtractor extractor = new VersionExtractor("-sources", "-bin", "-my_classifier");
+        assertEquals(Arrays.asList("0:lib-1.0.0", "22:app-2.0.0", "43:lib-1.0.0-rc1", "75:lib-1.0.0-binary"),
+                spans(extractor, "lib-1.0.0-sources.jar app-2.0.0-bin.tar.gz lib-1.0.0-rc1-my_classifier.jar lib-1.0.0-binary.zip"));
+        assertEquals(Arrays.asList("0:lib-1.0.0-sources"), spans(new VersionExtractor(), "lib-1.0.0-sources.jar"));
+    }
+
+    /**
+     * Matches agree with a regex doing the same thing the slow way
+     */
+    @Test
+    public void matchesReference() {
+        Random random = new Random(25);
+        VersionExtractor extractor = new VersionExtractor();
+        for(int trial = 0; trial < 2000; trial++) {
+            String text = randomText(random, 30);
+            List<String> expected = new ArrayList<>();
+            Matcher matcher = REFERENCE.matcher(text);
+            while(matcher.find())
+                expected.add(matcher.start() + ":" + matcher.group());
+            assertEquals(text, expected, spans(extractor, text));
+        }
+    }
+
+    /**
+     * Readers, read through a tiny window, and ByteBuffers give the same
+     * matches and offsets as CharSequences
+     */
+    @Test
+    public void readerAndBufferAgree() throws IOException {
+        Random random = new Random(26);
+        VersionExtractor extractor = new VersionExtractor("-sources");
+        for(int trial = 0; trial < 500; trial++) {
+            String text = randomText(random, 60);
+            List<String> expected = spans(extractor, text);
+            List<String> fromReader = new ArrayList<>();
+            extractor.extract(new StringReader(text), (chars, start, end, offset) ->
+                    fromReader.add((offset + start) + ":" + chars.subSequence(start, end)), 4);
+            assertEquals(text, expected, fromReader);
+            ByteBuffer buffer = ByteBuffer.wrap(("##" + text).getBytes(StandardCharsets.US_ASCII));
+            buffer.position(2);
+            List<String> fromBuffer = new ArrayList<>();
+            extractor.extract(buffer, (chars, start, end, offset) ->
+                    fromBuffer.add((start - 2) + ":" + chars.subSequence(start, end)));
+            assertEquals(text, expected, fromBuffer);
+            for(String span : expected)
+                SemanticVersionName.valueOf(span.substring(span.indexOf(':') + 1));
+        }
+    }
+
+    /**
+     * Invalid, suffix that isn't a hyphenated classifier
+     */
+    @Test
+    public void invalidSuffix() {
+        exception.expect(IllegalArgumentException.class);
+        new VersionExtractor(".jar");
+    }
+}
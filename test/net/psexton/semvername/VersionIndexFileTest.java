@@ -0,0 +1,165 @@
+/*
+ * VersionIndexFileTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 8:40:52 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author PSexton
+ */
+public class VersionIndexFileTest {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private static final RandomNames RANDOM_NAMES = new RandomNames("foo", "bar", "foo-bar", "zed");
+
+    /**
+     * A mapped file answers the same as the store it was written from
+     */
+    @Test
+    public void roundTrip() throws IOException {
+        Random random = new Random(19);
+        List<SemanticVersionName> semvernames = RANDOM_NAMES.list(random, 2000);
+        OffHeapVersionStore expected = OffHeapVersionStore.load(semvernames);
+        Path file = folder.newFile().toPath();
+        VersionIndexFile.write(file, semvernames.stream());
+        OffHeapVersionStore actual = VersionIndexFile.open(file, true);
+        assertEquals(expected.size(), actual.size());
+        for(long i = 0; i < expected.size(); i++)
+            assertEquals(expected.get(i), actual.get(i));
+        for(SemanticVersionName query : RANDOM_NAMES.list(random, 200)) {
+            assertEquals(expected.indexOf(query), actual.indexOf(query));
+            assertEquals(expected.latest(query.getName()), actual.latest(query.getName()));
+            assertEquals(expected.latestCompatible(query), actual.latestCompatible(query));
+        }
+    }
+
+    /**
+     * Merging a stream's sorted runs writes the same file as sorting it
+     * whole, with versions repeated across runs written once
+     */
+    @Test
+    public void streamRuns() throws IOException {
+        // Repeated versions, then names most runs don't have
+        Random random = new Random(24);
+        List<SemanticVersionName> semvernames = RANDOM_NAMES.list(random, 2000);
+        semvernames.addAll(RandomNames.numbered("lib", 500).prereleases("", "a", "b", "c", "d", "e").list(random, 1000));
+        Path whole = folder.newFile().toPath();
+        Path runs = folder.newFile().toPath();
+        VersionIndexFile.write(whole, semvernames);
+        VersionIndexFile.write(runs, semvernames.stream(), 128);
+        assertArrayEquals(Files.readAllBytes(whole), Files.readAllBytes(runs));
+        VersionIndexFile.write(runs, semvernames.stream(), 3000);
+        assertArrayEquals(Files.readAllBytes(whole), Files.readAllBytes(runs));
+    }
+
+    /**
+     * An empty index can be written and opened
+     */
+    @Test
+    public void empty() throws IOException {
+        Path file = folder.newFile().toPath();
+        VersionIndexFile.write(file, Stream.<SemanticVersionName>empty());
+        assertEquals(0, VersionIndexFile.open(file, true).size());
+    }
+
+    /**
+     * Rewriting a file leaves stores mapping the old one intact, and no
+     * temporary files behind
+     */
+    @Test
+    public void replaceWhileMapped() throws IOException {
+        Path file = folder.newFile().toPath();
+        List<SemanticVersionName> before = RANDOM_NAMES.list(new Random(22), 500);
+        VersionIndexFile.write(file, before);
+        OffHeapVersionStore old = VersionIndexFile.open(file);
+        OffHeapVersionStore expected = OffHeapVersionStore.load(before);
+        VersionIndexFile.write(file, RANDOM_NAMES.list(new Random(23), 5));
+        for(long i = 0; i < expected.size(); i++)
+            assertEquals(expected.get(i), old.get(i));
+        assertTrue(VersionIndexFile.open(file, true).size() <= 5);
+        try(Stream<Path> files = Files.list(folder.getRoot().toPath())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    /**
+     * Invalid, damaged dictionary is caught on open
+     */
+    @Test
+    public void invalidDictionaryChecksum() throws IOException {
+        Path file = folder.newFile().toPath();
+        VersionIndexFile.write(file, RANDOM_NAMES.list(new Random(20), 50));
+        corrupt(file, VersionIndexFile.HEADER_BYTES + 5);
+        exception.expect(IOException.class);
+        VersionIndexFile.open(file);
+    }
+
+    /**
+     * Invalid, damaged record is caught when records are verified
+     */
+    @Test
+    public void invalidRecordChecksum() throws IOException {
+        Path file = folder.newFile().toPath();
+        VersionIndexFile.write(file, RANDOM_NAMES.list(new Random(21), 50));
+        try(RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            corrupt(file, raf.length() - 3);
+        }
+        assertNotNull(VersionIndexFile.open(file));
+        exception.expect(IOException.class);
+        VersionIndexFile.open(file, true);
+    }
+
+    /**
+     * Invalid, not an index
+     */
+    @Test
+    public void invalidMagic() throws IOException {
+        Path file = folder.newFile().toPath();
+        try(RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.write(new byte[100]);
+        }
+        exception.expect(IOException.class);
+        VersionIndexFile.open(file);
+    }
+
+    private static void corrupt(Path file, long position) throws IOException {
+        try(RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(position);
+            int b = raf.read();
+            raf.seek(position);
+            raf.write(b ^ 0x40);
+        }
+    }
+}
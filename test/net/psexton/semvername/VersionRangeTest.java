@@ -0,0 +1,176 @@
+/*
+ * VersionRangeTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 3:44:05 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class VersionRangeTest {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    private static void assertMatches(String expression, String... versions) {
+        VersionRange range = VersionRange.valueOf(expression);
+        for(String version : versions)
+            assertTrue(expression + " should match " + version, range.matches(SemanticVersion.valueOf(version)));
+    }
+
+    private static void assertNotMatches(String expression, String... versions) {
+        VersionRange range = VersionRange.valueOf(expression);
+        for(String version : versions)
+            assertFalse(expression + " should not match " + version, range.matches(SemanticVersion.valueOf(version)));
+    }
+
+    /**
+     * Comparators, including an explicit upper bound admitting prereleases
+     */
+    @Test
+    public void comparators() {
+        assertMatches(">=1.2.0 <2.0.0", "1.2.0", "1.9.9", "2.0.0-rc1");
+        assertNotMatches(">=1.2.0 <2.0.0", "1.2.0-rc1", "1.1.9", "2.0.0");
+        assertMatches(">1.2", "1.3.0-alpha", "1.3.0");
+        assertNotMatches(">1.2", "1.2.99");
+        assertMatches("<=1.2", "1.2.99", "0.0.0");
+        assertNotMatches("<=1.2", "1.3.0-alpha");
+        assertMatches("=1.2.3-rc1", "1.2.3-rc1");
+        assertNotMatches("1.2.3", "1.2.3-rc1", "1.2.4");
+    }
+
+    /**
+     * Tilde, caret, wildcards, and hyphen ranges
+     */
+    @Test
+    public void shorthands() {
+        assertMatches("~1.4", "1.4.0", "1.4.9");
+        assertNotMatches("~1.4", "1.5.0-a", "1.3.9");
+        assertMatches("~1", "1.0.0", "1.99.0");
+        assertMatches("^2.1.3", "2.1.3", "2.9.0");
+        assertNotMatches("^2.1.3", "2.1.3-rc1", "3.0.0-rc1", "2.1.2");
+        assertMatches("^0.2.3", "0.2.9");
+        assertNotMatches("^0.2.3", "0.3.0");
+        assertMatches("^0.0.3", "0.0.3");
+        assertNotMatches("^0.0.3", "0.0.4");
+        assertMatches("1.x", "1.0.0-a", "1.99.99");
+        assertNotMatches("1.x", "2.0.0-a", "0.9.9");
+        assertMatches("1.2.X", "1.2.7");
+        assertMatches("*", "0.0.0", "99.0.0-z");
+        assertMatches("", "1.0.0");
+        assertMatches("1.2.3 - 2.3", "1.2.3", "2.3.9");
+        assertNotMatches("1.2.3 - 2.3", "2.4.0-a", "1.2.2");
+        assertMatches("1.2.3 - 2.3.4", "2.3.4");
+        assertNotMatches("1.2.3 - 2.3.4", "2.3.5");
+        assertMatches("1.x || >=3.0.0-rc1", "1.5.0", "3.0.0-rc2");
+        assertNotMatches("1.x || >=3.0.0-rc1", "2.5.0", "3.0.0-rc0");
+        assertMatches(">= 1.2.0  <  1.3 ||   v4.1.1", "1.2.5", "4.1.1");
+    }
+
+    /**
+     * Versions too large to pack are compared field by field
+     */
+    @Test
+    public void unpackable() {
+        assertMatches(">=1.0.0", "20261018.0.0");
+        assertNotMatches("<3000000.0.0", "20261018.0.0");
+        assertMatches("^3000000.1.0", "3000000.5.0");
+        SemanticVersion semver = SemanticVersion.valueOf("1.2.3");
+        assertFalse(VersionRange.valueOf(">1.3000000.0").matches(semver.toPackedKey(), ""));
+        assertTrue(VersionRange.valueOf("<1.3000000.0").matches(semver.toPackedKey(), ""));
+    }
+
+    /**
+     * Union and intersection
+     */
+    @Test
+    public void setOperations() {
+        VersionRange a = VersionRange.valueOf(">=1.0.0 <2.0.0");
+        VersionRange b = VersionRange.valueOf(">=1.5.0 <3.0.0");
+        assertEquals(VersionRange.valueOf(">=1.5.0 <2.0.0"), a.intersection(b));
+        assertEquals(VersionRange.valueOf(">=1.0.0 <3.0.0"), a.union(b));
+        assertEquals(VersionRange.valueOf("1.x"), VersionRange.valueOf("1.0.x || 1.1.x || >1.1 <=1"));
+        assertTrue(VersionRange.valueOf("1.x").intersection(VersionRange.valueOf("2.x")).isEmpty());
+        assertEquals(VersionRange.any(), VersionRange.valueOf("<1.0.0").union(VersionRange.valueOf(">=1.0.0")));
+        assertEquals(VersionRange.none(), VersionRange.valueOf(">*"));
+        assertEquals("[1.0.0, 2.0.0-*)", VersionRange.valueOf("^1").toString());
+    }
+
+    /**
+     * Compiled intervals agree with compareTo on random versions, and union
+     * and intersection agree with or and and
+     */
+    @Test
+    public void matchesBruteForce() {
+        Random random = new Random(14);
+        String[] prereleases = {"", "", "a", "rc1"};
+        List<SemanticVersion> versions = new ArrayList<>();
+        for(int i = 0; i < 300; i++)
+            versions.add(SemanticVersion.of(random.nextInt(3), random.nextInt(3), random.nextInt(3), prereleases[random.nextInt(prereleases.length)]));
+        for(int i = 0; i < 100; i++) {
+            SemanticVersion low = versions.get(random.nextInt(versions.size()));
+            SemanticVersion high = versions.get(random.nextInt(versions.size()));
+            VersionRange closed = VersionRange.valueOf(">=" + low + " <=" + high);
+            VersionRange open = VersionRange.valueOf(">" + low + " <" + high);
+            VersionRange compatible = VersionRange.valueOf("^" + low);
+            for(SemanticVersion semver : versions) {
+                assertEquals(semver.compareTo(low) >= 0 && semver.compareTo(high) <= 0, closed.matches(semver));
+                assertEquals(semver.compareTo(low) > 0 && semver.compareTo(high) < 0, open.matches(semver));
+                assertEquals(closed.matches(semver) || compatible.matches(semver), closed.union(compatible).matches(semver));
+                assertEquals(open.matches(semver) && compatible.matches(semver), open.intersection(compatible).matches(semver));
+                if(low.major() > 0 && low.getPrerelease().isEmpty())
+                    assertEquals(semver.cgt(low) && semver.compareTo(SemanticVersion.of(low.major() + 1, 0, 0, "")) < 0
+                            && !(semver.major() > low.major()), compatible.matches(semver));
+            }
+        }
+    }
+
+    /**
+     * Invalid, missing version after an operator
+     */
+    @Test
+    public void invalidMissingVersion() {
+        exception.expect(IllegalArgumentException.class);
+        VersionRange.valueOf(">= ");
+    }
+
+    /**
+     * Invalid, junk after a version
+     */
+    @Test
+    public void invalidTrailingCharacter() {
+        exception.expect(IllegalArgumentException.class);
+        VersionRange.valueOf("1.2.3+build");
+    }
+
+    /**
+     * Invalid, single pipe
+     */
+    @Test
+    public void invalidSinglePipe() {
+        exception.expect(IllegalArgumentException.class);
+        VersionRange.valueOf("1.2.3 | 2.0.0");
+    }
+}
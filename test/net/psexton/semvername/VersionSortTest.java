@@ -0,0 +1,104 @@
+/*
+ * VersionSortTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 5:49:12 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author PSexton
+ */
+public class VersionSortTest {
+
+    private static final String[] NAMES = {"foo", "foo-bar", "bar", "foo_bar", "a", "averyveryverylongname", "averyveryverylongnamf"};
+    private static final String[] PRERELEASES = {"", "", "", "alpha", "beta", "beta2", "rc1", "SNAPSHOT"};
+
+    private static SemanticVersion randomVersion(Random random, int bound) {
+        return SemanticVersion.of(random.nextInt(bound), random.nextInt(bound), random.nextInt(bound),
+                PRERELEASES[random.nextInt(PRERELEASES.length)]);
+    }
+
+    /**
+     * Same order, and the same instances for equal elements, as Arrays.sort
+     */
+    @Test
+    public void versionsMatchArraysSort() {
+        Random random = new Random(16);
+        for(int size : new int[]{0, 1, 63, 64, 1000, 50000}) {
+            SemanticVersion[] expected = new SemanticVersion[size];
+            for(int i = 0; i < size; i++) {
+                expected[i] = randomVersion(random, 4);
+                // Some very large numbers so the high radix passes are used
+                if(random.nextInt(8) == 0)
+                    expected[i] = expected[i].withMinor(random.nextInt(1 << 21));
+            }
+            SemanticVersion[] actual = expected.clone();
+            SemanticVersion[] parallel = expected.clone();
+            Arrays.sort(expected);
+            VersionSort.sort(actual);
+            VersionSort.parallelSort(parallel);
+            assertSameElements(expected, actual);
+            assertSameElements(expected, parallel);
+        }
+    }
+
+    /**
+     * Same order as Arrays.sort for names
+     */
+    @Test
+    public void namesMatchArraysSort() {
+        Random random = new Random(17);
+        for(int size : new int[]{10, 500, 60000}) {
+            SemanticVersionName[] expected = new SemanticVersionName[size];
+            for(int i = 0; i < size; i++)
+                expected[i] = new SemanticVersionName(NAMES[random.nextInt(NAMES.length)], randomVersion(random, 3));
+            SemanticVersionName[] actual = expected.clone();
+            SemanticVersionName[] parallel = expected.clone();
+            Arrays.sort(expected);
+            VersionSort.sort(actual);
+            VersionSort.parallelSort(parallel);
+            assertSameElements(expected, actual);
+            assertSameElements(expected, parallel);
+        }
+    }
+
+    /**
+     * Unpackable versions fall back to Arrays.sort; ranges leave the rest alone
+     */
+    @Test
+    public void unpackableAndRange() {
+        Random random = new Random(18);
+        SemanticVersion[] expected = new SemanticVersion[300];
+        for(int i = 0; i < expected.length; i++)
+            expected[i] = randomVersion(random, 5);
+        expected[7] = SemanticVersion.of(20261018, 0, 0);
+        SemanticVersion[] actual = expected.clone();
+        Arrays.sort(expected, 5, 250);
+        VersionSort.sort(actual, 5, 250);
+        assertSameElements(expected, actual);
+    }
+
+    private static void assertSameElements(Object[] expected, Object[] actual) {
+        assertEquals(expected.length, actual.length);
+        for(int i = 0; i < expected.length; i++)
+            assertSame("index " + i, expected[i], actual[i]);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * VersionTableTest.java, part of the semvername-java project
+ * Created on Oct 18, 2026, 6:58:40 PM
+ *
+ * semvername-java is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * semvername-java is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with semvername-java. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.psexton.semvername;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+
+/**
+ *
+ * @author PSexton
+ */
+public class VersionTableTest {
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    private static final RandomNames RANDOM_NAMES = new RandomNames("foo", "bar", "foo-bar", "baz_2").bounds(3, 3, 3);
+
+    /**
+     * Rows round trip, and compare like the semvernames they hold
+     */
+    @Test
+    public void rowsRoundTrip() {
+        List<SemanticVersionName> semvernames = RANDOM_NAMES.list(new Random(17), 500);
+        VersionTable table = new VersionTable(0);
+        for(SemanticVersionName semvername : semvernames)
+            table.add(semvername);
+        assertEquals(semvernames.size(), table.size());
+        for(int row = 0; row < table.size(); row++) {
+            assertEquals(semvernames.get(row), table.semvername(row));
+            assertEquals(semvernames.get(row).getSemver().getPrerelease(), table.prerelease(row));
+            assertEquals(semvernames.get(row).getName(), table.nameOf(table.nameId(row)));
+        }
+        for(int lhs = 0; lhs < 100; lhs++) {
+            for(int rhs = 0; rhs < 100; rhs++) {
+                assertEquals(Integer.signum(semvernames.get(lhs).compareTo(semvernames.get(rhs))),
+                        Integer.signum(table.compareRows(lhs, rhs)));
+            }
+        }
+    }
+
+    /**
+     * Scans agree with scanning the semvernames
+     */
+    @Test
+    public void scans() {
+        List<SemanticVersionName> semvernames = RANDOM_NAMES.list(new Random(18), 1000);
+        VersionTable table = new VersionTable();
+        for(SemanticVersionName semvername : semvernames)
+            table.add(semvername.getName(), semvername.getSemver().major(), semvername.getSemver().minor(),
+                    semvername.getSemver().patch(), semvername.getSemver().getPrerelease());
+        
+        VersionRange range = VersionRange.valueOf("^1.1.0 || 0.2.x");
+        List<Integer> expected = new ArrayList<>();
+        for(int row = 0; row < semvernames.size(); row++) {
+            if(semvernames.get(row).getName().equals("foo") && range.matches(semvernames.get(row)))
+                expected.add(row);
+        }
+        List<Integer> actual = new ArrayList<>();
+        for(int row : table.filter("foo", range))
+            actual.add(row);
+        assertEquals(expected, actual);
+        assertEquals(0, table.filter("nope", range).length);
+        
+        VersionTable.Grouping groups = table.groupByName();
+        int[] latest = table.latestPerName();
+        assertEquals(table.nameCount(), groups.groupCount());
+        for(int nameId = 0; nameId < groups.groupCount(); nameId++) {
+            SemanticVersionName max = null;
+            for(int i = groups.start(nameId); i < groups.end(nameId); i++) {
+                SemanticVersionName semvername = semvernames.get(groups.row(i));
+                assertEquals(table.nameOf(nameId), semvername.getName());
+                if(max == null || semvername.compareTo(max) > 0)
+                    max = semvername;
+            }
+            assertEquals(max, table.semvername(latest[nameId]));
+        }
+    }
+
+    /**
+     * Prereleases are held as the shared dictionary's Strings
+     */
+    @Test
+    public void sharedPrereleases() {
+        VersionTable table = new VersionTable();
+        int row = table.add("foo", 1, 2, 3, new String("rc1"));
+        assertSame(PrereleaseDictionary.shared().intern("rc1"), table.prerelease(row));
+        assertSame(SemanticVersion.valueOf("1.2.3-rc1").getPrerelease(), table.semver(row).getPrerelease());
+    }
+
+    /**
+     * Invalid add, bad prerelease
+     */
+    @Test
+    public void invalidAddPrerelease() {
+        exception.expect(IllegalArgumentException.class);
+        new VersionTable().add("foo", 1, 2, 3, "rc.1");
+    }
+
+    /**
+     * Invalid row
+     */
+    @Test
+    public void invalidRow() {
+        VersionTable table = new VersionTable();
+        table.add(SemanticVersionName.valueOf("foo-1.2.3"));
+        exception.expect(IndexOutOfBoundsException.class);
+        table.semvername(1);
+    }
+}